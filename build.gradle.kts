@@ -7,6 +7,7 @@ plugins {
     id("com.github.johnrengelman.shadow") version "5.2.0"
     id("moe.nikky.persistentCounter") version "0.0.8-SNAPSHOT"
     id("checkstyle")
+    id("me.champeau.gradle.jmh") version "0.5.0"
 }
 
 val major: String by project
@@ -40,6 +41,54 @@ dependencies {
     testImplementation(group = "org.junit.jupiter", name = "junit-jupiter", version = "5.4.1")
 }
 
+// JDK 11+ overlay of the multi-release jar, replacing no-op classes with Java Flight Recorder integration.
+// It is only compiled when building with JDK 11 or above, jars built with older JDKs do not include it.
+val java11: SourceSet by sourceSets.creating {
+    java.srcDir("src/main/java11")
+    compileClasspath += sourceSets["main"].output + sourceSets["main"].compileClasspath
+}
+
+val java11Enabled = JavaVersion.current().isJava11Compatible
+
+tasks.named<JavaCompile>(java11.compileJavaTaskName) {
+    enabled = java11Enabled
+    options.compilerArgs.addAll(listOf("--release", "11"))
+}
+
+// Tests of the JDK 11+ overlay, which must see the overlay classes ahead of their Java 8 versions.
+val java11Test: SourceSet by sourceSets.creating {
+    java.srcDir("src/test/java11")
+    compileClasspath += java11.output + sourceSets["main"].output + sourceSets["test"].compileClasspath
+    runtimeClasspath += java11.output + sourceSets["main"].output + sourceSets["test"].runtimeClasspath
+}
+
+tasks.named<JavaCompile>(java11Test.compileJavaTaskName) {
+    enabled = java11Enabled
+    options.compilerArgs.addAll(listOf("--release", "11"))
+}
+
+val java11TestTask = tasks.register<Test>("java11Test") {
+    enabled = java11Enabled
+    testClassesDirs = java11Test.output.classesDirs
+    classpath = java11Test.runtimeClasspath
+}
+
+tasks.named("check") {
+    dependsOn(java11TestTask)
+}
+
+tasks.withType<Jar>().matching { it.name == "jar" || it.name == "shadowJar" }.configureEach {
+    if (java11Enabled) {
+        into("META-INF/versions/11") {
+            from(java11.output)
+        }
+
+        manifest {
+            attributes("Multi-Release" to "true")
+        }
+    }
+}
+
 checkstyle {
     configFile = rootProject.file("checkstyle.xml")
     toolVersion = "8.31"
@@ -49,6 +98,18 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+// Benchmarks live in src/jmh, run them with `./gradlew jmh` (optionally `-PjmhInclude=<regex>` to select benchmarks).
+// Each run writes its results to a separate JSON file, so that runs can be compared.
+jmh {
+    jmhVersion = "1.23"
+    resultFormat = "JSON"
+    resultsFile = project.file("$buildDir/reports/jmh/results-${System.currentTimeMillis()}.json")
+    (project.findProperty("jmhInclude") as String?)?.let { include = listOf(it) }
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+}
+
 val shadowJar by tasks.getting(ShadowJar::class) {
     archiveClassifier.set("")
     configurations = listOf(
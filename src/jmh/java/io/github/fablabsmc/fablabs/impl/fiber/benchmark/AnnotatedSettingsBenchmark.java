@@ -0,0 +1,64 @@
+package io.github.fablabsmc.fablabs.impl.fiber.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.AnnotatedSettings;
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.FiberException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Builds trees from annotated POJOs, and accesses the leaves backed by their fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AnnotatedSettingsBenchmark {
+	private AnnotatedSettings settings;
+	private BenchmarkSettings pojo;
+	private ConfigLeaf<BigDecimal> backedLeaf;
+	private BigDecimal[] values;
+	private int next;
+
+	@Setup
+	public void setup() throws FiberException {
+		this.settings = AnnotatedSettings.builder().build();
+		this.pojo = new BenchmarkSettings();
+		ConfigBranch tree = this.settings.makeTree(this.pojo);
+		this.backedLeaf = tree.lookupLeaf("renderDistance", ConfigTypes.INTEGER.getSerializedType());
+		this.values = new BigDecimal[] {BigDecimal.valueOf(8), BigDecimal.valueOf(16)};
+	}
+
+	@Benchmark
+	public ConfigBranch makeTree() throws FiberException {
+		return this.settings.makeTree(new BenchmarkSettings());
+	}
+
+	@Benchmark
+	public BigDecimal backedLeafGetValue() {
+		return this.backedLeaf.getValue();
+	}
+
+	/**
+	 * Reads a field changed by the application since the last read, which updates the backing leaf.
+	 */
+	@Benchmark
+	public BigDecimal backedLeafGetChangedValue() {
+		this.pojo.renderDistance = this.next++ & 63;
+		return this.backedLeaf.getValue();
+	}
+
+	@Benchmark
+	public boolean backedLeafSetValue() {
+		return this.backedLeaf.setValue(this.values[this.next++ & 1]);
+	}
+}
@@ -0,0 +1,47 @@
+package io.github.fablabsmc.fablabs.impl.fiber.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.Setting;
+
+/**
+ * A settings POJO representative of a mod's configuration, used by the annotation benchmarks.
+ */
+@SuppressWarnings({"unused", "FieldMayBeFinal"})
+public class BenchmarkSettings {
+	public @Setting.Constrain.Range(min = 0, max = 100) int renderDistance = 12;
+	public long seed = 42L;
+	public double scale = 1.5;
+	public boolean enabled = true;
+	@Setting(comment = "The name shown in the title")
+	public String title = "Fiber";
+	public Mode mode = Mode.FANCY;
+	public List<Integer> weights = new ArrayList<>(Arrays.asList(1, 2, 3, 4));
+	public int[] levels = {1, 2, 3, 4, 5, 6, 7, 8};
+
+	@Setting.Group
+	public Gui gui = new Gui();
+
+	@Setting.Group
+	public Audio audio = new Audio();
+
+	public enum Mode {
+		FAST, FANCY, FABULOUS
+	}
+
+	public static class Gui {
+		public @Setting.Constrain.Range(min = 0, max = 1, step = 0.1) float opacity = 1f;
+		public int scale = 2;
+		public boolean showHud = true;
+		public String theme = "dark";
+	}
+
+	public static class Audio {
+		public float master = 1f;
+		public float music = 0.5f;
+		public float effects = 0.8f;
+		public boolean subtitles = false;
+	}
+}
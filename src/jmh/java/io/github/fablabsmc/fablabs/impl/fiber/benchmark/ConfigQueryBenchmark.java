@@ -0,0 +1,50 @@
+package io.github.fablabsmc.fablabs.impl.fiber.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.FiberQueryException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Runs a query for the deepest integer leaf of synthetic trees.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConfigQueryBenchmark {
+	@Param({"100", "1000", "10000", "100000", "1000000"})
+	public int leaves;
+
+	private ConfigBranch tree;
+	private ConfigQuery<ConfigLeaf<BigDecimal>> query;
+
+	@Setup
+	public void setup() {
+		this.tree = SyntheticTrees.generate(this.leaves);
+		String[] path = SyntheticTrees.pathOf(SyntheticTrees.lastLeafOfType(SyntheticTrees.INT_LEAF, this.leaves), this.leaves);
+		this.query = ConfigQuery.leaf(SyntheticTrees.INT_TYPE.getSerializedType(), path[0], Arrays.copyOfRange(path, 1, path.length));
+	}
+
+	@Benchmark
+	public ConfigLeaf<BigDecimal> run() throws FiberQueryException {
+		return this.query.run(this.tree);
+	}
+
+	@Benchmark
+	public Optional<ConfigLeaf<BigDecimal>> search() {
+		return this.query.search(this.tree);
+	}
+}
@@ -0,0 +1,70 @@
+package io.github.fablabsmc.fablabs.impl.fiber.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.ListSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.MapSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckStatus;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Checks large collections against constrained list and map types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConstraintBenchmark {
+	@Param({"10000", "100000", "1000000"})
+	public int size;
+
+	private ListSerializableType<BigDecimal> listType;
+	private ListSerializableType<BigDecimal> uniqueListType;
+	private MapSerializableType<BigDecimal> mapType;
+	private List<BigDecimal> list;
+	private List<BigDecimal> uniqueList;
+	private Map<String, BigDecimal> map;
+
+	@Setup
+	public void setup() {
+		this.listType = ConfigTypes.makeList(SyntheticTrees.INT_TYPE).withMaxSize(this.size).getSerializedType();
+		this.uniqueListType = ConfigTypes.makeList(ConfigTypes.INTEGER).withUniqueElements().getSerializedType();
+		this.mapType = ConfigTypes.makeMap(ConfigTypes.STRING, SyntheticTrees.INT_TYPE).getSerializedType();
+		this.list = new ArrayList<>(this.size);
+		this.uniqueList = new ArrayList<>(this.size);
+		this.map = new LinkedHashMap<>();
+
+		for (int i = 0; i < this.size; i++) {
+			this.list.add(BigDecimal.valueOf(i % 1000));
+			this.uniqueList.add(BigDecimal.valueOf(i));
+			this.map.put("key" + i, BigDecimal.valueOf(i % 1000));
+		}
+	}
+
+	@Benchmark
+	public TypeCheckStatus checkList() {
+		return this.listType.check(this.list, null);
+	}
+
+	@Benchmark
+	public TypeCheckStatus checkUniqueList() {
+		return this.uniqueListType.check(this.uniqueList, null);
+	}
+
+	@Benchmark
+	public TypeCheckStatus checkMap() {
+		return this.mapType.check(this.map, null);
+	}
+}
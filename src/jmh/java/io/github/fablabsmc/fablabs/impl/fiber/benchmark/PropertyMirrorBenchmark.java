@@ -0,0 +1,54 @@
+package io.github.fablabsmc.fablabs.impl.fiber.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.Property;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.PropertyMirror;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Reads leaf values through {@link PropertyMirror}s, converting them to their runtime type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PropertyMirrorBenchmark {
+	private PropertyMirror<Integer> intMirror;
+	private PropertyMirror<String> stringMirror;
+	private PropertyMirror<List<Integer>> listMirror;
+
+	@Setup
+	public void setup() {
+		ConfigBranch tree = SyntheticTrees.generate(SyntheticTrees.FANOUT);
+		this.intMirror = PropertyMirror.create(SyntheticTrees.INT_TYPE);
+		this.intMirror.mirror((Property<?>) tree.lookup("leaf" + SyntheticTrees.INT_LEAF));
+		this.stringMirror = PropertyMirror.create(ConfigTypes.STRING);
+		this.stringMirror.mirror((Property<?>) tree.lookup("leaf" + SyntheticTrees.STRING_LEAF));
+		this.listMirror = PropertyMirror.create(SyntheticTrees.LIST_TYPE);
+		this.listMirror.mirror((Property<?>) tree.lookup("leaf" + SyntheticTrees.LIST_LEAF));
+	}
+
+	@Benchmark
+	public Integer getInt() {
+		return this.intMirror.getValue();
+	}
+
+	@Benchmark
+	public String getString() {
+		return this.stringMirror.getValue();
+	}
+
+	@Benchmark
+	public List<Integer> getList() {
+		return this.listMirror.getValue();
+	}
+}
@@ -0,0 +1,56 @@
+package io.github.fablabsmc.fablabs.impl.fiber.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.FiberSerialization;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.JanksonValueSerializer;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Serializes and deserializes synthetic trees with {@link JanksonValueSerializer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+	@Param({"100", "1000", "10000", "100000", "1000000"})
+	public int leaves;
+
+	private ConfigBranch tree;
+	private JanksonValueSerializer serializer;
+	private byte[] serialized;
+
+	@Setup
+	public void setup() throws IOException {
+		this.tree = SyntheticTrees.generate(this.leaves);
+		this.serializer = new JanksonValueSerializer(false);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		FiberSerialization.serialize(this.tree, out, this.serializer);
+		this.serialized = out.toByteArray();
+	}
+
+	@Benchmark
+	public ByteArrayOutputStream serialize() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(this.serialized.length);
+		FiberSerialization.serialize(this.tree, out, this.serializer);
+		return out;
+	}
+
+	@Benchmark
+	public ConfigBranch deserialize() throws IOException, ValueDeserializationException {
+		FiberSerialization.deserialize(this.tree, new ByteArrayInputStream(this.serialized), this.serializer);
+		return this.tree;
+	}
+}
@@ -0,0 +1,65 @@
+package io.github.fablabsmc.fablabs.impl.fiber.benchmark;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.sync.ConfigSyncClient;
+import io.github.fablabsmc.fablabs.api.fiber.v1.sync.ConfigSyncServer;
+import io.github.fablabsmc.fablabs.api.fiber.v1.sync.LoopbackTransport;
+import io.github.fablabsmc.fablabs.api.fiber.v1.sync.SyncStatus;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Synchronizes synthetic trees over a loopback transport, either with a full snapshot,
+ * or with a delta carrying a single changed integer leaf.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SyncBenchmark {
+	@Param({"100", "1000", "10000"})
+	public int leaves;
+
+	private ConfigSyncServer server;
+	private ConfigSyncClient client;
+	private LoopbackTransport transport;
+	private ConfigLeaf<BigDecimal> leaf;
+	private int value;
+
+	@Setup
+	public void setup() throws Exception {
+		ConfigBranch tree = SyntheticTrees.generate(this.leaves);
+		String[] path = SyntheticTrees.pathOf(SyntheticTrees.lastLeafOfType(SyntheticTrees.INT_LEAF, this.leaves), this.leaves);
+		this.leaf = ConfigQuery.leaf(SyntheticTrees.INT_TYPE.getSerializedType(), path[0], Arrays.copyOfRange(path, 1, path.length)).run(tree);
+		this.server = new ConfigSyncServer(tree);
+		this.client = new ConfigSyncClient(SyntheticTrees.generate(this.leaves));
+		this.transport = new LoopbackTransport();
+		this.client.accept(this.server.snapshot());
+	}
+
+	@Benchmark
+	public SyncStatus snapshot() throws IOException {
+		this.transport.send(this.server.snapshot());
+		return this.client.accept(this.transport.poll());
+	}
+
+	@Benchmark
+	public SyncStatus delta() throws IOException {
+		this.value = (this.value + 1) % 1000;
+		this.leaf.setValue(BigDecimal.valueOf(this.value));
+		this.transport.send(this.server.delta());
+		return this.client.accept(this.transport.poll());
+	}
+}
@@ -0,0 +1,132 @@
+package io.github.fablabsmc.fablabs.impl.fiber.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.builder.ConfigTreeBuilder;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ListConfigType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.NumberConfigType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+
+/**
+ * Generates config trees of arbitrary sizes for benchmarks.
+ *
+ * <p>Generated trees are balanced, with at most {@value #FANOUT} children per branch. Leaves are named
+ * {@code leaf<index>} and branches {@code branch<index>}, and leaf types cycle through
+ * {@linkplain #INT_LEAF integers}, strings, booleans and lists of integers, based on the leaf index.
+ */
+public final class SyntheticTrees {
+	public static final int FANOUT = 10;
+	public static final int INT_LEAF = 0;
+	public static final int STRING_LEAF = 1;
+	public static final int BOOLEAN_LEAF = 2;
+	public static final int LIST_LEAF = 3;
+	private static final int LEAF_TYPES = 4;
+
+	public static final NumberConfigType<Integer> INT_TYPE = ConfigTypes.INTEGER.withValidRange(0, 1000, 1);
+	public static final ListConfigType<List<Integer>, BigDecimal> LIST_TYPE = ConfigTypes.makeList(INT_TYPE).withMaxSize(16);
+
+	private SyntheticTrees() {
+	}
+
+	/**
+	 * Generates a tree with the given amount of leaves.
+	 *
+	 * @param leafCount the amount of leaves in the tree
+	 * @return the root of the generated tree
+	 */
+	public static ConfigBranch generate(int leafCount) {
+		ConfigTreeBuilder root = ConfigTree.builder();
+		fill(root, 0, leafCount);
+		return root.build();
+	}
+
+	/**
+	 * Returns the type of the leaf at the given index, as one of the {@code *_LEAF} constants.
+	 */
+	public static int leafType(int index) {
+		return index % LEAF_TYPES;
+	}
+
+	/**
+	 * Returns the index of the last leaf of the given type in a tree with {@code leafCount} leaves.
+	 */
+	public static int lastLeafOfType(int type, int leafCount) {
+		int index = (leafCount - 1) / LEAF_TYPES * LEAF_TYPES + type;
+		return index < leafCount ? index : index - LEAF_TYPES;
+	}
+
+	/**
+	 * Returns the path from the root to the leaf at the given index, in a tree with {@code leafCount} leaves.
+	 */
+	public static String[] pathOf(int index, int leafCount) {
+		List<String> path = new ArrayList<>();
+		int first = 0;
+		int count = leafCount;
+
+		while (count > FANOUT) {
+			int span = span(count);
+			int child = (index - first) / span;
+			path.add("branch" + child);
+			first += child * span;
+			count = Math.min(span, count - child * span);
+		}
+
+		path.add("leaf" + index);
+		return path.toArray(new String[0]);
+	}
+
+	private static void fill(ConfigTreeBuilder builder, int first, int count) {
+		if (count <= FANOUT) {
+			for (int i = first; i < first + count; i++) {
+				addLeaf(builder, i);
+			}
+
+			return;
+		}
+
+		int span = span(count);
+
+		for (int child = 0; child * span < count; child++) {
+			ConfigTreeBuilder sub = builder.fork("branch" + child);
+			fill(sub, first + child * span, Math.min(span, count - child * span));
+			sub.build();
+		}
+	}
+
+	/**
+	 * Returns the amount of leaves under each child of a branch holding {@code count} leaves.
+	 */
+	private static int span(int count) {
+		int span = 1;
+
+		while (span * FANOUT < count) {
+			span *= FANOUT;
+		}
+
+		return span;
+	}
+
+	private static void addLeaf(ConfigTreeBuilder builder, int index) {
+		String name = "leaf" + index;
+
+		switch (leafType(index)) {
+		case INT_LEAF:
+			builder.withValue(name, INT_TYPE, index % 1000);
+			break;
+		case STRING_LEAF:
+			builder.withValue(name, ConfigTypes.STRING, "value" + index);
+			break;
+		case BOOLEAN_LEAF:
+			builder.withValue(name, ConfigTypes.BOOLEAN, index % 2 == 0);
+			break;
+		default:
+			builder.withValue(name, LIST_TYPE, Arrays.asList(index % 1000, 1, 2, 3));
+			break;
+		}
+	}
+}
@@ -1,13 +1,21 @@
 package io.github.fablabsmc.fablabs.api.fiber.v1;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.DuplicateChildException;
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.RuntimeFiberException;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.MergePolicy;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.NodeChange;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.Property;
+import io.github.fablabsmc.fablabs.impl.fiber.tree.ContentHash;
+import io.github.fablabsmc.fablabs.impl.fiber.tree.TreeDiff;
+import io.github.fablabsmc.fablabs.impl.fiber.tree.TreeMerge;
 
 /**
  * Static utility class for operations on {@link ConfigNode} objects.
@@ -26,6 +34,7 @@ public class NodeOperations {
 	 *
 	 * @param from The {@code ConfigNode} that will be read from, but not mutated.
 	 * @param to   The mutated {@link ConfigBranch} that will inherit <code>from</code>'s values and nodes.
+	 * @see #deepMerge(ConfigTree, ConfigTree, MergePolicy)
 	 */
 	public static void moveChildren(ConfigTree from, ConfigTree to) {
 		try {
@@ -39,6 +48,31 @@ public class NodeOperations {
 		}
 	}
 
+	/**
+	 * Merges a {@code ConfigTree} into another, recursively.
+	 *
+	 * <p>Children of {@code from} which do not exist in {@code to} are moved to {@code to}. Branches
+	 * existing in both trees are merged recursively, so that nested nodes of {@code to} are preserved.
+	 * Other conflicting nodes are resolved according to {@code policy}. Nodes which are moved to
+	 * {@code to} are removed from {@code from}, nodes which are discarded are left in {@code from}.
+	 *
+	 * <p>When branches are merged, the branch of {@code to} is kept along with its comment. Unless
+	 * {@code policy} is {@link MergePolicy#KEEP}, it receives a copy of the attributes of the branch of {@code from}.
+	 *
+	 * <p>Leaf listeners are only notified once the structure of {@code to} has been fully merged.
+	 *
+	 * @param from   the tree providing new nodes
+	 * @param to     the mutated tree receiving the nodes
+	 * @param policy the policy resolving conflicting nodes
+	 */
+	public static void deepMerge(ConfigTree from, ConfigTree to, MergePolicy policy) {
+		try {
+			TreeMerge.merge(from, to, policy);
+		} catch (DuplicateChildException e) {
+			throw new RuntimeFiberException("Failed to merge nodes", e);
+		}
+	}
+
 	/**
 	 * Moves a node ({@code ConfigNode}) to a new parent {@code ConfigTree}.
 	 *
@@ -60,4 +94,77 @@ public class NodeOperations {
 	public static <T> void copyValue(Property<T> from, Property<T> to) {
 		to.setValue(from.getValue());
 	}
+
+	/**
+	 * Returns a 64 bits hash of the content of a node.
+	 *
+	 * <p>The content hash of a leaf combines its type and its value. The content hash of a branch combines
+	 * the names and content hashes of its children, regardless of their order. Names, comments and attributes
+	 * of the node itself are not taken into account, so that the roots of two trees holding the same settings
+	 * have the same content hash. Nodes with equal contents always have equal content hashes, and equal content
+	 * hashes denote equal contents with very high probability but without any guarantee, so that
+	 * {@linkplain #diff(ConfigTree, ConfigTree, Consumer) comparing two trees} only descends into the subtrees
+	 * which hashes differ, unless an {@linkplain #diff(ConfigTree, ConfigTree, boolean, Consumer) exact}
+	 * comparison is requested.
+	 *
+	 * <p>Branches and leaves built by Fiber maintain their content hash as their descendants change,
+	 * so that this method runs in constant time. The content hash of any other node is computed on demand.
+	 *
+	 * @param node a leaf or a branch
+	 * @return the content hash of the node
+	 */
+	public static long contentHash(ConfigNode node) {
+		return ContentHash.of(node);
+	}
+
+	/**
+	 * Computes the differences between two trees.
+	 *
+	 * @param from the old tree
+	 * @param to   the new tree
+	 * @return the list of changes turning {@code from} into {@code to}
+	 * @see #diff(ConfigTree, ConfigTree, Consumer)
+	 */
+	public static List<NodeChange> diff(ConfigTree from, ConfigTree to) {
+		List<NodeChange> changes = new ArrayList<>();
+		diff(from, to, changes::add);
+		return changes;
+	}
+
+	/**
+	 * Computes the differences between two trees, passing each of them to {@code changes} as it is found.
+	 *
+	 * <p>Children are matched by name, regardless of their order. A node present in only one of the trees
+	 * is reported as {@linkplain NodeChange.Kind#ADDED added} or {@linkplain NodeChange.Kind#REMOVED removed},
+	 * without reporting its descendants. Leaves present in both trees are reported if their
+	 * {@linkplain NodeChange.Kind#TYPE_CHANGED types} or {@linkplain NodeChange.Kind#VALUE_CHANGED values} differ.
+	 *
+	 * <p>Subtrees with equal {@linkplain #contentHash(ConfigNode) content hashes} are skipped without being
+	 * visited. The result is therefore probabilistic: a change hidden by a collision of the 64 bits hashes,
+	 * while very unlikely, goes unreported. Use {@link #diff(ConfigTree, ConfigTree, boolean, Consumer)}
+	 * for an exact comparison.
+	 *
+	 * @param from    the old tree
+	 * @param to      the new tree
+	 * @param changes the consumer receiving the changes
+	 */
+	public static void diff(ConfigTree from, ConfigTree to, Consumer<? super NodeChange> changes) {
+		diff(from, to, false, changes);
+	}
+
+	/**
+	 * Computes the differences between two trees, passing each of them to {@code changes} as it is found.
+	 *
+	 * <p>Changes are reported as by {@link #diff(ConfigTree, ConfigTree, Consumer)}. An exact comparison
+	 * only skips identical subtrees, and always compares the values of the leaves present in both trees,
+	 * as equal content hashes do not prove that contents are equal.
+	 *
+	 * @param from    the old tree
+	 * @param to      the new tree
+	 * @param exact   {@code true} to compare every leaf, {@code false} to skip subtrees with equal content hashes
+	 * @param changes the consumer receiving the changes
+	 */
+	public static void diff(ConfigTree from, ConfigTree to, boolean exact, Consumer<? super NodeChange> changes) {
+		TreeDiff.diff(from, to, exact, changes);
+	}
 }
@@ -3,6 +3,7 @@ package io.github.fablabsmc.fablabs.api.fiber.v1.annotation;
 import java.lang.annotation.Annotation;
 import java.util.function.Consumer;
 
+import io.github.fablabsmc.fablabs.api.fiber.v1.NodeOperations;
 import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.collect.MemberCollector;
 import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.processor.BranchAnnotationProcessor;
 import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.processor.ConstraintAnnotationProcessor;
@@ -12,6 +13,7 @@ import io.github.fablabsmc.fablabs.api.fiber.v1.exception.FiberException;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.MergePolicy;
 import io.github.fablabsmc.fablabs.impl.fiber.annotation.AnnotatedSettingsBuilderImpl;
 
 /**
@@ -48,6 +50,10 @@ public interface AnnotatedSettings {
 	/**
 	 * Applies the schema defined by {@code pojo} to the given {@link ConfigTree}.
 	 *
+	 * <p>The resulting nodes are {@linkplain NodeOperations#deepMerge(ConfigTree, ConfigTree, MergePolicy) merged}
+	 * into {@code mergeTo} with {@link MergePolicy#OVERWRITE}: groups which already exist in {@code mergeTo}
+	 * keep their nested nodes and their comment, and receive the attributes of the group defined by {@code pojo}.
+	 *
 	 * @param mergeTo The config tree.
 	 * @param pojo    The config schema.
 	 * @param <P>     The type of the pojo.
@@ -55,6 +61,20 @@ public interface AnnotatedSettings {
 	 */
 	<P> void applyToNode(ConfigTree mergeTo, P pojo) throws FiberException;
 
+	/**
+	 * Creates a config tree based on the given immutable settings object.
+	 *
+	 * <p>Unlike {@link #makeTree(Object)}, the settings object is never mutated: changes to the tree
+	 * create new settings objects, published through the returned {@link SettingsHolder}.
+	 *
+	 * @param settings The initial settings, which also define the config schema.
+	 * @param <T>      The type of the settings object.
+	 * @return A holder for the current settings and the config tree.
+	 * @throws FiberException If the settings class cannot be parsed, or lacks a suitable constructor.
+	 * @see SettingsHolder
+	 */
+	<T> SettingsHolder<T> makeImmutableTree(T settings) throws FiberException;
+
 	interface Builder {
 		AnnotatedSettings.Builder apply(Consumer<AnnotatedSettings.Builder> configuration);
 
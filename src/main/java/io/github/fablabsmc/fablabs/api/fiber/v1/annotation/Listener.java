@@ -7,6 +7,14 @@ import java.lang.annotation.Target;
 
 /**
  * Indicates that this field or method is a listener listening to changes of another field's value.
+ *
+ * <p>Listener fields must be {@code BiConsumer}s of the setting's type. Listener methods must return {@code void}
+ * and take either the new value, or the old and the new values, as parameters of the setting's type or of the
+ * corresponding primitive type.
+ *
+ * <p>Primitive parameters only change the declared type of the listener: values are still delivered boxed,
+ * and unboxed right before the method is invoked. When there is no old value, such as when a setting is
+ * first created, a primitive old value parameter receives zero, or {@code false} for {@code boolean}.
  */
 @Target({ElementType.FIELD, ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
@@ -70,6 +70,17 @@ public @interface Setting {
 		 * @return An empty string ({@code ""}) if no custom name was set, or the custom name if one was set.
 		 */
 		String name() default "";
+
+		/**
+		 * Marks this group as lazy.
+		 *
+		 * <p>The settings of a lazy group are only created when the group's children are first looked up,
+		 * iterated or serialized, which speeds up building trees with large groups that are rarely used.
+		 * The group object itself is still read when the tree is built.
+		 *
+		 * @return Whether or not this group's settings are created lazily
+		 */
+		boolean lazy() default false;
 	}
 
 	@Target({})
@@ -0,0 +1,66 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.annotation;
+
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+
+/**
+ * Holds the current snapshot of an immutable settings object, along with the config tree it defines.
+ *
+ * <p>Immutable settings classes declare their settings as {@code final} fields, and a constructor taking
+ * the value of every setting in declaration order, like the canonical constructor of a record.
+ * Groups are themselves immutable settings objects. Whenever the value of a leaf in the tree changes,
+ * a new settings object is created from the values of all leaves, and atomically replaces the current one.
+ * If the settings object cannot be created, eg. because its constructor throws, the changes are rolled back
+ * so that the tree keeps matching the current snapshot, and the exception is rethrown to the writer.
+ *
+ * <p>Readers can therefore call {@link #get()} from any thread, and always observe a consistent
+ * snapshot which fields are safely published.
+ *
+ * @param <T> the type of the settings object
+ * @see AnnotatedSettings#makeImmutableTree(Object)
+ */
+public interface SettingsHolder<T> extends Supplier<T> {
+	/**
+	 * Returns the current snapshot of the settings.
+	 *
+	 * @return the latest settings object published by this holder
+	 */
+	@Override
+	T get();
+
+	/**
+	 * Returns the config tree defined by the settings object.
+	 *
+	 * <p>Changing the values of the tree's leaves publishes new snapshots. Outside of a {@linkplain #transaction(Runnable)
+	 * transaction}, one snapshot is published for every changed leaf, so reloading the whole tree, eg. with
+	 * {@link io.github.fablabsmc.fablabs.api.fiber.v1.serialization.FiberSerialization#deserialize}, should be
+	 * wrapped in a transaction.
+	 *
+	 * @return the config tree
+	 */
+	ConfigBranch getTree();
+
+	/**
+	 * Runs a set of changes to the tree, publishing at most one new snapshot once they are all applied.
+	 *
+	 * <p>This should be used when changing several leaves at once, eg. when deserializing the tree,
+	 * so that readers never observe a partial update. Transactions may be nested, in which case
+	 * the snapshot is published when the outermost transaction ends.
+	 *
+	 * @param changes an action changing the values of leaves in the tree
+	 * @return the settings object current after the changes
+	 */
+	T transaction(Runnable changes);
+
+	/**
+	 * Adds a listener called every time a new snapshot is published, with the previous and the new snapshots.
+	 *
+	 * <p>Listeners are called by the writing thread, after the holder's lock is released. Listeners may therefore
+	 * change the tree themselves, but are not guaranteed to be called in publication order when several threads write.
+	 *
+	 * @param listener the listener to add
+	 */
+	void addListener(BiConsumer<? super T, ? super T> listener);
+}
@@ -6,8 +6,11 @@ import java.lang.reflect.AnnotatedElement;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.AnnotatedSettings;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.BooleanConfigType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.DoubleArrayConfigType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.EnumConfigType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.IntArrayConfigType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ListConfigType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.LongArrayConfigType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.MapConfigType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.NumberConfigType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.RecordConfigType;
@@ -78,4 +81,16 @@ public interface ConstraintAnnotationProcessor<A extends Annotation> {
 	default <R, V> MapConfigType<R, V> processMap(MapConfigType<R, V> baseType, A annotation, AnnotatedElement annotated) {
 		throw new UnsupportedOperationException("Invalid annotation " + annotation.annotationType() + " for type " + baseType);
 	}
+
+	default <T> IntArrayConfigType<T> processIntArray(IntArrayConfigType<T> baseType, A annotation, AnnotatedElement annotated) {
+		throw new UnsupportedOperationException("Invalid annotation " + annotation.annotationType() + " for type " + baseType);
+	}
+
+	default <T> LongArrayConfigType<T> processLongArray(LongArrayConfigType<T> baseType, A annotation, AnnotatedElement annotated) {
+		throw new UnsupportedOperationException("Invalid annotation " + annotation.annotationType() + " for type " + baseType);
+	}
+
+	default <T> DoubleArrayConfigType<T> processDoubleArray(DoubleArrayConfigType<T> baseType, A annotation, AnnotatedElement annotated) {
+		throw new UnsupportedOperationException("Invalid annotation " + annotation.annotationType() + " for type " + baseType);
+	}
 }
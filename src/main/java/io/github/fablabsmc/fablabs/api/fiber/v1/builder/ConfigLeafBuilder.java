@@ -37,7 +37,7 @@ public class ConfigLeafBuilder<T, R> extends ConfigNodeBuilder {
 	 * @return A new builder.
 	 */
 	public static <T, R> ConfigLeafBuilder<T, R> create(ConfigTreeBuilder parentNode, @Nonnull String name, @Nonnull ConfigType<R, T, ?> type, @Nonnull R defaultValue) {
-		return new ConfigLeafBuilder<>(parentNode, name, type.getSerializedType(), type.toSerializedType(defaultValue), type::toRuntimeType, type::toSerializedType);
+		return new ConfigLeafBuilder<>(parentNode, name, type.getSerializedType(), type.toSerializedType(defaultValue), type::toRuntimeTypeUnchecked, type::toSerializedType);
 	}
 
 	/**
@@ -2,6 +2,7 @@ package io.github.fablabsmc.fablabs.api.fiber.v1.builder;
 
 import java.util.Collection;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -29,6 +30,7 @@ import io.github.fablabsmc.fablabs.impl.fiber.builder.ConfigNodeBuilder;
 import io.github.fablabsmc.fablabs.impl.fiber.tree.ConfigBranchImpl;
 import io.github.fablabsmc.fablabs.impl.fiber.tree.ConfigLeafImpl;
 import io.github.fablabsmc.fablabs.impl.fiber.tree.IndexedNodeCollection;
+import io.github.fablabsmc.fablabs.impl.fiber.tree.LazyConfigBranchImpl;
 
 /**
  * A builder for configuration trees/branches.
@@ -446,8 +448,29 @@ public class ConfigTreeBuilder extends ConfigNodeBuilder implements ConfigTree {
 	 */
 	@Override
 	public ConfigBranch build() throws RuntimeFiberException {
+		return this.register(() -> new ConfigBranchImpl(this.name, this.comment, this.items, this.serializeSeparately));
+	}
+
+	/**
+	 * Construct a new {@code ConfigBranch} based on this builder's specifications, which remaining
+	 * children are only created when the branch's items are first accessed.
+	 *
+	 * <p>The branch initially contains the children added to this builder. The first time the
+	 * branch's items are looked up, iterated or serialized, {@code initializer} is called with
+	 * the built branch, and should add the remaining children to it.
+	 *
+	 * @param initializer an action adding children to the built branch, called at most once
+	 * @return a new {@code ConfigNode}
+	 * @throws RuntimeFiberException if building the node results in an invalid tree
+	 * @see #build()
+	 */
+	public ConfigBranch buildLazily(Consumer<? super ConfigBranch> initializer) throws RuntimeFiberException {
+		return this.register(() -> new LazyConfigBranchImpl(this.name, this.comment, this.items, this.serializeSeparately, initializer));
+	}
+
+	private ConfigBranch register(Supplier<ConfigBranch> factory) throws RuntimeFiberException {
 		try {
-			ConfigBranch built = new ConfigBranchImpl(this.name, this.comment, this.items, this.serializeSeparately);
+			ConfigBranch built = factory.get();
 			built.getAttributes().putAll(this.attributes);
 
 			if (this.parent != null) {
@@ -0,0 +1,131 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.metrics;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
+import io.github.fablabsmc.fablabs.impl.fiber.metrics.FiberMetricsHolder;
+
+/**
+ * A sink for metrics about config operations, such as value changes, listener calls and serialization.
+ *
+ * <p>Fiber reports metrics to the {@linkplain #get() current} implementation, which is the no-op
+ * implementation unless another one is {@linkplain #install(FiberMetrics) installed}, or registered
+ * as a {@link java.util.ServiceLoader} provider of this interface. When the current implementation is
+ * not {@linkplain #isEnabled() enabled}, Fiber skips measuring entirely, so that metrics have no cost
+ * beyond a field read.
+ *
+ * <p>Each metric is tagged with the config node it relates to, if any. Implementations typically
+ * use the node's {@linkplain #pathOf(ConfigNode) path} to aggregate metrics.
+ *
+ * @see InMemoryFiberMetrics
+ */
+public interface FiberMetrics {
+	/**
+	 * Counts values set on a leaf which passed its type's constraints.
+	 */
+	String LEAF_SET_PASSED = "fiber.leaf.set.passed";
+	/**
+	 * Counts values set on a leaf which were corrected to satisfy its type's constraints.
+	 */
+	String LEAF_SET_CORRECTED = "fiber.leaf.set.corrected";
+	/**
+	 * Counts values rejected by a leaf's type constraints.
+	 */
+	String LEAF_SET_REJECTED = "fiber.leaf.set.rejected";
+	/**
+	 * Times the listeners notified of a leaf's value change.
+	 */
+	String LEAF_LISTENERS = "fiber.leaf.listeners";
+	/**
+	 * Times the constraint checks of values set on a leaf. The checks of the elements of
+	 * aggregate values are part of the check of the whole value, and are not timed separately.
+	 */
+	String CONSTRAINT_CHECK = "fiber.constraint.check";
+	/**
+	 * Times the serialization of a tree.
+	 */
+	String SERIALIZE = "fiber.serialize";
+	/**
+	 * Records the amount of bytes written when serializing a tree.
+	 */
+	String SERIALIZE_BYTES = "fiber.serialize.bytes";
+	/**
+	 * Times the deserialization of a tree.
+	 */
+	String DESERIALIZE = "fiber.deserialize";
+	/**
+	 * Records the amount of bytes read when deserializing a tree.
+	 */
+	String DESERIALIZE_BYTES = "fiber.deserialize.bytes";
+	/**
+	 * Times the creation of settings from an annotated POJO.
+	 */
+	String APPLY_POJO = "fiber.annotation.apply";
+
+	/**
+	 * Returns the implementation metrics are currently reported to.
+	 */
+	static FiberMetrics get() {
+		return FiberMetricsHolder.current;
+	}
+
+	/**
+	 * Replaces the implementation metrics are reported to.
+	 *
+	 * @param metrics the new implementation, or {@link #noop()} to disable metrics
+	 */
+	static void install(FiberMetrics metrics) {
+		FiberMetricsHolder.current = Objects.requireNonNull(metrics);
+	}
+
+	/**
+	 * Returns an implementation that discards every metric, and is never {@linkplain #isEnabled() enabled}.
+	 */
+	static FiberMetrics noop() {
+		return FiberMetricsHolder.NOOP;
+	}
+
+	/**
+	 * Returns the path of a node from the root of its tree, as the names of its ancestors and its own name
+	 * separated by dots. The path of a {@code null} node is the empty string.
+	 *
+	 * @param node the node, or {@code null}
+	 * @return the path of the node
+	 */
+	static String pathOf(@Nullable ConfigNode node) {
+		return FiberMetricsHolder.pathOf(node);
+	}
+
+	/**
+	 * Returns whether this implementation records metrics. If {@code false}, Fiber does not report any metric.
+	 */
+	boolean isEnabled();
+
+	/**
+	 * Increments a counter.
+	 *
+	 * @param metric the name of the metric
+	 * @param node   the node the metric relates to, or {@code null}
+	 */
+	void count(String metric, @Nullable ConfigNode node);
+
+	/**
+	 * Records the duration of an operation.
+	 *
+	 * @param metric the name of the metric
+	 * @param node   the node the metric relates to, or {@code null}
+	 * @param nanos  the duration of the operation, in nanoseconds
+	 */
+	void recordTime(String metric, @Nullable ConfigNode node, long nanos);
+
+	/**
+	 * Records an amount of bytes read or written by an operation.
+	 *
+	 * @param metric the name of the metric
+	 * @param node   the node the metric relates to, or {@code null}
+	 * @param bytes  the amount of bytes
+	 */
+	void recordBytes(String metric, @Nullable ConfigNode node, long bytes);
+}
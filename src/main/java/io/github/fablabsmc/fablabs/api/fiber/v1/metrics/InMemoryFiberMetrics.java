@@ -0,0 +1,146 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.metrics;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
+
+/**
+ * A {@link FiberMetrics} implementation aggregating metrics in memory, by metric name and node path.
+ *
+ * <p>For every metric and path, this implementation keeps the amount of recordings, their total, and their
+ * maximum. Counters record a value of 1 every time they are incremented. Aggregated metrics can be scraped
+ * at any time with {@link #forEach(Visitor)}, concurrently with recordings.
+ *
+ * <pre>
+ * InMemoryFiberMetrics metrics = new InMemoryFiberMetrics();
+ * FiberMetrics.install(metrics);
+ * ...
+ * metrics.forEach((metric, path, count, total, max) -&gt; System.out.println(metric + "{path=" + path + "} " + total));
+ * </pre>
+ */
+public final class InMemoryFiberMetrics implements FiberMetrics {
+	private final Map<Key, Meter> meters = new ConcurrentHashMap<>();
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+
+	@Override
+	public void count(String metric, @Nullable ConfigNode node) {
+		this.meter(metric, node).record(1);
+	}
+
+	@Override
+	public void recordTime(String metric, @Nullable ConfigNode node, long nanos) {
+		this.meter(metric, node).record(nanos);
+	}
+
+	@Override
+	public void recordBytes(String metric, @Nullable ConfigNode node, long bytes) {
+		this.meter(metric, node).record(bytes);
+	}
+
+	private Meter meter(String metric, @Nullable ConfigNode node) {
+		return this.meters.computeIfAbsent(new Key(metric, FiberMetrics.pathOf(node)), k -> new Meter());
+	}
+
+	/**
+	 * Returns the amount of recordings of a metric for a path.
+	 *
+	 * @param metric the name of the metric
+	 * @param path   the path of the node, as returned by {@link FiberMetrics#pathOf(ConfigNode)}
+	 * @return the amount of times the metric was recorded for the path
+	 */
+	public long getCount(String metric, String path) {
+		Meter meter = this.meters.get(new Key(metric, path));
+		return meter == null ? 0 : meter.count.sum();
+	}
+
+	/**
+	 * Returns the sum of the recordings of a metric for a path, ie. a total duration in nanoseconds,
+	 * an amount of bytes, or the value of a counter.
+	 *
+	 * @param metric the name of the metric
+	 * @param path   the path of the node, as returned by {@link FiberMetrics#pathOf(ConfigNode)}
+	 * @return the total of the metric for the path
+	 */
+	public long getTotal(String metric, String path) {
+		Meter meter = this.meters.get(new Key(metric, path));
+		return meter == null ? 0 : meter.total.sum();
+	}
+
+	/**
+	 * Passes every aggregated metric to the given visitor.
+	 */
+	public void forEach(Visitor visitor) {
+		this.meters.forEach((key, meter) -> visitor.visit(key.metric, key.path, meter.count.sum(), meter.total.sum(), meter.max.get()));
+	}
+
+	/**
+	 * Discards every aggregated metric.
+	 */
+	public void reset() {
+		this.meters.clear();
+	}
+
+	/**
+	 * Receives aggregated metrics.
+	 *
+	 * @see #forEach(Visitor)
+	 */
+	@FunctionalInterface
+	public interface Visitor {
+		/**
+		 * Visits a metric aggregated for a node path.
+		 *
+		 * @param metric the name of the metric
+		 * @param path   the path of the node, or an empty string for metrics which are not tied to a node
+		 * @param count  the amount of recordings
+		 * @param total  the sum of the recordings
+		 * @param max    the largest recording
+		 */
+		void visit(String metric, String path, long count, long total, long max);
+	}
+
+	private static final class Key {
+		private final String metric;
+		private final String path;
+
+		Key(String metric, String path) {
+			this.metric = metric;
+			this.path = path;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || this.getClass() != o.getClass()) return false;
+			Key key = (Key) o;
+			return this.metric.equals(key.metric) && this.path.equals(key.path);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.metric, this.path);
+		}
+	}
+
+	private static final class Meter {
+		private final LongAdder count = new LongAdder();
+		private final LongAdder total = new LongAdder();
+		private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+		void record(long value) {
+			this.count.increment();
+			this.total.add(value);
+			this.max.accumulate(value);
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type;
+
+import javax.annotation.Nullable;
+
+/**
+ * A mutable holder receiving the corrected value of a type check.
+ *
+ * <p>A single holder can be reused across many checks, for example when checking
+ * every element of a collection, to avoid allocating a {@link TypeCheckResult} per check.
+ *
+ * @param <V> the type of the checked values
+ * @see SerializableType#check(Object, CorrectedValue)
+ */
+public final class CorrectedValue<V> {
+	@Nullable
+	private V value;
+
+	/**
+	 * Returns the value set by the last check that returned {@link TypeCheckStatus#CORRECTED}.
+	 */
+	@Nullable
+	public V get() {
+		return this.value;
+	}
+
+	/**
+	 * Sets the corrected value.
+	 */
+	public void set(@Nullable V value) {
+		this.value = value;
+	}
+}
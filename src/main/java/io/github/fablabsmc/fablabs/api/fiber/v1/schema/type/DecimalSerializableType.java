@@ -34,7 +34,7 @@ public final class DecimalSerializableType extends PlainSerializableType<BigDeci
 	private final BigDecimal increment;
 
 	public DecimalSerializableType(@Nullable BigDecimal min, @Nullable BigDecimal max, @Nullable BigDecimal increment) {
-		super(BigDecimal.class, DecimalConstraintChecker.instance());
+		super(BigDecimal.class, DecimalConstraintChecker.of(min, max, increment));
 
 		if (min != null && max != null) {
 			if (min.compareTo(max) > 0) {
@@ -92,6 +92,7 @@ public final class DecimalSerializableType extends PlainSerializableType<BigDeci
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
+		if (this.isDistinctCanonical(o)) return false;
 		if (o == null || this.getClass() != o.getClass()) return false;
 		DecimalSerializableType that = (DecimalSerializableType) o;
 		return Objects.equals(this.minimum, that.minimum)
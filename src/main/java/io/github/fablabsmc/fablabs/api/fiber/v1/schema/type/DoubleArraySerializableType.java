@@ -0,0 +1,116 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type;
+
+import java.util.StringJoiner;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.TypeSerializer;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.ValueSerializer;
+import io.github.fablabsmc.fablabs.impl.fiber.constraint.DoubleArrayConstraintChecker;
+
+/**
+ * The {@link SerializableType} for packed arrays of {@code double} values.
+ *
+ * <p>Unlike a {@link ListSerializableType} of {@link DecimalSerializableType} elements, values of this type
+ * are stored as a primitive array, and can be checked and serialized without boxing each element.
+ * {@code NaN} elements are never accepted.
+ */
+public final class DoubleArraySerializableType extends PlainSerializableType<double[]> {
+	/**
+	 * The type accepting every {@code double[]} with finite elements.
+	 */
+	public static final DoubleArraySerializableType UNBOUNDED = canonical(new DoubleArraySerializableType(-Double.MAX_VALUE, Double.MAX_VALUE, 0, Integer.MAX_VALUE));
+
+	private final double minValue;
+	private final double maxValue;
+	private final int minSize;
+	private final int maxSize;
+
+	public DoubleArraySerializableType(double minValue, double maxValue, int minSize, int maxSize) {
+		super(double[].class, DoubleArrayConstraintChecker.instance());
+
+		if (Double.isNaN(minValue) || Double.isNaN(maxValue)) {
+			throw new IllegalArgumentException("Bounds cannot be NaN");
+		}
+
+		if (minValue > maxValue) {
+			throw new IllegalArgumentException("Provided minimum " + minValue + " is greater than provided maximum " + maxValue);
+		}
+
+		if (minSize < 0 || minSize > maxSize) {
+			throw new IllegalArgumentException("Invalid size range [" + minSize + ", " + maxSize + "]");
+		}
+
+		this.minValue = minValue;
+		this.maxValue = maxValue;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Specifies a lower bound for the array's elements.
+	 */
+	public double getMinValue() {
+		return this.minValue;
+	}
+
+	/**
+	 * Specifies an upper bound for the array's elements.
+	 */
+	public double getMaxValue() {
+		return this.maxValue;
+	}
+
+	public int getMinSize() {
+		return this.minSize;
+	}
+
+	public int getMaxSize() {
+		return this.maxSize;
+	}
+
+	@Override
+	public <S> void serialize(TypeSerializer<S> serializer, S target) {
+		serializer.serialize(this, target);
+	}
+
+	@Override
+	public <S> S serializeValue(double[] value, ValueSerializer<S, ?> serializer) {
+		return serializer.serializeDoubleArray(value, this);
+	}
+
+	@Override
+	public <S> double[] deserializeValue(S elem, ValueSerializer<S, ?> serializer) throws ValueDeserializationException {
+		return serializer.deserializeDoubleArray(elem, this);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (this.isDistinctCanonical(o)) return false;
+		if (o == null || this.getClass() != o.getClass()) return false;
+		DoubleArraySerializableType that = (DoubleArraySerializableType) o;
+		return Double.compare(this.minValue, that.minValue) == 0
+				&& Double.compare(this.maxValue, that.maxValue) == 0
+				&& this.minSize == that.minSize
+				&& this.maxSize == that.maxSize;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = Double.hashCode(this.minValue);
+		result = 31 * result + Double.hashCode(this.maxValue);
+		result = 31 * result + this.minSize;
+		result = 31 * result + this.maxSize;
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return new StringJoiner(", ", DoubleArraySerializableType.class.getSimpleName() + "[", "]")
+				.add("minValue=" + minValue)
+				.add("maxValue=" + maxValue)
+				.add("minSize=" + minSize)
+				.add("maxSize=" + maxSize)
+				.toString();
+	}
+}
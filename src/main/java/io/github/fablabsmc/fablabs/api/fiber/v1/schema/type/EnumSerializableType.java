@@ -14,9 +14,17 @@ import io.github.fablabsmc.fablabs.impl.fiber.constraint.EnumConstraintChecker;
 
 /**
  * The {@link SerializableType} for fixed sets of {@link String} values.
+ *
+ * <p>Valid values are indexed by their position in the {@linkplain #getValidValues() set of valid values},
+ * which for types created from a Java enum is the ordinal of the corresponding constant.
  */
 public final class EnumSerializableType extends PlainSerializableType<String> {
 	private final Set<String> validValues;
+	private final String[] values;
+	/**
+	 * An open-addressing hash table mapping values to their ordinal, offset by one so that 0 marks empty slots.
+	 */
+	private final int[] ordinalTable;
 
 	public EnumSerializableType(String... validValues) {
 		this(new LinkedHashSet<>(Arrays.asList(validValues)));
@@ -26,12 +34,77 @@ public final class EnumSerializableType extends PlainSerializableType<String> {
 		super(String.class, EnumConstraintChecker.instance());
 		validValues.forEach(Objects::requireNonNull);
 		this.validValues = Collections.unmodifiableSet(new LinkedHashSet<>(validValues));
+		this.values = this.validValues.toArray(new String[0]);
+		int capacity = 1;
+
+		while (capacity < this.values.length * 2) {
+			capacity <<= 1;
+		}
+
+		this.ordinalTable = new int[capacity];
+
+		for (int ordinal = 0; ordinal < this.values.length; ordinal++) {
+			int slot = hash(this.values[ordinal]) & (capacity - 1);
+
+			while (this.ordinalTable[slot] != 0) {
+				slot = (slot + 1) & (capacity - 1);
+			}
+
+			this.ordinalTable[slot] = ordinal + 1;
+		}
 	}
 
 	public Set<String> getValidValues() {
 		return this.validValues;
 	}
 
+	/**
+	 * Returns the ordinal of a valid value, that is its position in the {@linkplain #getValidValues() set of valid values}.
+	 *
+	 * @param value the value to look up
+	 * @return the ordinal of {@code value}, or {@code -1} if it is not a valid value
+	 */
+	public int ordinalOf(String value) {
+		int mask = this.ordinalTable.length - 1;
+		int slot = hash(value) & mask;
+		int entry;
+
+		while ((entry = this.ordinalTable[slot]) != 0) {
+			String candidate = this.values[entry - 1];
+
+			if (candidate == value || candidate.equals(value)) {
+				return entry - 1;
+			}
+
+			slot = (slot + 1) & mask;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns the valid value with the given ordinal.
+	 *
+	 * @param ordinal the ordinal of the value
+	 * @return the valid value at position {@code ordinal} in the {@linkplain #getValidValues() set of valid values}
+	 * @throws IndexOutOfBoundsException if {@code ordinal} is negative or greater than or equal to the amount of valid values
+	 */
+	public String valueAt(int ordinal) {
+		return this.values[ordinal];
+	}
+
+	/**
+	 * Returns the amount of valid values of this type.
+	 */
+	public int size() {
+		return this.values.length;
+	}
+
+	private static int hash(String value) {
+		int h = value.hashCode();
+		return h ^ (h >>> 16);
+	}
+
 	@Override
 	public <S> void serialize(TypeSerializer<S> serializer, S target) {
 		serializer.serialize(this, target);
@@ -50,6 +123,7 @@ public final class EnumSerializableType extends PlainSerializableType<String> {
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
+		if (this.isDistinctCanonical(o)) return false;
 		if (o == null || this.getClass() != o.getClass()) return false;
 		EnumSerializableType that = (EnumSerializableType) o;
 		return Objects.equals(this.validValues, that.validValues);
@@ -0,0 +1,111 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type;
+
+import java.util.StringJoiner;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.TypeSerializer;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.ValueSerializer;
+import io.github.fablabsmc.fablabs.impl.fiber.constraint.IntArrayConstraintChecker;
+
+/**
+ * The {@link SerializableType} for packed arrays of {@code int} values.
+ *
+ * <p>Unlike a {@link ListSerializableType} of {@link DecimalSerializableType} elements, values of this type
+ * are stored as a primitive array, and can be checked and serialized without boxing each element.
+ */
+public final class IntArraySerializableType extends PlainSerializableType<int[]> {
+	/**
+	 * The type accepting every {@code int[]}.
+	 */
+	public static final IntArraySerializableType UNBOUNDED = canonical(new IntArraySerializableType(Integer.MIN_VALUE, Integer.MAX_VALUE, 0, Integer.MAX_VALUE));
+
+	private final int minValue;
+	private final int maxValue;
+	private final int minSize;
+	private final int maxSize;
+
+	public IntArraySerializableType(int minValue, int maxValue, int minSize, int maxSize) {
+		super(int[].class, IntArrayConstraintChecker.instance());
+
+		if (minValue > maxValue) {
+			throw new IllegalArgumentException("Provided minimum " + minValue + " is greater than provided maximum " + maxValue);
+		}
+
+		if (minSize < 0 || minSize > maxSize) {
+			throw new IllegalArgumentException("Invalid size range [" + minSize + ", " + maxSize + "]");
+		}
+
+		this.minValue = minValue;
+		this.maxValue = maxValue;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Specifies a lower bound for the array's elements.
+	 */
+	public int getMinValue() {
+		return this.minValue;
+	}
+
+	/**
+	 * Specifies an upper bound for the array's elements.
+	 */
+	public int getMaxValue() {
+		return this.maxValue;
+	}
+
+	public int getMinSize() {
+		return this.minSize;
+	}
+
+	public int getMaxSize() {
+		return this.maxSize;
+	}
+
+	@Override
+	public <S> void serialize(TypeSerializer<S> serializer, S target) {
+		serializer.serialize(this, target);
+	}
+
+	@Override
+	public <S> S serializeValue(int[] value, ValueSerializer<S, ?> serializer) {
+		return serializer.serializeIntArray(value, this);
+	}
+
+	@Override
+	public <S> int[] deserializeValue(S elem, ValueSerializer<S, ?> serializer) throws ValueDeserializationException {
+		return serializer.deserializeIntArray(elem, this);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (this.isDistinctCanonical(o)) return false;
+		if (o == null || this.getClass() != o.getClass()) return false;
+		IntArraySerializableType that = (IntArraySerializableType) o;
+		return this.minValue == that.minValue
+				&& this.maxValue == that.maxValue
+				&& this.minSize == that.minSize
+				&& this.maxSize == that.maxSize;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = Integer.hashCode(this.minValue);
+		result = 31 * result + Integer.hashCode(this.maxValue);
+		result = 31 * result + this.minSize;
+		result = 31 * result + this.maxSize;
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return new StringJoiner(", ", IntArraySerializableType.class.getSimpleName() + "[", "]")
+				.add("minValue=" + minValue)
+				.add("maxValue=" + maxValue)
+				.add("minSize=" + minSize)
+				.add("maxSize=" + maxSize)
+				.toString();
+	}
+}
@@ -29,7 +29,7 @@ public final class ListSerializableType<E> extends ParameterizedSerializableType
 
 	public ListSerializableType(SerializableType<E> elementType, int minSize, int maxSize, boolean unique) {
 		super(List.class, ListConstraintChecker.instance());
-		this.elementType = elementType;
+		this.elementType = canonical(elementType);
 		this.minSize = minSize;
 		this.maxSize = maxSize;
 		this.unique = unique;
@@ -51,6 +51,33 @@ public final class ListSerializableType<E> extends ParameterizedSerializableType
 		return this.unique;
 	}
 
+	/**
+	 * Tests an element about to be appended to a list that this type already accepts.
+	 *
+	 * <p>This is equivalent to testing the list with the element appended, but only checks
+	 * the new element, which makes it suitable for growing large lists incrementally.
+	 *
+	 * @param validList a list accepted by this type
+	 * @param element   the element to append
+	 * @return the result of the check for the element; if it did not pass, the corrected element
+	 * may be appended instead
+	 * @see #test(Object)
+	 */
+	public TypeCheckResult<E> testAppend(List<E> validList, E element) {
+		return ListConstraintChecker.<E>instance().testAppend(this, validList, element);
+	}
+
+	/**
+	 * Returns whether removing any one element from a list that this type already accepts
+	 * results in a list that is still accepted.
+	 *
+	 * @param validList a list accepted by this type
+	 * @return {@code true} if an element can be removed from {@code validList}
+	 */
+	public boolean acceptsRemoval(List<E> validList) {
+		return ListConstraintChecker.<E>instance().testRemoval(this, validList);
+	}
+
 	@Override
 	public ParameterizedType getParameterizedType() {
 		return new ParameterizedTypeImpl(this.getErasedPlatformType(), this.elementType.getGenericPlatformType());
@@ -92,6 +119,7 @@ public final class ListSerializableType<E> extends ParameterizedSerializableType
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
+		if (this.isDistinctCanonical(o)) return false;
 		if (o == null || this.getClass() != o.getClass()) return false;
 		ListSerializableType<?> that = (ListSerializableType<?>) o;
 		return this.unique == that.unique
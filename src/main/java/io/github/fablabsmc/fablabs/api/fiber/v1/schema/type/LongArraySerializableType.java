@@ -0,0 +1,111 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type;
+
+import java.util.StringJoiner;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.TypeSerializer;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.ValueSerializer;
+import io.github.fablabsmc.fablabs.impl.fiber.constraint.LongArrayConstraintChecker;
+
+/**
+ * The {@link SerializableType} for packed arrays of {@code long} values.
+ *
+ * <p>Unlike a {@link ListSerializableType} of {@link DecimalSerializableType} elements, values of this type
+ * are stored as a primitive array, and can be checked and serialized without boxing each element.
+ */
+public final class LongArraySerializableType extends PlainSerializableType<long[]> {
+	/**
+	 * The type accepting every {@code long[]}.
+	 */
+	public static final LongArraySerializableType UNBOUNDED = canonical(new LongArraySerializableType(Long.MIN_VALUE, Long.MAX_VALUE, 0, Integer.MAX_VALUE));
+
+	private final long minValue;
+	private final long maxValue;
+	private final int minSize;
+	private final int maxSize;
+
+	public LongArraySerializableType(long minValue, long maxValue, int minSize, int maxSize) {
+		super(long[].class, LongArrayConstraintChecker.instance());
+
+		if (minValue > maxValue) {
+			throw new IllegalArgumentException("Provided minimum " + minValue + " is greater than provided maximum " + maxValue);
+		}
+
+		if (minSize < 0 || minSize > maxSize) {
+			throw new IllegalArgumentException("Invalid size range [" + minSize + ", " + maxSize + "]");
+		}
+
+		this.minValue = minValue;
+		this.maxValue = maxValue;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Specifies a lower bound for the array's elements.
+	 */
+	public long getMinValue() {
+		return this.minValue;
+	}
+
+	/**
+	 * Specifies an upper bound for the array's elements.
+	 */
+	public long getMaxValue() {
+		return this.maxValue;
+	}
+
+	public int getMinSize() {
+		return this.minSize;
+	}
+
+	public int getMaxSize() {
+		return this.maxSize;
+	}
+
+	@Override
+	public <S> void serialize(TypeSerializer<S> serializer, S target) {
+		serializer.serialize(this, target);
+	}
+
+	@Override
+	public <S> S serializeValue(long[] value, ValueSerializer<S, ?> serializer) {
+		return serializer.serializeLongArray(value, this);
+	}
+
+	@Override
+	public <S> long[] deserializeValue(S elem, ValueSerializer<S, ?> serializer) throws ValueDeserializationException {
+		return serializer.deserializeLongArray(elem, this);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (this.isDistinctCanonical(o)) return false;
+		if (o == null || this.getClass() != o.getClass()) return false;
+		LongArraySerializableType that = (LongArraySerializableType) o;
+		return this.minValue == that.minValue
+				&& this.maxValue == that.maxValue
+				&& this.minSize == that.minSize
+				&& this.maxSize == that.maxSize;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = Long.hashCode(this.minValue);
+		result = 31 * result + Long.hashCode(this.maxValue);
+		result = 31 * result + this.minSize;
+		result = 31 * result + this.maxSize;
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return new StringJoiner(", ", LongArraySerializableType.class.getSimpleName() + "[", "]")
+				.add("minValue=" + minValue)
+				.add("maxValue=" + maxValue)
+				.add("minSize=" + minSize)
+				.add("maxSize=" + maxSize)
+				.toString();
+	}
+}
@@ -33,8 +33,8 @@ public final class MapSerializableType<V> extends ParameterizedSerializableType<
 
 	public MapSerializableType(StringSerializableType keyType, SerializableType<V> valueType, int minSize, int maxSize) {
 		super(Map.class, MapConstraintChecker.instance());
-		this.keyType = keyType;
-		this.valueType = valueType;
+		this.keyType = canonical(keyType);
+		this.valueType = canonical(valueType);
 		this.minSize = minSize;
 		this.maxSize = maxSize;
 	}
@@ -100,6 +100,7 @@ public final class MapSerializableType<V> extends ParameterizedSerializableType<
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
+		if (this.isDistinctCanonical(o)) return false;
 		if (o == null || this.getClass() != o.getClass()) return false;
 		MapSerializableType<?> that = (MapSerializableType<?>) o;
 		return this.minSize == that.minSize
@@ -1,6 +1,9 @@
 package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type;
 
 import java.lang.reflect.ParameterizedType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
@@ -15,20 +18,126 @@ import io.github.fablabsmc.fablabs.impl.fiber.constraint.RecordConstraintChecker
 
 /**
  * The {@link SerializableType} for fixed heterogeneous records.
+ *
+ * <p>Fields are indexed by their position in the {@linkplain #getFields() field map}. Records created
+ * through {@link #createRecord(Object...)} store their field values in that order, which lets them
+ * be checked and converted without any map lookup.
  */
 public final class RecordSerializableType extends ParameterizedSerializableType<Map<String, Object>> {
 	private final Map<String, SerializableType<?>> fields;
+	private final String[] fieldNames;
+	private final SerializableType<?>[] fieldTypes;
+	/**
+	 * An open-addressing hash table mapping field names to their index, offset by one so that 0 marks empty slots.
+	 */
+	private final int[] indexTable;
 
 	public RecordSerializableType(Map<String, SerializableType<?>> fields) {
 		super(Map.class, RecordConstraintChecker.instance());
-		fields.keySet().forEach(Objects::requireNonNull);
-		this.fields = fields;
+		Map<String, SerializableType<?>> canonicalFields = new LinkedHashMap<>();
+
+		for (Map.Entry<String, SerializableType<?>> field : fields.entrySet()) {
+			canonicalFields.put(Objects.requireNonNull(field.getKey()), canonical(field.getValue()));
+		}
+
+		this.fields = Collections.unmodifiableMap(canonicalFields);
+		this.fieldNames = this.fields.keySet().toArray(new String[0]);
+		this.fieldTypes = this.fields.values().toArray(new SerializableType<?>[0]);
+		int capacity = 1;
+
+		while (capacity < this.fieldNames.length * 2) {
+			capacity <<= 1;
+		}
+
+		this.indexTable = new int[capacity];
+
+		for (int index = 0; index < this.fieldNames.length; index++) {
+			int slot = hash(this.fieldNames[index]) & (capacity - 1);
+
+			while (this.indexTable[slot] != 0) {
+				slot = (slot + 1) & (capacity - 1);
+			}
+
+			this.indexTable[slot] = index + 1;
+		}
 	}
 
 	public Map<String, SerializableType<?>> getFields() {
 		return this.fields;
 	}
 
+	/**
+	 * Returns the amount of fields in this record type.
+	 */
+	public int getFieldCount() {
+		return this.fieldNames.length;
+	}
+
+	/**
+	 * Returns the index of a field, that is its position in the {@linkplain #getFields() field map}.
+	 *
+	 * @param name the name of the field
+	 * @return the index of the field, or {@code -1} if this record type has no field with that name
+	 */
+	public int indexOf(Object name) {
+		if (!(name instanceof String)) return -1;
+		int mask = this.indexTable.length - 1;
+		int slot = hash((String) name) & mask;
+		int entry;
+
+		while ((entry = this.indexTable[slot]) != 0) {
+			String candidate = this.fieldNames[entry - 1];
+
+			if (candidate == name || candidate.equals(name)) {
+				return entry - 1;
+			}
+
+			slot = (slot + 1) & mask;
+		}
+
+		return -1;
+	}
+
+	public String getFieldName(int index) {
+		return this.fieldNames[index];
+	}
+
+	public SerializableType<?> getFieldType(int index) {
+		return this.fieldTypes[index];
+	}
+
+	/**
+	 * Creates a record value of this type from field values given in index order.
+	 *
+	 * <p>The field values are not checked against this type's constraints.
+	 *
+	 * @param fieldValues the values of every field of the record, in index order
+	 * @return an immutable record value holding the given field values
+	 * @throws IllegalArgumentException if the amount of field values does not match the amount of fields
+	 */
+	public RecordValue createRecord(Object... fieldValues) {
+		if (fieldValues.length != this.fieldNames.length) {
+			throw new IllegalArgumentException("Expected " + this.fieldNames.length + " field values, got " + fieldValues.length);
+		}
+
+		return new RecordValue(this, fieldValues.clone());
+	}
+
+	/**
+	 * Returns {@code true} if {@code value} is a record value that has the same fields as this type, in the same order.
+	 *
+	 * @param value the value to check
+	 * @return {@code true} if {@code value}'s fields can be accessed using this type's field indices
+	 */
+	public boolean hasLayoutOf(Map<?, ?> value) {
+		return value instanceof RecordValue && (((RecordValue) value).getType() == this || Arrays.equals(((RecordValue) value).getType().fieldNames, this.fieldNames));
+	}
+
+	private static int hash(String name) {
+		int h = name.hashCode();
+		return h ^ (h >>> 16);
+	}
+
 	@Override
 	public ParameterizedType getParameterizedType() {
 		return new ParameterizedTypeImpl(this.getErasedPlatformType(), String.class, Object.class);
@@ -39,24 +148,38 @@ public final class RecordSerializableType extends ParameterizedSerializableType<
 	public Map<String, Object> cast(@Nonnull Object value) {
 		Map<?, ?> map = (Map<?, ?>) value;
 
+		if (this.hasLayoutOf(map)) {
+			RecordValue record = (RecordValue) map;
+
+			for (int i = 0; i < this.fieldTypes.length; i++) {
+				this.castField(i, record.get(i));
+			}
+
+			return record;
+		}
+
 		// we can potentially allow extra fields in value, but choose not to allow them for now
 		if (!this.fields.keySet().equals(map.keySet())) {
 			throw new ClassCastException("value Map " + map.keySet() + " is not structurally equivalent to fields " + this.fields.keySet());
 		}
 
-		for (Map.Entry<String, SerializableType<?>> entry : this.fields.entrySet()) {
-			try {
-				entry.getValue().cast(map.get(entry.getKey()));
-			} catch (ClassCastException e) {
-				ClassCastException ex = new ClassCastException("field " + entry.getKey());
-				ex.initCause(e);
-				throw ex;
-			}
+		for (int i = 0; i < this.fieldTypes.length; i++) {
+			this.castField(i, map.get(this.fieldNames[i]));
 		}
 
 		return (Map<String, Object>) map;
 	}
 
+	private void castField(int index, Object fieldValue) {
+		try {
+			this.fieldTypes[index].cast(fieldValue);
+		} catch (ClassCastException e) {
+			ClassCastException ex = new ClassCastException("field " + this.fieldNames[index]);
+			ex.initCause(e);
+			throw ex;
+		}
+	}
+
 	@Override
 	public <S> void serialize(TypeSerializer<S> serializer, S target) {
 		serializer.serialize(this, target);
@@ -84,6 +207,7 @@ public final class RecordSerializableType extends ParameterizedSerializableType<
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
+		if (this.isDistinctCanonical(o)) return false;
 		if (o == null || this.getClass() != o.getClass()) return false;
 		RecordSerializableType that = (RecordSerializableType) o;
 		return Objects.equals(this.fields, that.fields);
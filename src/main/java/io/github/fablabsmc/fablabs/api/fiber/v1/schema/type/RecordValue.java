@@ -0,0 +1,110 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable value of a {@link RecordSerializableType}, storing its field values in an array
+ * indexed by the record type's field indices.
+ *
+ * <p>A {@code RecordValue} is a regular {@link Map} from field names to field values, and is
+ * {@linkplain Map#equals(Object) equal} to any other map with the same entries.
+ *
+ * @see RecordSerializableType#createRecord(Object...)
+ */
+public final class RecordValue extends AbstractMap<String, Object> {
+	private final RecordSerializableType type;
+	private final Object[] values;
+	private Set<Map.Entry<String, Object>> entrySet;
+
+	RecordValue(RecordSerializableType type, Object[] values) {
+		this.type = type;
+		this.values = values;
+	}
+
+	/**
+	 * Returns the record type which field indices are used to store this value.
+	 */
+	public RecordSerializableType getType() {
+		return this.type;
+	}
+
+	/**
+	 * Returns the value of the field at the given index.
+	 *
+	 * @param index the index of the field in the record type
+	 * @return the value of the field
+	 * @see RecordSerializableType#indexOf(Object)
+	 */
+	public Object get(int index) {
+		return this.values[index];
+	}
+
+	/**
+	 * Returns a copy of this record's field values, in index order.
+	 */
+	public Object[] toArray() {
+		return this.values.clone();
+	}
+
+	@Override
+	public Object get(Object key) {
+		int index = this.type.indexOf(key);
+		return index < 0 ? null : this.values[index];
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return this.type.indexOf(key) >= 0;
+	}
+
+	@Override
+	public int size() {
+		return this.values.length;
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super String, ? super Object> action) {
+		for (int i = 0; i < this.values.length; i++) {
+			action.accept(this.type.getFieldName(i), this.values[i]);
+		}
+	}
+
+	@Override
+	public Set<Map.Entry<String, Object>> entrySet() {
+		if (this.entrySet == null) {
+			this.entrySet = new AbstractSet<Map.Entry<String, Object>>() {
+				@Override
+				public Iterator<Map.Entry<String, Object>> iterator() {
+					return new Iterator<Map.Entry<String, Object>>() {
+						private int index;
+
+						@Override
+						public boolean hasNext() {
+							return this.index < RecordValue.this.values.length;
+						}
+
+						@Override
+						public Map.Entry<String, Object> next() {
+							if (!this.hasNext()) throw new NoSuchElementException();
+							int i = this.index++;
+							return new SimpleImmutableEntry<>(RecordValue.this.type.getFieldName(i), RecordValue.this.values[i]);
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return RecordValue.this.values.length;
+				}
+			};
+		}
+
+		return this.entrySet;
+	}
+}
@@ -1,10 +1,15 @@
 package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigType;
@@ -34,8 +39,19 @@ import io.github.fablabsmc.fablabs.impl.fiber.constraint.ConstraintChecker;
  * @see StringSerializableType
  */
 public abstract class SerializableType<T> {
+	/**
+	 * The canonical instance of each distinct type, weakly referenced so that unused types can be collected.
+	 */
+	private static final Map<SerializableType<?>, WeakReference<SerializableType<?>>> CANONICAL_TYPES = new WeakHashMap<>();
+
 	private final Class<? super T> platformType;
 	private final ConstraintChecker<T, SerializableType<T>> checker;
+	private volatile boolean canonical;
+	/**
+	 * Memoized results of {@link #isAssignableFrom(SerializableType)} for canonical types, created on first use.
+	 */
+	@Nullable
+	private volatile Map<SerializableType<?>, Boolean> assignableFrom;
 
 	@SuppressWarnings("unchecked")
 	SerializableType(Class<? super T> platformType, ConstraintChecker<T, ? extends SerializableType<T>> checker) {
@@ -81,12 +97,91 @@ public abstract class SerializableType<T> {
 	 * @return {@code true} if properties of {@code this} type are assignable from values of {@code type}.
 	 */
 	public final boolean isAssignableFrom(SerializableType<?> type) {
+		if (this == type) {
+			return true;
+		}
+
 		if (this.getClass() != type.getClass()) {
 			return false;
 		}
 
 		@SuppressWarnings("unchecked") SerializableType<T> that = (SerializableType<T>) type;
-		return this.checker.comprehends(this, that);
+
+		if (!this.canonical || !that.canonical) {
+			return this.checker.comprehends(this, that);
+		}
+
+		// canonical types are immutable and unique, so results can be cached per pair
+		Map<SerializableType<?>, Boolean> cache = this.assignableFrom;
+
+		if (cache == null) {
+			synchronized (this) {
+				cache = this.assignableFrom;
+
+				if (cache == null) {
+					cache = Collections.synchronizedMap(new WeakHashMap<>());
+					this.assignableFrom = cache;
+				}
+			}
+		}
+
+		Boolean ret = cache.get(that);
+
+		if (ret == null) {
+			// computed outside of the cache's lock, as comprehending nested types checks their own caches
+			ret = this.checker.comprehends(this, that);
+			cache.put(that, ret);
+		}
+
+		return ret;
+	}
+
+	/**
+	 * Returns the canonical instance of the given type.
+	 *
+	 * <p>Structurally equal types share the same canonical instance, which lets large config trees
+	 * store a single instance of each distinct type. Canonical types are equal if and only if they
+	 * are identical, and memoize the results of {@link #isAssignableFrom(SerializableType)}.
+	 *
+	 * @param type the type to canonicalize
+	 * @param <S>  the kind of the type
+	 * @return a canonical type {@linkplain #equals(Object) equal} to {@code type}
+	 */
+	public static <S extends SerializableType<?>> S canonical(S type) {
+		if (type.isCanonical()) {
+			return type;
+		}
+
+		synchronized (CANONICAL_TYPES) {
+			WeakReference<SerializableType<?>> ref = CANONICAL_TYPES.get(type);
+			SerializableType<?> existing = ref == null ? null : ref.get();
+
+			if (existing != null) {
+				@SuppressWarnings("unchecked") S s = (S) existing;
+				return s;
+			}
+
+			((SerializableType<?>) type).canonical = true;
+			CANONICAL_TYPES.put(type, new WeakReference<>(type));
+			return type;
+		}
+	}
+
+	/**
+	 * Returns {@code true} if this type is the canonical instance of its structure.
+	 *
+	 * @see #canonical(SerializableType)
+	 */
+	public final boolean isCanonical() {
+		return this.canonical;
+	}
+
+	/**
+	 * Returns {@code true} if this type and {@code other} are both canonical but not identical,
+	 * in which case they cannot be equal.
+	 */
+	final boolean isDistinctCanonical(Object other) {
+		return this.canonical && other != this && other instanceof SerializableType && ((SerializableType<?>) other).canonical;
 	}
 
 	/**
@@ -95,7 +190,7 @@ public abstract class SerializableType<T> {
 	 * @see #test(Object)
 	 */
 	public final boolean accepts(T serializedValue) {
-		return this.test(serializedValue).hasPassed();
+		return this.check(serializedValue, null) == TypeCheckStatus.PASSED;
 	}
 
 	/**
@@ -108,6 +203,21 @@ public abstract class SerializableType<T> {
 		return this.checker.test(this, this.cast(Objects.requireNonNull(serializedValue)));
 	}
 
+	/**
+	 * Tests the given value against this type's constraints, without allocating a {@link TypeCheckResult}.
+	 *
+	 * <p>If this method returns {@link TypeCheckStatus#CORRECTED} and {@code corrected} is not {@code null},
+	 * the corrected value is stored in {@code corrected}. Otherwise, {@code corrected} is left untouched.
+	 *
+	 * @param serializedValue the value to test
+	 * @param corrected       an optional holder receiving the corrected value
+	 * @return the status of the check
+	 * @see #test(Object)
+	 */
+	public final TypeCheckStatus check(T serializedValue, @Nullable CorrectedValue<T> corrected) {
+		return this.checker.check(this, this.cast(Objects.requireNonNull(serializedValue)), corrected);
+	}
+
 	/**
 	 * Serializes this type to a persistent format using the given {@link TypeSerializer}.
 	 *
@@ -10,23 +10,27 @@ import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationEx
 import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.TypeSerializer;
 import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.ValueSerializer;
 import io.github.fablabsmc.fablabs.impl.fiber.constraint.StringConstraintChecker;
+import io.github.fablabsmc.fablabs.impl.fiber.constraint.StringPatternMatcher;
 
 /**
  * The {@link SerializableType} for regex-defined {@link String} values.
  */
 public final class StringSerializableType extends PlainSerializableType<String> {
-	public static final StringSerializableType DEFAULT_STRING = new StringSerializableType(0, Integer.MAX_VALUE, null);
+	public static final StringSerializableType DEFAULT_STRING = canonical(new StringSerializableType(0, Integer.MAX_VALUE, null));
 
 	private final int minLength;
 	private final int maxLength;
 	@Nullable
 	private final Pattern pattern;
+	@Nullable
+	private final StringPatternMatcher matcher;
 
 	public StringSerializableType(int minLength, int maxLength, @Nullable Pattern pattern) {
 		super(String.class, StringConstraintChecker.instance());
 		this.minLength = minLength;
 		this.maxLength = maxLength;
 		this.pattern = pattern;
+		this.matcher = pattern == null ? null : new StringPatternMatcher(pattern);
 	}
 
 	/**
@@ -67,6 +71,19 @@ public final class StringSerializableType extends PlainSerializableType<String>
 		return this.pattern;
 	}
 
+	/**
+	 * Returns whether the given string matches this type's {@linkplain #getPattern() pattern}.
+	 *
+	 * <p>This method is equivalent to {@code getPattern().matcher(value).matches()}, but is
+	 * optimized for frequent checks.
+	 *
+	 * @param value the string to match
+	 * @return {@code true} if this type has no pattern or if {@code value} matches it
+	 */
+	public boolean matchesPattern(String value) {
+		return this.matcher == null || this.matcher.matches(value);
+	}
+
 	@Override
 	public <S> void serialize(TypeSerializer<S> serializer, S target) {
 		serializer.serialize(this, target);
@@ -85,6 +102,7 @@ public final class StringSerializableType extends PlainSerializableType<String>
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
+		if (this.isDistinctCanonical(o)) return false;
 		if (o == null || this.getClass() != o.getClass()) return false;
 		StringSerializableType that = (StringSerializableType) o;
 		return this.minLength == that.minLength
@@ -41,10 +41,16 @@ public final class TypeCheckResult<V> {
 	private final boolean passed;
 	@Nullable
 	private final V correctedValue;
+	/**
+	 * The {@code Optional} returned by {@link #getCorrectedValue()}, created on first use.
+	 */
+	@Nullable
+	private Optional<V> optionalValue;
 
 	private TypeCheckResult(boolean passed, @Nullable V correctedValue) {
 		this.passed = passed;
 		this.correctedValue = correctedValue;
+		this.optionalValue = correctedValue == null ? Optional.empty() : null;
 	}
 
 	/**
@@ -70,6 +76,23 @@ public final class TypeCheckResult<V> {
 	 * or an empty {@code Optional} if the test was unrecoverable.
 	 */
 	public Optional<V> getCorrectedValue() {
-		return Optional.ofNullable(this.correctedValue);
+		Optional<V> ret = this.optionalValue;
+
+		if (ret == null) {
+			// Optional is immutable, publishing it through a race is harmless
+			ret = Optional.of(this.correctedValue);
+			this.optionalValue = ret;
+		}
+
+		return ret;
+	}
+
+	/**
+	 * Returns the status of this result.
+	 *
+	 * @see SerializableType#check(Object, CorrectedValue)
+	 */
+	public TypeCheckStatus getStatus() {
+		return this.passed ? TypeCheckStatus.PASSED : this.correctedValue == null ? TypeCheckStatus.UNRECOVERABLE : TypeCheckStatus.CORRECTED;
 	}
 }
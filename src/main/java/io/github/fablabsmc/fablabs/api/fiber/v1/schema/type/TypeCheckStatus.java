@@ -0,0 +1,21 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type;
+
+/**
+ * The status of a type check, as returned by the allocation-free {@link SerializableType#check(Object, CorrectedValue)}.
+ *
+ * @see TypeCheckResult
+ */
+public enum TypeCheckStatus {
+	/**
+	 * The tested value satisfies every constraint of the type.
+	 */
+	PASSED,
+	/**
+	 * The tested value does not satisfy the type's constraints, but a corrected value is available.
+	 */
+	CORRECTED,
+	/**
+	 * The tested value does not satisfy the type's constraints, and cannot be corrected.
+	 */
+	UNRECOVERABLE
+}
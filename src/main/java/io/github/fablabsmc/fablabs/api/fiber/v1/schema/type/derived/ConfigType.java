@@ -9,6 +9,7 @@ import java.util.function.Function;
 import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.processor.ConstraintAnnotationProcessor;
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.FiberConversionException;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
 
 /**
  * A {@code ConfigType} contains serializable information describing
@@ -35,7 +36,7 @@ public abstract class ConfigType<R, S, T extends SerializableType<S>> {
 
 	ConfigType(T serializedType, Class<R> runtimeType, Function<S, R> deserializer, Function<R, S> serializer) {
 		this.runtimeType = runtimeType;
-		this.serializedType = serializedType;
+		this.serializedType = SerializableType.canonical(serializedType);
 		this.deserializer = deserializer;
 		this.serializer = serializer;
 	}
@@ -116,6 +117,23 @@ public abstract class ConfigType<R, S, T extends SerializableType<S>> {
 		return Objects.requireNonNull(this.deserializer.apply(serializedValue));
 	}
 
+	/**
+	 * Converts directly a serialized value to this {@code ConfigType}'s runtime type, without checking
+	 * it against the serialized type's constraints.
+	 *
+	 * <p>This method should only be called with values that are already known to satisfy those constraints,
+	 * typically values read from a {@link ConfigLeaf} whose {@linkplain ConfigLeaf#getConfigType() type} is
+	 * {@linkplain SerializableType#isAssignableFrom(SerializableType) comprehended} by this type's serialized type.
+	 * Passing an invalid value results in unspecified behaviour.
+	 *
+	 * @param serializedValue a valid serialized value to convert to runtime form
+	 * @return a runtime equivalent of the serialized value
+	 * @see #toRuntimeType(Object)
+	 */
+	public R toRuntimeTypeUnchecked(S serializedValue) {
+		return Objects.requireNonNull(this.deserializer.apply(Objects.requireNonNull(serializedValue)));
+	}
+
 	/**
 	 * The runtime type of values.
 	 */
@@ -6,6 +6,7 @@ import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -18,9 +19,14 @@ import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DecimalSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DoubleArraySerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.EnumSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.IntArraySerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.ListSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.LongArraySerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.MapSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.RecordSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.StringSerializableType;
 import io.github.fablabsmc.fablabs.impl.fiber.annotation.magic.TypeMagic;
 
@@ -105,7 +111,7 @@ public final class ConfigTypes {
 	 * Creates an {@link EnumConfigType} representing a value of {@code enumType}.
 	 *
 	 * <p>The returned {@code EnumConfigType} converts values between {@code String}
-	 * and {@code E} using {@link Enum#valueOf(Class, String)}.
+	 * and {@code E} using the {@link Enum#name() names} and {@link Enum#ordinal() ordinals} of the enum constants.
 	 * Its {@linkplain ListConfigType#getSerializedType() serialized type} will only accept string values
 	 * that correspond to the {@link Enum#name() name} of one of the enum constants.
 	 *
@@ -115,9 +121,15 @@ public final class ConfigTypes {
 	 */
 	public static <E extends Enum<E>> EnumConfigType<E> makeEnum(Class<E> enumType) {
 		if (!enumType.isEnum()) throw new IllegalArgumentException(enumType + " is not an enum declaration");
+		E[] constants = enumType.getEnumConstants();
 		// map constants to their names, while preserving natural ordering
-		Set<String> validValues = Arrays.stream(enumType.getEnumConstants()).map(Enum::name).collect(Collectors.toCollection(LinkedHashSet::new));
-		return new EnumConfigType<>(new EnumSerializableType(validValues), enumType, e -> Enum.valueOf(enumType, e), Enum::name);
+		Set<String> validValues = Arrays.stream(constants).map(Enum::name).collect(Collectors.toCollection(LinkedHashSet::new));
+		EnumSerializableType serializedType = new EnumSerializableType(validValues);
+		// the ordinal of each name in the serialized type is the ordinal of the matching constant
+		return new EnumConfigType<>(serializedType, enumType, s -> {
+			int ordinal = serializedType.ordinalOf(s);
+			return ordinal >= 0 ? constants[ordinal] : Enum.valueOf(enumType, s);
+		}, e -> serializedType.valueAt(e.ordinal()));
 	}
 
 	/* List-derived types */
@@ -127,6 +139,7 @@ public final class ConfigTypes {
 	 *
 	 * <p>The returned {@code ListConfigType} converts values between {@code List<S>}
 	 * and {@code List<E>} by converting individually each element using the given {@code elementType}.
+	 * Runtime lists are unmodifiable views which convert each element the first time it is accessed.
 	 * Its {@linkplain ListConfigType#getSerializedType() serialized type} will only accept lists
 	 * where every element is accepted by {@code elementType}.
 	 *
@@ -138,15 +151,7 @@ public final class ConfigTypes {
 	public static <E, S> ListConfigType<List<E>, S> makeList(ConfigType<E, S, ?> elementType) {
 		return new ListConfigType<>(
 				new ListSerializableType<>(elementType.getSerializedType()), List.class,
-				l -> {
-					List<E> ret = new ArrayList<>();
-
-					for (S s : l) {
-						ret.add(elementType.toRuntimeType(s));
-					}
-
-					return Collections.unmodifiableList(ret);
-				},
+				l -> ConvertingViews.list(l, elementType::toRuntimeTypeUnchecked),
 				l -> {
 					List<S> ret = new ArrayList<>();
 
@@ -164,6 +169,7 @@ public final class ConfigTypes {
 	 *
 	 * <p>The returned {@code ListConfigType} converts values between {@code List<S>}
 	 * and {@code Set<E>} by converting individually each element using the given {@code elementType}.
+	 * Runtime sets are unmodifiable views which convert their elements the first time they are queried.
 	 * Its {@linkplain ListConfigType#getSerializedType() serialized type} will only accept lists with
 	 * no duplicates (according to {@link Object#equals(Object)}) and where every element is accepted
 	 * by {@code elementType}.
@@ -177,20 +183,57 @@ public final class ConfigTypes {
 		return new ListConfigType<>(
 				new ListSerializableType<>(elementType.getSerializedType(), 0, Integer.MAX_VALUE, true),
 				Set.class,
+				l -> ConvertingViews.set(l, elementType::toRuntimeTypeUnchecked),
+				l -> {
+					List<S> ret = new ArrayList<>();
+
+					for (E e : l) {
+						ret.add(elementType.toPlatformType(e));
+					}
+
+					return Collections.unmodifiableList(ret);
+				}
+		);
+	}
+
+	/**
+	 * Creates a {@link ListConfigType} representing a set of constants of {@code enumType}.
+	 *
+	 * <p>The returned {@code ListConfigType} converts values between {@code List<String>}
+	 * and {@code Set<E>}, using an {@link EnumSet} to store runtime values. Serialized lists
+	 * list the {@link Enum#name() names} of the set's constants in their natural order.
+	 * Its {@linkplain ListConfigType#getSerializedType() serialized type} will only accept lists with
+	 * no duplicates and where every element is the name of one of the enum constants.
+	 *
+	 * @param enumType The class object of the enum type to represent.
+	 * @param <E>      The enum type.
+	 * @return A {@link ListConfigType} holding a {@code Set<E>}.
+	 * @see #makeEnum(Class)
+	 * @see #makeSet(ConfigType)
+	 */
+	public static <E extends Enum<E>> ListConfigType<Set<E>, String> makeEnumSet(Class<E> enumType) {
+		EnumSerializableType elementType = makeEnum(enumType).getSerializedType();
+		E[] constants = enumType.getEnumConstants();
+		return new ListConfigType<>(
+				new ListSerializableType<>(elementType, 0, Integer.MAX_VALUE, true),
+				Set.class,
 				l -> {
-					Set<E> ret = new LinkedHashSet<>();
+					EnumSet<E> ret = EnumSet.noneOf(enumType);
 
-					for (S s : l) {
-						ret.add(elementType.toRuntimeType(s));
+					for (String s : l) {
+						int ordinal = elementType.ordinalOf(s);
+						ret.add(ordinal >= 0 ? constants[ordinal] : Enum.valueOf(enumType, s));
 					}
 
 					return Collections.unmodifiableSet(ret);
 				},
 				l -> {
-					List<S> ret = new ArrayList<>();
+					EnumSet<E> set = EnumSet.noneOf(enumType);
+					set.addAll(l);
+					List<String> ret = new ArrayList<>(set.size());
 
-					for (E e : l) {
-						ret.add(elementType.toPlatformType(e));
+					for (E e : set) {
+						ret.add(elementType.valueAt(e.ordinal()));
 					}
 
 					return Collections.unmodifiableList(ret);
@@ -381,7 +424,7 @@ public final class ConfigTypes {
 					A arr = arrayType.cast(Array.newInstance(componentType, l.size()));
 
 					for (int i = 0; i < Array.getLength(arr); i++) {
-						Array.set(arr, i, elementType.toRuntimeType(l.get(i)));
+						Array.set(arr, i, elementType.toRuntimeTypeUnchecked(l.get(i)));
 					}
 
 					return arr;
@@ -399,6 +442,33 @@ public final class ConfigTypes {
 		);
 	}
 
+	/* Packed array types */
+
+	/**
+	 * An {@link IntArrayConfigType} representing a packed {@code int[]}, without size or element constraints.
+	 *
+	 * <p>Unlike {@link #makeIntArray(ConfigType)}, the serialized form of this type is itself a primitive array,
+	 * so values can be checked and serialized without boxing each element. Arrays are copied during conversion,
+	 * so that the runtime value can be modified without affecting the serialized value, and vice versa.
+	 */
+	public static final IntArrayConfigType<int[]> PACKED_INT_ARRAY =
+			new IntArrayConfigType<>(IntArraySerializableType.UNBOUNDED, int[].class, int[]::clone, int[]::clone);
+	/**
+	 * A {@link LongArrayConfigType} representing a packed {@code long[]}, without size or element constraints.
+	 *
+	 * @see #PACKED_INT_ARRAY
+	 */
+	public static final LongArrayConfigType<long[]> PACKED_LONG_ARRAY =
+			new LongArrayConfigType<>(LongArraySerializableType.UNBOUNDED, long[].class, long[]::clone, long[]::clone);
+	/**
+	 * A {@link DoubleArrayConfigType} representing a packed {@code double[]} of finite values, without size
+	 * or further element constraints.
+	 *
+	 * @see #PACKED_INT_ARRAY
+	 */
+	public static final DoubleArrayConfigType<double[]> PACKED_DOUBLE_ARRAY =
+			new DoubleArrayConfigType<>(DoubleArraySerializableType.UNBOUNDED, double[].class, double[]::clone, double[]::clone);
+
 	/* Record-derived config types */
 
 	/**
@@ -406,6 +476,8 @@ public final class ConfigTypes {
 	 *
 	 * <p>The returned {@code MapConfigType} converts values between {@code Map<String, S>}
 	 * and {@code Map<K, V>} by converting individually each element using their respective {@code ConfigType}.
+	 * Runtime maps are unmodifiable views which convert their keys the first time they are queried,
+	 * and each value the first time it is accessed.
 	 * Its {@linkplain ConfigType#getSerializedType() serialized type} will have no size constraint.
 	 *
 	 * @param keyType   The config type of the map's keys (must be convertible to {@code String}).
@@ -419,12 +491,8 @@ public final class ConfigTypes {
 		return new MapConfigType<>(
 				new MapSerializableType<>(keyType.getSerializedType(), valueType.getSerializedType()),
 				Map.class,
-				map -> {
-					// this map is likely to contain user-facing data, preserve ordering
-					Map<K, V> ret = new LinkedHashMap<>();
-					map.forEach((k, v) -> ret.put(keyType.toRuntimeType(k), valueType.toRuntimeType(v)));
-					return Collections.unmodifiableMap(ret);
-				},
+				// this map is likely to contain user-facing data, the view preserves ordering
+				map -> ConvertingViews.map(map, keyType::toRuntimeTypeUnchecked, valueType::toRuntimeTypeUnchecked),
 				map -> {
 					Map<String, S> ret = new LinkedHashMap<>();
 					map.forEach((k, v) -> ret.put(keyType.toPlatformType(k), valueType.toPlatformType(v)));
@@ -432,4 +500,28 @@ public final class ConfigTypes {
 				}
 		);
 	}
+
+	/**
+	 * Creates a {@link RecordConfigType} representing instances of {@code recordClass}.
+	 *
+	 * <p>The returned {@code RecordConfigType} converts values between {@code Map<String, Object>}
+	 * and {@code R} by reading and setting the fields of {@code recordClass} named after the keys of
+	 * {@code fieldTypes}, each field being converted using its respective {@code ConfigType}.
+	 * New instances are created using the no-arg constructor of {@code recordClass}.
+	 * Its {@linkplain ConfigType#getSerializedType() serialized type} will have one field per entry of
+	 * {@code fieldTypes}, in iteration order.
+	 *
+	 * @param recordClass The class of the record's runtime values.
+	 * @param fieldTypes  The config types of the record's fields, by field name.
+	 * @param <R>         The record's runtime type.
+	 * @return A {@link RecordConfigType} holding a {@code R}.
+	 * @throws IllegalArgumentException if {@code recordClass} has no no-arg constructor, or lacks one of the fields
+	 */
+	public static <R> RecordConfigType<R> makeRecord(Class<R> recordClass, Map<String, ? extends ConfigType<?, ?, ?>> fieldTypes) {
+		Map<String, SerializableType<?>> fields = new LinkedHashMap<>();
+		fieldTypes.forEach((name, type) -> fields.put(name, type.getSerializedType()));
+		RecordSerializableType serializedType = new RecordSerializableType(fields);
+		RecordConfigType.ClassMapper<R> mapper = new RecordConfigType.ClassMapper<>(serializedType, recordClass, fieldTypes);
+		return new RecordConfigType<>(serializedType, recordClass, mapper::toRuntime, mapper::toSerialized);
+	}
 }
@@ -0,0 +1,247 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Unmodifiable runtime views of serialized collections, which convert elements when they are first accessed.
+ *
+ * <p>Views take a snapshot of the serialized collection when created, and memoize converted elements,
+ * so that each serialized element is converted at most once (modulo races between threads, which
+ * may convert an element concurrently and publish either result).
+ */
+final class ConvertingViews {
+	private ConvertingViews() {
+	}
+
+	/**
+	 * Returns a list view converting each element of {@code source} with {@code converter}.
+	 */
+	static <S, E> List<E> list(Collection<S> source, Function<S, E> converter) {
+		return new ConvertingList<>(source.toArray(), converter);
+	}
+
+	/**
+	 * Returns a set view converting each element of {@code source} with {@code converter}. Elements are converted
+	 * when the set is first queried, as duplicates can only be detected after conversion.
+	 */
+	static <S, E> Set<E> set(Collection<S> source, Function<S, E> converter) {
+		return new ConvertingSet<>(source.toArray(), converter);
+	}
+
+	/**
+	 * Returns a map view converting each key of {@code source} with {@code keyConverter}, and each value
+	 * with {@code valueConverter}. Keys are converted when the map is first queried, values when they are accessed.
+	 */
+	static <S, K, V> Map<K, V> map(Map<String, S> source, Function<String, K> keyConverter, Function<S, V> valueConverter) {
+		return new ConvertingMap<>(source, keyConverter, valueConverter);
+	}
+
+	/**
+	 * An array of lazily converted elements.
+	 */
+	private static final class Memo<S, E> {
+		private final Object[] source;
+		private final AtomicReferenceArray<E> converted;
+		private final Function<S, E> converter;
+
+		Memo(Object[] source, Function<S, E> converter) {
+			this.source = source;
+			this.converted = new AtomicReferenceArray<>(source.length);
+			this.converter = converter;
+		}
+
+		@SuppressWarnings("unchecked")
+		E get(int index) {
+			E e = this.converted.get(index);
+
+			if (e == null) {
+				e = this.converter.apply((S) this.source[index]);
+				this.converted.set(index, e);
+			}
+
+			return e;
+		}
+
+		int size() {
+			return this.source.length;
+		}
+	}
+
+	private static final class ConvertingList<S, E> extends AbstractList<E> implements RandomAccess {
+		private final Memo<S, E> elements;
+
+		ConvertingList(Object[] source, Function<S, E> converter) {
+			this.elements = new Memo<>(source, converter);
+		}
+
+		@Override
+		public E get(int index) {
+			if (index < 0 || index >= this.elements.size()) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.elements.size());
+			}
+
+			return this.elements.get(index);
+		}
+
+		@Override
+		public int size() {
+			return this.elements.size();
+		}
+	}
+
+	private static final class ConvertingSet<S, E> extends AbstractSet<E> {
+		private final Memo<S, E> elements;
+		private volatile Set<E> converted;
+
+		ConvertingSet(Object[] source, Function<S, E> converter) {
+			this.elements = new Memo<>(source, converter);
+		}
+
+		private Set<E> converted() {
+			Set<E> ret = this.converted;
+
+			if (ret == null) {
+				ret = new LinkedHashSet<>();
+
+				for (int i = 0; i < this.elements.size(); i++) {
+					ret.add(this.elements.get(i));
+				}
+
+				ret = Collections.unmodifiableSet(ret);
+				this.converted = ret;
+			}
+
+			return ret;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return this.converted().contains(o);
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return this.elements.size() == 0;
+		}
+
+		@Override
+		public Iterator<E> iterator() {
+			return this.converted().iterator();
+		}
+
+		@Override
+		public int size() {
+			return this.converted().size();
+		}
+	}
+
+	private static final class ConvertingMap<S, K, V> extends AbstractMap<K, V> {
+		private final Object[] sourceKeys;
+		private final Function<String, K> keyConverter;
+		private final Memo<S, V> values;
+		/**
+		 * Maps converted keys to the index of their value, in insertion order.
+		 */
+		private volatile Map<K, Integer> indices;
+
+		ConvertingMap(Map<String, S> source, Function<String, K> keyConverter, Function<S, V> valueConverter) {
+			this.sourceKeys = new Object[source.size()];
+			Object[] sourceValues = new Object[source.size()];
+			int i = 0;
+
+			for (Map.Entry<String, S> entry : source.entrySet()) {
+				this.sourceKeys[i] = entry.getKey();
+				sourceValues[i] = entry.getValue();
+				i++;
+			}
+
+			this.keyConverter = keyConverter;
+			this.values = new Memo<>(sourceValues, valueConverter);
+		}
+
+		private Map<K, Integer> indices() {
+			Map<K, Integer> ret = this.indices;
+
+			if (ret == null) {
+				ret = new LinkedHashMap<>();
+
+				for (int i = 0; i < this.sourceKeys.length; i++) {
+					// later entries with an equivalent key replace earlier ones
+					ret.put(this.keyConverter.apply((String) this.sourceKeys[i]), i);
+				}
+
+				this.indices = ret;
+			}
+
+			return ret;
+		}
+
+		@Override
+		public V get(Object key) {
+			Integer index = this.indices().get(key);
+			return index == null ? null : this.values.get(index);
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return this.indices().containsKey(key);
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return this.sourceKeys.length == 0;
+		}
+
+		@Override
+		public int size() {
+			return this.indices().size();
+		}
+
+		@Override
+		public Set<K> keySet() {
+			return Collections.unmodifiableSet(this.indices().keySet());
+		}
+
+		@Override
+		public Set<Map.Entry<K, V>> entrySet() {
+			return new AbstractSet<Map.Entry<K, V>>() {
+				@Override
+				public Iterator<Map.Entry<K, V>> iterator() {
+					Iterator<Map.Entry<K, Integer>> it = ConvertingMap.this.indices().entrySet().iterator();
+					return new Iterator<Map.Entry<K, V>>() {
+						@Override
+						public boolean hasNext() {
+							return it.hasNext();
+						}
+
+						@Override
+						public Map.Entry<K, V> next() {
+							if (!it.hasNext()) throw new NoSuchElementException();
+							Map.Entry<K, Integer> entry = it.next();
+							return new SimpleImmutableEntry<>(entry.getKey(), ConvertingMap.this.values.get(entry.getValue()));
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return ConvertingMap.this.size();
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.util.function.Function;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.processor.ConstraintAnnotationProcessor;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DoubleArraySerializableType;
+
+/**
+ * A {@link ConfigType} for packed arrays of {@code double} values.
+ *
+ * @param <T> The runtime type of the underlying {@code double[]} value.
+ */
+public final class DoubleArrayConfigType<T> extends ConfigType<T, double[], DoubleArraySerializableType> {
+	public DoubleArrayConfigType(DoubleArraySerializableType serializedType, Class<T> runtimeType, Function<double[], T> f, Function<T, double[]> f0) {
+		super(serializedType, runtimeType, f, f0);
+	}
+
+	@Override
+	public <U> DoubleArrayConfigType<U> derive(Class<? super U> runtimeType, Function<T, U> partialDeserializer, Function<U, T> partialSerializer) {
+		@SuppressWarnings("unchecked") Class<U> c = (Class<U>) runtimeType;
+		return new DoubleArrayConfigType<>(this.getSerializedType(), c, s -> partialDeserializer.apply(this.deserializer.apply(s)), u -> this.serializer.apply(partialSerializer.apply(u)));
+	}
+
+	@Override
+	public DoubleArrayConfigType<T> withType(DoubleArraySerializableType newSpec) {
+		this.checkTypeNarrowing(newSpec);
+		return new DoubleArrayConfigType<>(newSpec, this.getRuntimeType(), this.deserializer, this.serializer);
+	}
+
+	@Override
+	public DoubleArrayConfigType<T> constrain(ConstraintAnnotationProcessor<Annotation> processor, Annotation annotation, AnnotatedElement annotated) {
+		return processor.processDoubleArray(this, annotation, annotated);
+	}
+
+	/**
+	 * Returns a new {@link DoubleArrayConfigType} with a minimum size constraint.
+	 */
+	public DoubleArrayConfigType<T> withMinSize(int min) {
+		DoubleArraySerializableType current = this.getSerializedType();
+		return this.withType(new DoubleArraySerializableType(current.getMinValue(), current.getMaxValue(), min, current.getMaxSize()));
+	}
+
+	/**
+	 * Returns a new {@link DoubleArrayConfigType} with a maximum size constraint.
+	 */
+	public DoubleArrayConfigType<T> withMaxSize(int max) {
+		DoubleArraySerializableType current = this.getSerializedType();
+		return this.withType(new DoubleArraySerializableType(current.getMinValue(), current.getMaxValue(), current.getMinSize(), max));
+	}
+
+	/**
+	 * Returns a new {@link DoubleArrayConfigType} with the given element range.
+	 */
+	public DoubleArrayConfigType<T> withValidRange(double min, double max) {
+		DoubleArraySerializableType current = this.getSerializedType();
+		return this.withType(new DoubleArraySerializableType(min, max, current.getMinSize(), current.getMaxSize()));
+	}
+}
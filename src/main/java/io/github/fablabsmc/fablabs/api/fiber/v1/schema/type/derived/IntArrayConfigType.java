@@ -0,0 +1,60 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.util.function.Function;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.processor.ConstraintAnnotationProcessor;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.IntArraySerializableType;
+
+/**
+ * A {@link ConfigType} for packed arrays of {@code int} values.
+ *
+ * @param <T> The runtime type of the underlying {@code int[]} value.
+ */
+public final class IntArrayConfigType<T> extends ConfigType<T, int[], IntArraySerializableType> {
+	public IntArrayConfigType(IntArraySerializableType serializedType, Class<T> runtimeType, Function<int[], T> f, Function<T, int[]> f0) {
+		super(serializedType, runtimeType, f, f0);
+	}
+
+	@Override
+	public <U> IntArrayConfigType<U> derive(Class<? super U> runtimeType, Function<T, U> partialDeserializer, Function<U, T> partialSerializer) {
+		@SuppressWarnings("unchecked") Class<U> c = (Class<U>) runtimeType;
+		return new IntArrayConfigType<>(this.getSerializedType(), c, s -> partialDeserializer.apply(this.deserializer.apply(s)), u -> this.serializer.apply(partialSerializer.apply(u)));
+	}
+
+	@Override
+	public IntArrayConfigType<T> withType(IntArraySerializableType newSpec) {
+		this.checkTypeNarrowing(newSpec);
+		return new IntArrayConfigType<>(newSpec, this.getRuntimeType(), this.deserializer, this.serializer);
+	}
+
+	@Override
+	public IntArrayConfigType<T> constrain(ConstraintAnnotationProcessor<Annotation> processor, Annotation annotation, AnnotatedElement annotated) {
+		return processor.processIntArray(this, annotation, annotated);
+	}
+
+	/**
+	 * Returns a new {@link IntArrayConfigType} with a minimum size constraint.
+	 */
+	public IntArrayConfigType<T> withMinSize(int min) {
+		IntArraySerializableType current = this.getSerializedType();
+		return this.withType(new IntArraySerializableType(current.getMinValue(), current.getMaxValue(), min, current.getMaxSize()));
+	}
+
+	/**
+	 * Returns a new {@link IntArrayConfigType} with a maximum size constraint.
+	 */
+	public IntArrayConfigType<T> withMaxSize(int max) {
+		IntArraySerializableType current = this.getSerializedType();
+		return this.withType(new IntArraySerializableType(current.getMinValue(), current.getMaxValue(), current.getMinSize(), max));
+	}
+
+	/**
+	 * Returns a new {@link IntArrayConfigType} with the given element range.
+	 */
+	public IntArrayConfigType<T> withValidRange(int min, int max) {
+		IntArraySerializableType current = this.getSerializedType();
+		return this.withType(new IntArraySerializableType(min, max, current.getMinSize(), current.getMaxSize()));
+	}
+}
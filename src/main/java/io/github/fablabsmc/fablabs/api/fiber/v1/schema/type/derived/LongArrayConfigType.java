@@ -0,0 +1,60 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.util.function.Function;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.processor.ConstraintAnnotationProcessor;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.LongArraySerializableType;
+
+/**
+ * A {@link ConfigType} for packed arrays of {@code long} values.
+ *
+ * @param <T> The runtime type of the underlying {@code long[]} value.
+ */
+public final class LongArrayConfigType<T> extends ConfigType<T, long[], LongArraySerializableType> {
+	public LongArrayConfigType(LongArraySerializableType serializedType, Class<T> runtimeType, Function<long[], T> f, Function<T, long[]> f0) {
+		super(serializedType, runtimeType, f, f0);
+	}
+
+	@Override
+	public <U> LongArrayConfigType<U> derive(Class<? super U> runtimeType, Function<T, U> partialDeserializer, Function<U, T> partialSerializer) {
+		@SuppressWarnings("unchecked") Class<U> c = (Class<U>) runtimeType;
+		return new LongArrayConfigType<>(this.getSerializedType(), c, s -> partialDeserializer.apply(this.deserializer.apply(s)), u -> this.serializer.apply(partialSerializer.apply(u)));
+	}
+
+	@Override
+	public LongArrayConfigType<T> withType(LongArraySerializableType newSpec) {
+		this.checkTypeNarrowing(newSpec);
+		return new LongArrayConfigType<>(newSpec, this.getRuntimeType(), this.deserializer, this.serializer);
+	}
+
+	@Override
+	public LongArrayConfigType<T> constrain(ConstraintAnnotationProcessor<Annotation> processor, Annotation annotation, AnnotatedElement annotated) {
+		return processor.processLongArray(this, annotation, annotated);
+	}
+
+	/**
+	 * Returns a new {@link LongArrayConfigType} with a minimum size constraint.
+	 */
+	public LongArrayConfigType<T> withMinSize(int min) {
+		LongArraySerializableType current = this.getSerializedType();
+		return this.withType(new LongArraySerializableType(current.getMinValue(), current.getMaxValue(), min, current.getMaxSize()));
+	}
+
+	/**
+	 * Returns a new {@link LongArrayConfigType} with a maximum size constraint.
+	 */
+	public LongArrayConfigType<T> withMaxSize(int max) {
+		LongArraySerializableType current = this.getSerializedType();
+		return this.withType(new LongArraySerializableType(current.getMinValue(), current.getMaxValue(), current.getMinSize(), max));
+	}
+
+	/**
+	 * Returns a new {@link LongArrayConfigType} with the given element range.
+	 */
+	public LongArrayConfigType<T> withValidRange(long min, long max) {
+		LongArraySerializableType current = this.getSerializedType();
+		return this.withType(new LongArraySerializableType(min, max, current.getMinSize(), current.getMaxSize()));
+	}
+}
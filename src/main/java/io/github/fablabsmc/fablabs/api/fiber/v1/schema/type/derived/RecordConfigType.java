@@ -2,11 +2,17 @@ package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 import java.util.Map;
 import java.util.function.Function;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.processor.ConstraintAnnotationProcessor;
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.RuntimeFiberException;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.RecordSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.RecordValue;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
 
 /**
@@ -47,4 +53,84 @@ public final class RecordConfigType<R> extends ConfigType<R, Map<String, Object>
 				+ " : " + this.getRuntimeType().getSimpleName()
 				+ ")";
 	}
+
+	/**
+	 * Converts record values to instances of a class and back, by setting and reading the class' fields.
+	 *
+	 * <p>Field accessors are resolved once, and matched to the record type's field indices.
+	 */
+	static final class ClassMapper<R> {
+		private final RecordSerializableType type;
+		private final Constructor<R> constructor;
+		private final Field[] fields;
+		private final ConfigType<Object, Object, ?>[] fieldTypes;
+
+		@SuppressWarnings("unchecked")
+		ClassMapper(RecordSerializableType type, Class<R> recordClass, Map<String, ? extends ConfigType<?, ?, ?>> fieldTypes) {
+			this.type = type;
+			this.fields = new Field[type.getFieldCount()];
+			this.fieldTypes = (ConfigType<Object, Object, ?>[]) new ConfigType<?, ?, ?>[type.getFieldCount()];
+
+			try {
+				this.constructor = recordClass.getDeclaredConstructor();
+				this.constructor.setAccessible(true);
+			} catch (NoSuchMethodException e) {
+				throw new IllegalArgumentException(recordClass + " does not declare a no-arg constructor", e);
+			}
+
+			for (int i = 0; i < this.fields.length; i++) {
+				String name = type.getFieldName(i);
+				this.fields[i] = findField(recordClass, name);
+				this.fields[i].setAccessible(true);
+				this.fieldTypes[i] = (ConfigType<Object, Object, ?>) fieldTypes.get(name);
+			}
+		}
+
+		private static Field findField(Class<?> recordClass, String name) {
+			for (Class<?> c = recordClass; c != null; c = c.getSuperclass()) {
+				try {
+					Field field = c.getDeclaredField(name);
+
+					if (!Modifier.isStatic(field.getModifiers())) {
+						return field;
+					}
+				} catch (NoSuchFieldException ignored) {
+					// look in the superclass
+				}
+			}
+
+			throw new IllegalArgumentException(recordClass + " has no instance field named " + name);
+		}
+
+		R toRuntime(Map<String, Object> record) {
+			boolean sameLayout = this.type.hasLayoutOf(record);
+
+			try {
+				R ret = this.constructor.newInstance();
+
+				for (int i = 0; i < this.fields.length; i++) {
+					Object fieldValue = sameLayout ? ((RecordValue) record).get(i) : record.get(this.type.getFieldName(i));
+					this.fields[i].set(ret, this.fieldTypes[i].toRuntimeTypeUnchecked(fieldValue));
+				}
+
+				return ret;
+			} catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+				throw new RuntimeFiberException("Failed to convert record to " + this.constructor.getDeclaringClass().getName(), e);
+			}
+		}
+
+		Map<String, Object> toSerialized(R value) {
+			Object[] fieldValues = new Object[this.fields.length];
+
+			try {
+				for (int i = 0; i < this.fields.length; i++) {
+					fieldValues[i] = this.fieldTypes[i].toPlatformType(this.fields[i].get(value));
+				}
+			} catch (IllegalAccessException e) {
+				throw new RuntimeFiberException("Failed to convert " + value + " to a record", e);
+			}
+
+			return this.type.createRecord(fieldValues);
+		}
+	}
 }
@@ -8,11 +8,15 @@ import java.util.Map;
 import java.util.Objects;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.metrics.FiberMetrics;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.Commentable;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import io.github.fablabsmc.fablabs.impl.fiber.jfr.FiberEvents;
+import io.github.fablabsmc.fablabs.impl.fiber.metrics.CountingInputStream;
+import io.github.fablabsmc.fablabs.impl.fiber.metrics.CountingOutputStream;
 
 /**
  * Static class that houses Fiber's serialization and deserialization algorithms.
@@ -22,6 +26,27 @@ public final class FiberSerialization {
 	}
 
 	public static <A, T> void serialize(ConfigTree tree, OutputStream out, ValueSerializer<A, T> ctx) throws IOException {
+		FiberMetrics metrics = FiberMetrics.get();
+		Object event = FiberEvents.beginSave();
+
+		if (metrics.isEnabled() || event != null) {
+			long start = System.nanoTime();
+			CountingOutputStream counter = new CountingOutputStream(out);
+			serializeTree(tree, counter, ctx);
+			long time = System.nanoTime() - start;
+			ConfigNode node = tree instanceof ConfigNode ? (ConfigNode) tree : null;
+			FiberEvents.endSave(event, node, counter.getCount());
+
+			if (metrics.isEnabled()) {
+				metrics.recordTime(FiberMetrics.SERIALIZE, node, time);
+				metrics.recordBytes(FiberMetrics.SERIALIZE_BYTES, node, counter.getCount());
+			}
+		} else {
+			serializeTree(tree, out, ctx);
+		}
+	}
+
+	private static <A, T> void serializeTree(ConfigTree tree, OutputStream out, ValueSerializer<A, T> ctx) throws IOException {
 		T target = ctx.newTarget();
 
 		for (ConfigNode node : tree.getItems()) {
@@ -32,8 +57,33 @@ public final class FiberSerialization {
 	}
 
 	public static <A, T> void deserialize(ConfigTree tree, InputStream in, ValueSerializer<A, T> ctx) throws IOException, ValueDeserializationException {
-		T target = ctx.readTarget(in);
+		FiberMetrics metrics = FiberMetrics.get();
+		Object loadEvent = FiberEvents.beginLoad();
+		ConfigNode node = tree instanceof ConfigNode ? (ConfigNode) tree : null;
+		T target;
+
+		if (metrics.isEnabled() || loadEvent != null) {
+			long start = System.nanoTime();
+			CountingInputStream counter = new CountingInputStream(in);
+			target = ctx.readTarget(counter);
+			FiberEvents.endLoad(loadEvent, node, counter.getCount());
+			Object applyEvent = FiberEvents.beginApply();
+			applyTarget(tree, target, ctx);
+			FiberEvents.endApply(applyEvent, node);
+
+			if (metrics.isEnabled()) {
+				metrics.recordTime(FiberMetrics.DESERIALIZE, node, System.nanoTime() - start);
+				metrics.recordBytes(FiberMetrics.DESERIALIZE_BYTES, node, counter.getCount());
+			}
+		} else {
+			target = ctx.readTarget(in);
+			Object applyEvent = FiberEvents.beginApply();
+			applyTarget(tree, target, ctx);
+			FiberEvents.endApply(applyEvent, node);
+		}
+	}
 
+	private static <A, T> void applyTarget(ConfigTree tree, T target, ValueSerializer<A, T> ctx) throws ValueDeserializationException {
 		for (Iterator<Map.Entry<String, A>> itr = ctx.elements(target); itr.hasNext(); ) {
 			Map.Entry<String, A> entry = itr.next();
 			ConfigNode node = tree.lookup(entry.getKey());
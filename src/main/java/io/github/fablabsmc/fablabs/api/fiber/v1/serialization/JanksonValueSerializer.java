@@ -22,10 +22,14 @@ import blue.endless.jankson.api.SyntaxError;
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.BooleanSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DecimalSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DoubleArraySerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.EnumSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.IntArraySerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.ListSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.LongArraySerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.MapSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.RecordSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.RecordValue;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.StringSerializableType;
 
@@ -107,7 +111,10 @@ public class JanksonValueSerializer implements ValueSerializer<JsonElement, Json
 	@Override
 	public String deserializeEnum(JsonElement elem, EnumSerializableType type) throws ValueDeserializationException {
 		if (elem instanceof JsonPrimitive) {
-			return ((JsonPrimitive) elem).asString();
+			String value = ((JsonPrimitive) elem).asString();
+			int ordinal = type.ordinalOf(value);
+			// share the type's own instance of valid values
+			return ordinal >= 0 ? type.valueAt(ordinal) : value;
 		}
 
 		throw new ValueDeserializationException(elem, String.class, "JsonElement of wrong type");
@@ -170,11 +177,12 @@ public class JanksonValueSerializer implements ValueSerializer<JsonElement, Json
 	@Override
 	public JsonElement serializeRecord(Map<String, Object> value, RecordSerializableType type) {
 		JsonObject obj = new JsonObject();
-		Map<String, SerializableType<?>> fields = type.getFields();
+		boolean sameLayout = type.hasLayoutOf(value);
 
-		for (Map.Entry<String, SerializableType<?>> entry : fields.entrySet()) {
-			Object fieldValue = value.get(entry.getKey());
-			obj.put(entry.getKey(), this.serializeRecordField(fieldValue, entry.getValue()));
+		for (int i = 0; i < type.getFieldCount(); i++) {
+			String name = type.getFieldName(i);
+			Object fieldValue = sameLayout ? ((RecordValue) value).get(i) : value.get(name);
+			obj.put(name, this.serializeRecordField(fieldValue, type.getFieldType(i)));
 		}
 
 		return obj;
@@ -188,25 +196,149 @@ public class JanksonValueSerializer implements ValueSerializer<JsonElement, Json
 	public Map<String, Object> deserializeRecord(JsonElement elem, RecordSerializableType type) throws ValueDeserializationException {
 		if (elem instanceof JsonObject) {
 			JsonObject obj = ((JsonObject) elem);
-			Map<String, Object> map = new LinkedHashMap<>(obj.size());
-			Map<String, SerializableType<?>> fields = type.getFields();
+			Object[] fieldValues = new Object[type.getFieldCount()];
 
-			for (Map.Entry<String, SerializableType<?>> entry : fields.entrySet()) {
-				JsonElement subElem = obj.get(entry.getKey());
+			for (int i = 0; i < fieldValues.length; i++) {
+				SerializableType<?> fieldType = type.getFieldType(i);
+				JsonElement subElem = obj.get(type.getFieldName(i));
 
 				if (subElem == null) {
-					throw new ValueDeserializationException(null, entry.getValue().getErasedPlatformType(), "Record field is absent: " + entry.getKey());
+					throw new ValueDeserializationException(null, fieldType.getErasedPlatformType(), "Record field is absent: " + type.getFieldName(i));
 				}
 
-				map.put(entry.getKey(), entry.getValue().deserializeValue(subElem, this));
+				fieldValues[i] = fieldType.deserializeValue(subElem, this);
 			}
 
-			return map;
+			return type.createRecord(fieldValues);
 		}
 
 		throw new ValueDeserializationException(elem, Map.class, "JsonElement of wrong type");
 	}
 
+	@Override
+	public JsonElement serializeIntArray(int[] value, IntArraySerializableType type) {
+		JsonArray arr = new JsonArray();
+
+		for (int v : value) {
+			// Jankson represents all integral numbers as longs
+			arr.add(new JsonPrimitive((long) v));
+		}
+
+		return arr;
+	}
+
+	@Override
+	public int[] deserializeIntArray(JsonElement elem, IntArraySerializableType type) throws ValueDeserializationException {
+		JsonArray arr = asPackedArray(elem, int[].class);
+		int[] ret = new int[arr.size()];
+
+		for (int i = 0; i < ret.length; i++) {
+			long value = deserializePackedLong(arr.get(i));
+
+			if ((int) value != value) {
+				throw new ValueDeserializationException(value, int.class, "Number out of int range");
+			}
+
+			ret[i] = (int) value;
+		}
+
+		return ret;
+	}
+
+	@Override
+	public JsonElement serializeLongArray(long[] value, LongArraySerializableType type) {
+		JsonArray arr = new JsonArray();
+
+		for (long v : value) {
+			arr.add(new JsonPrimitive(v));
+		}
+
+		return arr;
+	}
+
+	@Override
+	public long[] deserializeLongArray(JsonElement elem, LongArraySerializableType type) throws ValueDeserializationException {
+		JsonArray arr = asPackedArray(elem, long[].class);
+		long[] ret = new long[arr.size()];
+
+		for (int i = 0; i < ret.length; i++) {
+			ret[i] = deserializePackedLong(arr.get(i));
+		}
+
+		return ret;
+	}
+
+	@Override
+	public JsonElement serializeDoubleArray(double[] value, DoubleArraySerializableType type) {
+		JsonArray arr = new JsonArray();
+
+		for (double v : value) {
+			arr.add(new JsonPrimitive(v));
+		}
+
+		return arr;
+	}
+
+	@Override
+	public double[] deserializeDoubleArray(JsonElement elem, DoubleArraySerializableType type) throws ValueDeserializationException {
+		JsonArray arr = asPackedArray(elem, double[].class);
+		double[] ret = new double[arr.size()];
+
+		for (int i = 0; i < ret.length; i++) {
+			ret[i] = deserializePackedDouble(arr.get(i));
+		}
+
+		return ret;
+	}
+
+	private static JsonArray asPackedArray(JsonElement elem, Class<?> arrayType) throws ValueDeserializationException {
+		if (elem instanceof JsonArray) {
+			return (JsonArray) elem;
+		}
+
+		throw new ValueDeserializationException(elem, arrayType, "JsonElement of wrong type");
+	}
+
+	private static long deserializePackedLong(JsonElement elem) throws ValueDeserializationException {
+		if (elem instanceof JsonPrimitive) {
+			Object value = ((JsonPrimitive) elem).getValue();
+
+			if (value instanceof Long || value instanceof Integer) {
+				return ((Number) value).longValue();
+			}
+
+			String str = ((JsonPrimitive) elem).asString();
+
+			try {
+				return new BigDecimal(str).longValueExact();
+			} catch (NumberFormatException | ArithmeticException e) {
+				throw new ValueDeserializationException(str, long.class, "JsonPrimitive string not a valid integral number", e);
+			}
+		}
+
+		throw new ValueDeserializationException(elem, long.class, "JsonElement of wrong type");
+	}
+
+	private static double deserializePackedDouble(JsonElement elem) throws ValueDeserializationException {
+		if (elem instanceof JsonPrimitive) {
+			Object value = ((JsonPrimitive) elem).getValue();
+
+			if (value instanceof Number) {
+				return ((Number) value).doubleValue();
+			}
+
+			String str = ((JsonPrimitive) elem).asString();
+
+			try {
+				return Double.parseDouble(str);
+			} catch (NumberFormatException e) {
+				throw new ValueDeserializationException(str, double.class, "JsonPrimitive string not a valid number", e);
+			}
+		}
+
+		throw new ValueDeserializationException(elem, double.class, "JsonElement of wrong type");
+	}
+
 	@Override
 	public void addElement(String name, JsonElement elem, JsonObject target, @Nullable String comment) {
 		target.put(name, elem);
@@ -9,8 +9,11 @@ import blue.endless.jankson.JsonObject;
 import blue.endless.jankson.JsonPrimitive;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.BooleanSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DecimalSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DoubleArraySerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.EnumSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.IntArraySerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.ListSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.LongArraySerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.MapSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.RecordSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
@@ -110,4 +113,34 @@ public class JsonTypeSerializer implements TypeSerializer<JsonObject> {
 			json.put("pattern", new JsonPrimitive(pattern.toString()));
 		}
 	}
+
+	@Override
+	public void serialize(IntArraySerializableType type, JsonObject json) {
+		this.serializePackedArray(new JsonPrimitive((long) type.getMinValue()), new JsonPrimitive((long) type.getMaxValue()), type.getMinSize(), type.getMaxSize(), json);
+	}
+
+	@Override
+	public void serialize(LongArraySerializableType type, JsonObject json) {
+		this.serializePackedArray(new JsonPrimitive(type.getMinValue()), new JsonPrimitive(type.getMaxValue()), type.getMinSize(), type.getMaxSize(), json);
+	}
+
+	@Override
+	public void serialize(DoubleArraySerializableType type, JsonObject json) {
+		this.serializePackedArray(new JsonPrimitive(type.getMinValue()), new JsonPrimitive(type.getMaxValue()), type.getMinSize(), type.getMaxSize(), json);
+	}
+
+	/**
+	 * Packed arrays share their serialized form with lists of numbers, so they are described the same way.
+	 */
+	private void serializePackedArray(JsonPrimitive min, JsonPrimitive max, int minSize, int maxSize, JsonObject json) {
+		json.put("type", new JsonPrimitive("list"));
+		JsonObject elementType = new JsonObject();
+		elementType.put("type", new JsonPrimitive("number"));
+		elementType.put("min", min);
+		elementType.put("max", max);
+		json.put("elementType", elementType);
+		json.put("unique", new JsonPrimitive(false));
+		json.put("minSize", new JsonPrimitive(minSize));
+		json.put("maxSize", new JsonPrimitive(maxSize));
+	}
 }
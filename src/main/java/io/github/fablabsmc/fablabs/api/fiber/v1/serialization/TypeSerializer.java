@@ -2,12 +2,16 @@ package io.github.fablabsmc.fablabs.api.fiber.v1.serialization;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.BooleanSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DecimalSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DoubleArraySerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.EnumSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.IntArraySerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.ListSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.LongArraySerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.MapSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.RecordSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.StringSerializableType;
+import io.github.fablabsmc.fablabs.impl.fiber.serialization.PackedArrays;
 
 /**
  * A serializer visitor for {@link SerializableType} schemas.
@@ -50,6 +54,33 @@ public interface TypeSerializer<T> {
 	 */
 	void serialize(StringSerializableType type, T target);
 
+	/**
+	 * Serializes a packed {@code int} array schema to the target.
+	 *
+	 * <p>The default implementation serializes the equivalent list of decimals.
+	 */
+	default void serialize(IntArraySerializableType type, T target) {
+		this.serialize(PackedArrays.listType(type), target);
+	}
+
+	/**
+	 * Serializes a packed {@code long} array schema to the target.
+	 *
+	 * <p>The default implementation serializes the equivalent list of decimals.
+	 */
+	default void serialize(LongArraySerializableType type, T target) {
+		this.serialize(PackedArrays.listType(type), target);
+	}
+
+	/**
+	 * Serializes a packed {@code double} array schema to the target.
+	 *
+	 * <p>The default implementation serializes the equivalent list of decimals.
+	 */
+	default void serialize(DoubleArraySerializableType type, T target) {
+		this.serialize(PackedArrays.listType(type), target);
+	}
+
 	/**
 	 * Serializes the given {@link SerializableType} to the target.
 	 *
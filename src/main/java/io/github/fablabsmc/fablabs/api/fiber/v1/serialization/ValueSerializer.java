@@ -13,12 +13,16 @@ import javax.annotation.Nullable;
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.BooleanSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DecimalSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DoubleArraySerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.EnumSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.IntArraySerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.ListSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.LongArraySerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.MapSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.RecordSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.StringSerializableType;
+import io.github.fablabsmc.fablabs.impl.fiber.serialization.PackedArrays;
 
 /**
  * Adapter between a tree serialization library and Fiber. To use a library like
@@ -171,6 +175,90 @@ public interface ValueSerializer<A, T> {
 	 */
 	Map<String, Object> deserializeRecord(A elem, RecordSerializableType type) throws ValueDeserializationException;
 
+	/**
+	 * Converts a packed {@code int} array into the serialized form.
+	 *
+	 * <p>The default implementation serializes the array as a {@linkplain #serializeList(List, ListSerializableType) list}
+	 * of decimals. Implementations should override it to write the elements directly, without boxing them.
+	 *
+	 * @param value The array value.
+	 * @param type  The type of the array value.
+	 */
+	default A serializeIntArray(int[] value, IntArraySerializableType type) {
+		return this.serializeList(PackedArrays.toList(value), PackedArrays.listType(type));
+	}
+
+	/**
+	 * Converts the serialized form to a packed {@code int} array.
+	 *
+	 * <p>The default implementation deserializes the array as a {@linkplain #deserializeList(Object, ListSerializableType) list}
+	 * of decimals.
+	 *
+	 * @param elem The serialized form.
+	 * @param type The type of the array value.
+	 * @throws ValueDeserializationException If the serialized form cannot be converted into an object of
+	 *                                       the correct platform type.
+	 */
+	default int[] deserializeIntArray(A elem, IntArraySerializableType type) throws ValueDeserializationException {
+		return PackedArrays.toIntArray(this.deserializeList(elem, PackedArrays.listType(type)));
+	}
+
+	/**
+	 * Converts a packed {@code long} array into the serialized form.
+	 *
+	 * <p>The default implementation serializes the array as a {@linkplain #serializeList(List, ListSerializableType) list}
+	 * of decimals. Implementations should override it to write the elements directly, without boxing them.
+	 *
+	 * @param value The array value.
+	 * @param type  The type of the array value.
+	 */
+	default A serializeLongArray(long[] value, LongArraySerializableType type) {
+		return this.serializeList(PackedArrays.toList(value), PackedArrays.listType(type));
+	}
+
+	/**
+	 * Converts the serialized form to a packed {@code long} array.
+	 *
+	 * <p>The default implementation deserializes the array as a {@linkplain #deserializeList(Object, ListSerializableType) list}
+	 * of decimals.
+	 *
+	 * @param elem The serialized form.
+	 * @param type The type of the array value.
+	 * @throws ValueDeserializationException If the serialized form cannot be converted into an object of
+	 *                                       the correct platform type.
+	 */
+	default long[] deserializeLongArray(A elem, LongArraySerializableType type) throws ValueDeserializationException {
+		return PackedArrays.toLongArray(this.deserializeList(elem, PackedArrays.listType(type)));
+	}
+
+	/**
+	 * Converts a packed {@code double} array into the serialized form.
+	 *
+	 * <p>The default implementation serializes the array as a {@linkplain #serializeList(List, ListSerializableType) list}
+	 * of decimals. Implementations should override it to write the elements directly, without boxing them.
+	 *
+	 * @param value The array value.
+	 * @param type  The type of the array value.
+	 */
+	default A serializeDoubleArray(double[] value, DoubleArraySerializableType type) {
+		return this.serializeList(PackedArrays.toList(value), PackedArrays.listType(type));
+	}
+
+	/**
+	 * Converts the serialized form to a packed {@code double} array.
+	 *
+	 * <p>The default implementation deserializes the array as a {@linkplain #deserializeList(Object, ListSerializableType) list}
+	 * of decimals.
+	 *
+	 * @param elem The serialized form.
+	 * @param type The type of the array value.
+	 * @throws ValueDeserializationException If the serialized form cannot be converted into an object of
+	 *                                       the correct platform type.
+	 */
+	default double[] deserializeDoubleArray(A elem, DoubleArraySerializableType type) throws ValueDeserializationException {
+		return PackedArrays.toDoubleArray(this.deserializeList(elem, PackedArrays.listType(type)));
+	}
+
 	/**
 	 * Aggregates a serialized value, associated with the given key, into the target. It is unspecified
 	 * whether duplicate keys are allowed.
@@ -0,0 +1,237 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.sync;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import io.github.fablabsmc.fablabs.impl.fiber.sync.SyncCodec;
+
+/**
+ * The receiving side of a config synchronization, applying the frames of a {@link ConfigSyncServer} to a local tree.
+ *
+ * <p>The local tree is expected to have the same schema as the server's tree. Leaves of the server which
+ * do not exist locally, or which values are encoded differently from the local leaf's type, as told by
+ * the type fingerprints of the snapshot, are skipped. Every value is set through
+ * {@link ConfigLeaf#setValue(Object)}, so local constraints and listeners apply; values equal to the
+ * current value of a leaf are not set again. The values of a frame are decoded before any of them is set.
+ *
+ * <p>Until the client receives its first snapshot, and whenever it detects a missed frame, it
+ * {@linkplain #isResyncRequired() requires a resynchronization}. This class is thread-safe.
+ */
+public final class ConfigSyncClient {
+	private final ConfigTree tree;
+	/**
+	 * The local leaf of every id of the server's table, {@code null} for leaves which do not exist locally.
+	 */
+	private ConfigLeaf<?>[] table = new ConfigLeaf<?>[0];
+	private int epoch = -1;
+	private long sequence = -1;
+	private boolean resyncRequired = true;
+
+	public ConfigSyncClient(ConfigTree tree) {
+		this.tree = tree;
+	}
+
+	/**
+	 * Returns the sequence number of the last frame applied by this client, or {@code -1} if none was applied.
+	 */
+	public synchronized long getSequence() {
+		return this.sequence;
+	}
+
+	/**
+	 * Returns {@code true} if this client needs a new snapshot to apply further deltas.
+	 */
+	public synchronized boolean isResyncRequired() {
+		return this.resyncRequired;
+	}
+
+	/**
+	 * Encodes a request for a new snapshot, to be passed to {@link ConfigSyncServer#handleRequest(byte[])}.
+	 *
+	 * @return a resync request frame
+	 */
+	public synchronized byte[] resyncRequest() {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		try {
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeByte(SyncCodec.RESYNC_REQUEST);
+			out.writeLong(this.sequence);
+		} catch (IOException e) {
+			// byte array streams do not throw
+			throw new UncheckedIOException(e);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Applies a snapshot or delta frame produced by a {@link ConfigSyncServer}.
+	 *
+	 * @param frame the frame
+	 * @return the outcome of the frame
+	 * @throws IOException if the frame is malformed
+	 */
+	public synchronized SyncStatus accept(byte[] frame) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(frame));
+		byte type = in.readByte();
+
+		if (type == SyncCodec.SNAPSHOT) {
+			this.acceptSnapshot(in);
+			return SyncStatus.APPLIED;
+		} else if (type != SyncCodec.DELTA) {
+			throw new IOException("Unknown frame type " + type);
+		}
+
+		int epoch = SyncCodec.readVarInt(in);
+		long sequence = in.readLong();
+
+		if (this.resyncRequired || epoch != this.epoch) {
+			this.resyncRequired = true;
+			return SyncStatus.RESYNC_REQUIRED;
+		} else if (sequence <= this.sequence) {
+			return SyncStatus.IGNORED;
+		} else if (sequence != this.sequence + 1) {
+			this.resyncRequired = true;
+			return SyncStatus.RESYNC_REQUIRED;
+		}
+
+		// every change takes at least a leaf id and a value length
+		int count = SyncCodec.readLength(in, 2);
+		ConfigLeaf<?>[] leaves = new ConfigLeaf<?>[count];
+		Object[] values = new Object[count];
+
+		for (int i = 0; i < count; i++) {
+			int id = SyncCodec.readLength(in);
+
+			if (id >= this.table.length) {
+				throw new IOException("Unknown leaf id " + id);
+			}
+
+			leaves[i] = this.table[id];
+			values[i] = readValue(in, leaves[i]);
+		}
+
+		this.apply(leaves, values);
+		this.sequence = sequence;
+		return SyncStatus.APPLIED;
+	}
+
+	private void acceptSnapshot(DataInputStream in) throws IOException {
+		int epoch = SyncCodec.readVarInt(in);
+		long sequence = in.readLong();
+		// every leaf takes at least a path length, a type fingerprint and a value length
+		int count = SyncCodec.readLength(in, 2 + Long.BYTES);
+		ConfigLeaf<?>[] table = new ConfigLeaf<?>[count];
+		Object[] values = new Object[count];
+
+		for (int id = 0; id < count; id++) {
+			String[] path = new String[SyncCodec.readLength(in, 1)];
+
+			for (int i = 0; i < path.length; i++) {
+				path[i] = SyncCodec.readString(in);
+			}
+
+			table[id] = this.findLeaf(path, in.readLong());
+			values[id] = readValue(in, table[id]);
+		}
+
+		this.apply(table, values);
+		this.table = table;
+		this.epoch = epoch;
+		this.sequence = sequence;
+		this.resyncRequired = false;
+	}
+
+	/**
+	 * Finds the local leaf at the given path, if its type has the given fingerprint.
+	 */
+	@Nullable
+	private ConfigLeaf<?> findLeaf(String[] path, long fingerprint) {
+		ConfigTree tree = this.tree;
+
+		for (int i = 0; i < path.length - 1; i++) {
+			ConfigBranch branch = tree.lookupBranch(path[i]);
+
+			if (branch == null) {
+				return null;
+			}
+
+			tree = branch;
+		}
+
+		ConfigNode node = path.length == 0 ? null : tree.lookup(path[path.length - 1]);
+
+		if (node instanceof ConfigLeaf) {
+			ConfigLeaf<?> leaf = (ConfigLeaf<?>) node;
+
+			try {
+				if (SyncCodec.typeFingerprint(leaf.getConfigType()) == fingerprint) {
+					return leaf;
+				}
+			} catch (IllegalArgumentException e) {
+				// the local leaf has a type which cannot be synchronized
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Reads a length-prefixed value for a local leaf.
+	 *
+	 * @return the decoded value, or {@code null} if the leaf does not exist locally or the value does not match its type
+	 */
+	@Nullable
+	private static Object readValue(DataInputStream in, @Nullable ConfigLeaf<?> leaf) throws IOException {
+		byte[] bytes = new byte[SyncCodec.readLength(in, 1)];
+		in.readFully(bytes);
+
+		if (leaf == null) {
+			return null;
+		}
+
+		DataInputStream value = new DataInputStream(new ByteArrayInputStream(bytes));
+
+		try {
+			Object decoded = SyncCodec.readValue(value, leaf.getConfigType());
+			// types are matched by the snapshot, trailing bytes mean that the frame is corrupted
+			return value.available() == 0 ? decoded : null;
+		} catch (IOException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private void apply(ConfigLeaf<?>[] leaves, Object[] values) {
+		for (int i = 0; i < leaves.length; i++) {
+			if (leaves[i] != null && values[i] != null) {
+				setValue(leaves[i], values[i]);
+			}
+		}
+	}
+
+	private static <T> void setValue(ConfigLeaf<T> leaf, Object value) {
+		T cast;
+
+		try {
+			cast = leaf.getConfigType().cast(value);
+		} catch (ClassCastException e) {
+			return;
+		}
+
+		if (!Objects.deepEquals(leaf.getValue(), cast)) {
+			leaf.setValue(cast);
+		}
+	}
+}
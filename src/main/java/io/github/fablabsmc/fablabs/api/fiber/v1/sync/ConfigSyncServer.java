@@ -0,0 +1,269 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.sync;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import io.github.fablabsmc.fablabs.impl.fiber.sync.SyncCodec;
+import io.github.fablabsmc.fablabs.impl.fiber.tree.ConfigBranchImpl;
+
+/**
+ * The authoritative side of a config synchronization, producing frames for {@link ConfigSyncClient}s.
+ *
+ * <p>The server assigns an id to every leaf of its tree. A {@linkplain #snapshot() snapshot} carries this
+ * leaf-id table, with the path and a fingerprint of the type of every leaf, along with every value, and is sent to clients when they join or need to resynchronize.
+ * Afterwards, {@linkplain #delta() deltas} only carry the ids and values of the leaves which changed
+ * since the previous delta, and can be broadcast to every client. Each delta has the next sequence number,
+ * so that clients detect missed frames. When nodes are added to or removed from a tree built by Fiber,
+ * the table is rebuilt under a new epoch, and the next delta is a snapshot instead.
+ *
+ * <p>Frames are plain byte arrays, and can be sent over any {@link SyncTransport}.
+ * Changes are tracked through a single listener per leaf, which stays registered for the lifetime of the server
+ * and only marks leaves of the current table as changed; values of fields backing settings objects are only
+ * tracked once read or written through their leaf. This class is thread-safe.
+ *
+ * <pre>
+ * ConfigSyncServer server = new ConfigSyncServer(tree);
+ * // on join
+ * clientTransport.send(server.snapshot());
+ * // every tick
+ * byte[] delta = server.delta();
+ * if (delta != null) for (SyncTransport client : clients) client.send(delta);
+ * </pre>
+ */
+public final class ConfigSyncServer {
+	private final ConfigTree tree;
+	private final List<ConfigLeaf<?>> leaves = new ArrayList<>();
+	private final List<String[]> paths = new ArrayList<>();
+	private final List<Long> fingerprints = new ArrayList<>();
+	/**
+	 * The id of every leaf of the current table, looked up by the change listeners.
+	 */
+	private final Map<ConfigLeaf<?>, Integer> ids = new IdentityHashMap<>();
+	/**
+	 * The leaves which have been given a change listener, which must only happen once per leaf
+	 * since listeners cannot be removed. Weakly referenced, so that removed leaves can be collected.
+	 */
+	private final Set<ConfigLeaf<?>> tracked = Collections.newSetFromMap(new WeakHashMap<>());
+	private final BitSet dirty = new BitSet();
+	private int epoch = -1;
+	private long sequence;
+	private long structureVersion;
+	/**
+	 * {@code true} if the table was rebuilt by {@link #snapshot()}, and the other clients have not been sent the new table yet.
+	 */
+	private boolean tableChanged;
+
+	public ConfigSyncServer(ConfigTree tree) {
+		this.tree = tree;
+		this.rebuildTable();
+	}
+
+	/**
+	 * Returns the sequence number of the last frame produced by this server.
+	 */
+	public synchronized long getSequence() {
+		return this.sequence;
+	}
+
+	/**
+	 * Returns the amount of leaves in the current leaf-id table.
+	 */
+	public synchronized int getLeafCount() {
+		return this.leaves.size();
+	}
+
+	/**
+	 * Encodes a snapshot of the whole tree, with the current sequence number.
+	 *
+	 * <p>Snapshots do not consume changes: a client receiving a snapshot must still receive the following deltas.
+	 *
+	 * @return a snapshot frame
+	 */
+	public synchronized byte[] snapshot() {
+		if (this.structureChanged()) {
+			this.rebuildTable();
+			this.sequence++;
+			this.tableChanged = true;
+		}
+
+		return this.encodeSnapshot();
+	}
+
+	/**
+	 * Encodes the changes made since the previous delta, with the next sequence number.
+	 *
+	 * @return a delta frame, a snapshot frame if the structure of the tree changed,
+	 * or {@code null} if nothing changed
+	 */
+	@Nullable
+	public synchronized byte[] delta() {
+		if (this.structureChanged()) {
+			this.rebuildTable();
+			this.sequence++;
+			return this.encodeSnapshot();
+		} else if (this.tableChanged) {
+			// the snapshot carries every value, including pending changes
+			this.tableChanged = false;
+			this.dirty.clear();
+			return this.encodeSnapshot();
+		}
+
+		if (this.dirty.isEmpty()) {
+			return null;
+		}
+
+		this.sequence++;
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ByteArrayOutputStream scratch = new ByteArrayOutputStream();
+
+		try {
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeByte(SyncCodec.DELTA);
+			SyncCodec.writeVarInt(out, this.epoch);
+			out.writeLong(this.sequence);
+			SyncCodec.writeVarInt(out, this.dirty.cardinality());
+
+			for (int id = this.dirty.nextSetBit(0); id >= 0; id = this.dirty.nextSetBit(id + 1)) {
+				SyncCodec.writeVarInt(out, id);
+				this.writeValue(out, scratch, id);
+			}
+		} catch (IOException e) {
+			// byte array streams do not throw
+			throw new UncheckedIOException(e);
+		}
+
+		this.dirty.clear();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Handles a {@linkplain ConfigSyncClient#resyncRequest() resync request} sent by a client.
+	 *
+	 * @param request the request frame
+	 * @return a snapshot frame to send back to the client
+	 * @throws IOException if the request is malformed
+	 */
+	public synchronized byte[] handleRequest(byte[] request) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(request));
+
+		if (in.readByte() != SyncCodec.RESYNC_REQUEST) {
+			throw new IOException("Not a resync request");
+		}
+
+		// deltas are not retained, clients always catch up from a snapshot
+		in.readLong();
+		return this.snapshot();
+	}
+
+	private boolean structureChanged() {
+		return this.tree instanceof ConfigBranchImpl && ((ConfigBranchImpl) this.tree).getStructureVersion() != this.structureVersion;
+	}
+
+	private void rebuildTable() {
+		if (this.tree instanceof ConfigBranchImpl) {
+			this.structureVersion = ((ConfigBranchImpl) this.tree).getStructureVersion();
+		}
+
+		this.epoch++;
+		this.tableChanged = false;
+		this.leaves.clear();
+		this.paths.clear();
+		this.fingerprints.clear();
+		this.ids.clear();
+		this.dirty.clear();
+		this.collectLeaves(this.tree, new ArrayList<>());
+	}
+
+	private void collectLeaves(ConfigTree tree, List<String> path) {
+		for (ConfigNode child : tree.getItems()) {
+			path.add(child.getName());
+
+			if (child instanceof ConfigTree) {
+				this.collectLeaves((ConfigTree) child, path);
+			} else if (child instanceof ConfigLeaf) {
+				ConfigLeaf<?> leaf = (ConfigLeaf<?>) child;
+				this.ids.put(leaf, this.leaves.size());
+				this.leaves.add(leaf);
+				this.paths.add(path.toArray(new String[0]));
+				this.fingerprints.add(SyncCodec.typeFingerprint(leaf.getConfigType()));
+
+				if (this.tracked.add(leaf)) {
+					this.track(leaf);
+				}
+			}
+
+			path.remove(path.size() - 1);
+		}
+	}
+
+	private <T> void track(ConfigLeaf<T> leaf) {
+		// the listener stays registered for the lifetime of the server, and finds the id of the leaf in the current table
+		leaf.addChangeListener((oldValue, newValue) -> this.changed(leaf));
+	}
+
+	private synchronized void changed(ConfigLeaf<?> leaf) {
+		Integer id = this.ids.get(leaf);
+
+		if (id != null) {
+			this.dirty.set(id);
+		}
+	}
+
+	private byte[] encodeSnapshot() {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ByteArrayOutputStream scratch = new ByteArrayOutputStream();
+
+		try {
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeByte(SyncCodec.SNAPSHOT);
+			SyncCodec.writeVarInt(out, this.epoch);
+			out.writeLong(this.sequence);
+			SyncCodec.writeVarInt(out, this.leaves.size());
+
+			for (int id = 0; id < this.leaves.size(); id++) {
+				String[] path = this.paths.get(id);
+				SyncCodec.writeVarInt(out, path.length);
+
+				for (String name : path) {
+					SyncCodec.writeString(out, name);
+				}
+
+				out.writeLong(this.fingerprints.get(id));
+				this.writeValue(out, scratch, id);
+			}
+		} catch (IOException e) {
+			// byte array streams do not throw
+			throw new UncheckedIOException(e);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Writes the value of a leaf preceded by its length, so that clients can skip leaves they do not know.
+	 */
+	private void writeValue(DataOutputStream out, ByteArrayOutputStream scratch, int id) throws IOException {
+		ConfigLeaf<?> leaf = this.leaves.get(id);
+		scratch.reset();
+		SyncCodec.writeValue(new DataOutputStream(scratch), leaf.getConfigType(), leaf.getValue());
+		SyncCodec.writeVarInt(out, scratch.size());
+		scratch.writeTo(out);
+	}
+}
@@ -0,0 +1,53 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.sync;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import javax.annotation.Nullable;
+
+/**
+ * An in-memory {@link SyncTransport}, queuing frames until they are {@linkplain #poll() polled}.
+ *
+ * <p>Loopback transports connect servers and clients living in the same process, such as in tests and benchmarks.
+ * This class is thread-safe.
+ *
+ * <pre>
+ * LoopbackTransport transport = new LoopbackTransport();
+ * transport.send(server.snapshot());
+ * for (byte[] frame; (frame = transport.poll()) != null; ) client.accept(frame);
+ * </pre>
+ */
+public final class LoopbackTransport implements SyncTransport {
+	private final Queue<byte[]> frames = new ArrayDeque<>();
+	private long bytesSent;
+
+	@Override
+	public synchronized void send(byte[] frame) {
+		this.frames.add(frame);
+		this.bytesSent += frame.length;
+	}
+
+	/**
+	 * Removes the oldest frame sent through this transport.
+	 *
+	 * @return the oldest pending frame, or {@code null} if there is none
+	 */
+	@Nullable
+	public synchronized byte[] poll() {
+		return this.frames.poll();
+	}
+
+	/**
+	 * Returns the amount of pending frames.
+	 */
+	public synchronized int size() {
+		return this.frames.size();
+	}
+
+	/**
+	 * Returns the total length of the frames sent through this transport.
+	 */
+	public synchronized long getBytesSent() {
+		return this.bytesSent;
+	}
+}
@@ -0,0 +1,21 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.sync;
+
+/**
+ * The outcome of a frame received by a {@link ConfigSyncClient}.
+ */
+public enum SyncStatus {
+	/**
+	 * The frame was applied to the client's tree.
+	 */
+	APPLIED,
+	/**
+	 * The frame was older than the client's state, and was discarded.
+	 */
+	IGNORED,
+	/**
+	 * The frame could not be applied, because the client missed frames or has not received a snapshot
+	 * of the current leaf-id table. The client needs a new snapshot, which can be requested
+	 * by sending its {@linkplain ConfigSyncClient#resyncRequest() resync request} to the server.
+	 */
+	RESYNC_REQUIRED
+}
@@ -0,0 +1,79 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.sync;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.impl.fiber.sync.StreamSyncTransport;
+
+/**
+ * A channel carrying the frames of a config synchronization to a single peer.
+ *
+ * <p>Frames are opaque byte arrays which must be delivered whole. Transports over message-based
+ * channels, such as game networking packets, can send each frame as a single message. Transports over
+ * byte streams can use {@link #of(OutputStream)} and {@link #readFrame(InputStream)}, which delimit
+ * frames with their length; byte channels can be adapted with
+ * {@link java.nio.channels.Channels#newOutputStream(java.nio.channels.WritableByteChannel)} and
+ * {@link java.nio.channels.Channels#newInputStream(java.nio.channels.ReadableByteChannel)}.
+ *
+ * @see LoopbackTransport
+ */
+@FunctionalInterface
+public interface SyncTransport {
+	/**
+	 * The maximum length of the frames read by {@link #readFrame(InputStream)}, in bytes.
+	 */
+	int DEFAULT_MAX_FRAME_SIZE = 1 << 20;
+
+	/**
+	 * Returns a transport writing length-prefixed frames to a stream, flushing it after every frame.
+	 *
+	 * @param out the stream to write frames to
+	 * @return a stream transport
+	 * @see #readFrame(InputStream)
+	 */
+	static SyncTransport of(OutputStream out) {
+		return new StreamSyncTransport(out);
+	}
+
+	/**
+	 * Reads a frame written by a {@linkplain #of(OutputStream) stream transport}, at most
+	 * {@value #DEFAULT_MAX_FRAME_SIZE} bytes long.
+	 *
+	 * @param in the stream to read the frame from
+	 * @return the frame, or {@code null} if the stream ended before the frame
+	 * @throws IOException if the stream ended within the frame, the frame is too long, or the stream could not be read
+	 * @see #readFrame(InputStream, int)
+	 */
+	@Nullable
+	static byte[] readFrame(InputStream in) throws IOException {
+		return readFrame(in, DEFAULT_MAX_FRAME_SIZE);
+	}
+
+	/**
+	 * Reads a frame written by a {@linkplain #of(OutputStream) stream transport}.
+	 *
+	 * <p>The length of a frame is read from the stream, so a peer could otherwise make the reader allocate
+	 * up to 2 GiB for a single frame. Longer frames are rejected before any memory is allocated for them.
+	 *
+	 * @param in the stream to read the frame from
+	 * @param maxFrameSize the maximum length of the frame, in bytes
+	 * @return the frame, or {@code null} if the stream ended before the frame
+	 * @throws IOException if the stream ended within the frame, the frame is longer than {@code maxFrameSize},
+	 * or the stream could not be read
+	 */
+	@Nullable
+	static byte[] readFrame(InputStream in, int maxFrameSize) throws IOException {
+		return StreamSyncTransport.readFrame(in, maxFrameSize);
+	}
+
+	/**
+	 * Sends a frame to the peer.
+	 *
+	 * @param frame the frame to send
+	 * @throws IOException if the frame could not be sent
+	 */
+	void send(byte[] frame) throws IOException;
+}
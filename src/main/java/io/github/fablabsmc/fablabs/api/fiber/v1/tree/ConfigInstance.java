@@ -0,0 +1,77 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.tree;
+
+import javax.annotation.Nonnull;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+
+/**
+ * The values of a config with a given {@link ConfigShape}.
+ *
+ * <p>An instance only holds a table with one value per slot of its shape. Values can be accessed by slot,
+ * through {@linkplain #getProperty(int, SerializableType) properties} that can be bound to mirrors,
+ * or through a {@linkplain #asTree() tree view}. Every value is checked against the constraints of its
+ * leaf's type, exactly like the values of a regular {@link ConfigLeaf}.
+ *
+ * <p>Like config trees, instances are not thread-safe.
+ */
+public interface ConfigInstance {
+	/**
+	 * Returns the shape of this instance.
+	 */
+	ConfigShape getShape();
+
+	/**
+	 * Returns the value in the given slot.
+	 *
+	 * @param slot the slot of a leaf
+	 * @param type the type of the leaf
+	 * @param <T>  the type of values held by the leaf
+	 * @return the value of the leaf
+	 * @throws ClassCastException        if {@code type} is not assignable from the type of the leaf
+	 * @throws IndexOutOfBoundsException if {@code slot} is not a slot of this instance's shape
+	 */
+	@Nonnull
+	<T> T getValue(int slot, SerializableType<T> type);
+
+	/**
+	 * Sets the value in the given slot.
+	 *
+	 * <p>If this instance is {@linkplain #asTree() viewed as a tree}, the listeners of the corresponding leaf are notified.
+	 *
+	 * @param slot  the slot of a leaf
+	 * @param type  the type of the leaf
+	 * @param value the new value of the leaf
+	 * @param <T>   the type of values held by the leaf
+	 * @return {@code true} if the value was set, possibly after being corrected,
+	 * {@code false} if it was rejected by the leaf's type
+	 * @throws ClassCastException        if {@code type} is not assignable from the type of the leaf
+	 * @throws IndexOutOfBoundsException if {@code slot} is not a slot of this instance's shape
+	 */
+	<T> boolean setValue(int slot, SerializableType<T> type, @Nonnull T value);
+
+	/**
+	 * Returns a property reading and writing the value in the given slot.
+	 *
+	 * <p>The returned property can notably be {@linkplain PropertyMirror#mirror(Property) mirrored}.
+	 *
+	 * @param slot the slot of a leaf
+	 * @param type the type of the leaf
+	 * @param <T>  the type of values held by the leaf
+	 * @return a property backed by this instance
+	 * @throws ClassCastException        if {@code type} is not assignable from the type of the leaf
+	 * @throws IndexOutOfBoundsException if {@code slot} is not a slot of this instance's shape
+	 */
+	<T> Property<T> getProperty(int slot, SerializableType<T> type);
+
+	/**
+	 * Returns a view of this instance as a config tree.
+	 *
+	 * <p>The leaves of the view read and write the values of this instance, and can be serialized, queried,
+	 * and bound to mirrors like any other leaf. The view is created on the first call to this method,
+	 * and kept until this instance is discarded. Nodes added to or removed from the view do not change the shape,
+	 * and the attributes of the view are copies of the attributes of the shape, which can be changed independently.
+	 *
+	 * @return a tree view of this instance
+	 */
+	ConfigBranch asTree();
+}
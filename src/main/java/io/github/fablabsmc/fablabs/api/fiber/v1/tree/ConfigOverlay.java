@@ -0,0 +1,119 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.tree;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+import io.github.fablabsmc.fablabs.impl.fiber.tree.ConfigOverlayImpl;
+
+/**
+ * A stack of config trees, where each layer overrides the leaves of the layers below it.
+ *
+ * <p>Layers are ordered from the bottom to the top, typically from defaults to the most specific
+ * settings, like defaults, global, per-world and per-player settings. Upper layers only need to hold
+ * the leaves they override: a leaf is resolved from the topmost layer holding a leaf with the same path.
+ * Layers are never copied, so that any number of overlays can share the same base layers.
+ *
+ * <p>Resolved leaves are cached per path. The cache is invalidated when nodes are added to or removed
+ * from a layer built by Fiber; if other layers change structure, {@link #invalidate()} must be called.
+ * Values are always read from the resolved leaves, so value changes are reflected immediately.
+ *
+ * <pre>
+ * ConfigOverlay overlay = ConfigOverlay.of(defaults, global, playerSettings);
+ * BigDecimal distance = overlay.getValue(ConfigTypes.NATURAL.getSerializedType(), "view", "distance");
+ * overlay.setValue(2, ConfigTypes.NATURAL.getSerializedType(), BigDecimal.valueOf(12), "view", "distance");
+ * </pre>
+ *
+ * <p>Like config trees, overlays are not thread-safe.
+ */
+public interface ConfigOverlay {
+	/**
+	 * Creates an overlay stacking the given layers.
+	 *
+	 * @param layers the layers of the overlay, from the bottom to the top
+	 * @return an overlay of the given layers
+	 */
+	static ConfigOverlay of(ConfigTree... layers) {
+		return of(Arrays.asList(layers));
+	}
+
+	/**
+	 * Creates an overlay stacking the given layers.
+	 *
+	 * @param layers the layers of the overlay, from the bottom to the top
+	 * @return an overlay of the given layers
+	 */
+	static ConfigOverlay of(List<? extends ConfigTree> layers) {
+		return new ConfigOverlayImpl(layers);
+	}
+
+	/**
+	 * Returns the layers of this overlay, from the bottom to the top.
+	 */
+	List<ConfigTree> getLayers();
+
+	/**
+	 * Returns the leaf with the given path in the topmost layer holding one.
+	 *
+	 * @param path the names of the leaf's ancestors, followed by the leaf's name
+	 * @return the resolved leaf, or {@code null} if no layer holds a leaf with this path
+	 */
+	@Nullable
+	ConfigLeaf<?> resolve(String... path);
+
+	/**
+	 * Returns the index of the topmost layer holding a leaf with the given path.
+	 *
+	 * @param path the names of the leaf's ancestors, followed by the leaf's name
+	 * @return the index of the layer, or {@code -1} if no layer holds a leaf with this path
+	 */
+	int resolveLayer(String... path);
+
+	/**
+	 * Returns the value of the leaf with the given path in the topmost layer holding one.
+	 *
+	 * @param type the type of the leaf
+	 * @param path the names of the leaf's ancestors, followed by the leaf's name
+	 * @param <T>  the type of values held by the leaf
+	 * @return the resolved value, or {@code null} if no layer holds a leaf with this path
+	 * @throws ClassCastException if {@code type} is not assignable from the type of the resolved leaf
+	 */
+	@Nullable
+	<T> T getValue(SerializableType<T> type, String... path);
+
+	/**
+	 * Sets the value of a leaf in the given layer.
+	 *
+	 * <p>If the layer does not hold a leaf with this path yet, a leaf is created in it with the type, comment
+	 * and default value of the currently resolved leaf, along with any missing branch. The new leaf is only
+	 * added if the value is accepted.
+	 *
+	 * @param layer the index of the layer to write to
+	 * @param type  the type of the leaf
+	 * @param value the new value
+	 * @param path  the names of the leaf's ancestors, followed by the leaf's name
+	 * @param <T>   the type of values held by the leaf
+	 * @return {@code true} if the value was set, possibly after being corrected,
+	 * {@code false} if it was rejected by the leaf's type
+	 * @throws IllegalArgumentException if no layer holds a leaf with this path
+	 * @throws ClassCastException       if {@code type} is not assignable from the type of the leaf
+	 */
+	<T> boolean setValue(int layer, SerializableType<T> type, @Nonnull T value, String... path);
+
+	/**
+	 * Removes the leaf with the given path from the given layer, so that it resolves to the layers below.
+	 *
+	 * @param layer the index of the layer to remove the leaf from
+	 * @param path  the names of the leaf's ancestors, followed by the leaf's name
+	 * @return {@code true} if a leaf was removed
+	 */
+	boolean unset(int layer, String... path);
+
+	/**
+	 * Discards every cached resolution.
+	 */
+	void invalidate();
+}
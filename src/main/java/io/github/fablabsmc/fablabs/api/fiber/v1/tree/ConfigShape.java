@@ -0,0 +1,90 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.tree;
+
+import java.util.List;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+import io.github.fablabsmc.fablabs.impl.fiber.tree.ConfigShapeImpl;
+
+/**
+ * The frozen structure of a config tree, shared by any number of {@linkplain ConfigInstance instances}.
+ *
+ * <p>A shape holds everything but the values of a tree: the names, comments and attributes of its nodes,
+ * and the types and default values of its leaves. Each leaf is assigned a <em>slot</em>, an index between
+ * {@code 0} and {@link #getSlotCount()} (exclusive) following the iteration order of the tree.
+ * Instances only hold one value per slot, so that many configs with the same structure, like one per world
+ * or per player, only cost their values.
+ *
+ * <pre>
+ * ConfigShape shape = ConfigShape.of(ConfigTree.builder()
+ *         .withValue("viewDistance", ConfigTypes.NATURAL, 8)
+ *         .build());
+ * int viewDistance = shape.slotOf("viewDistance");
+ * ConfigInstance player = shape.newInstance();
+ * player.setValue(viewDistance, ConfigTypes.NATURAL.getSerializedType(), BigDecimal.valueOf(12));
+ * </pre>
+ */
+public interface ConfigShape {
+	/**
+	 * Freezes the structure of a tree into a shape.
+	 *
+	 * <p>The shape captures the current structure of {@code template}, and the default values of its leaves.
+	 * Later changes to {@code template} are not reflected by the shape. Attributes are shared
+	 * by every instance of the shape, and should not be modified afterwards.
+	 *
+	 * @param template the tree to freeze
+	 * @return the shape of {@code template}
+	 */
+	static ConfigShape of(ConfigTree template) {
+		return ConfigShapeImpl.freeze(template);
+	}
+
+	/**
+	 * Returns the amount of leaves in this shape.
+	 */
+	int getSlotCount();
+
+	/**
+	 * Returns the slot of the leaf with the given path.
+	 *
+	 * @param path the names of the leaf's ancestors below the root, followed by the leaf's name
+	 * @return the slot of the leaf, or {@code -1} if no leaf has this path
+	 */
+	int slotOf(String... path);
+
+	/**
+	 * Returns the path of the leaf in the given slot.
+	 *
+	 * @param slot the slot of a leaf
+	 * @return the names of the leaf's ancestors below the root, followed by the leaf's name
+	 * @throws IndexOutOfBoundsException if {@code slot} is not a slot of this shape
+	 */
+	List<String> getPath(int slot);
+
+	/**
+	 * Returns the type of the leaf in the given slot.
+	 *
+	 * @param slot the slot of a leaf
+	 * @return the type of the leaf
+	 * @throws IndexOutOfBoundsException if {@code slot} is not a slot of this shape
+	 */
+	SerializableType<?> getType(int slot);
+
+	/**
+	 * Returns the default value of the leaf in the given slot.
+	 *
+	 * <p>Mutable values, such as arrays or lists, are copied, so that changing them does not affect the shape.
+	 *
+	 * @param slot the slot of a leaf
+	 * @return the default value of the leaf
+	 * @throws IndexOutOfBoundsException if {@code slot} is not a slot of this shape
+	 */
+	Object getDefaultValue(int slot);
+
+	/**
+	 * Creates a new instance of this shape, holding the default value of every leaf.
+	 * Each instance holds its own copies of mutable default values.
+	 *
+	 * @return a new instance
+	 */
+	ConfigInstance newInstance();
+}
@@ -5,7 +5,9 @@ import javax.annotation.Nullable;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.NodeOperations;
 import io.github.fablabsmc.fablabs.api.fiber.v1.builder.ConfigTreeBuilder;
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.RuntimeFiberException;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+import io.github.fablabsmc.fablabs.impl.fiber.tree.TreeCopy;
 
 /**
  * A container for a tree structure of {@link ConfigNode}.
@@ -86,4 +88,25 @@ public interface ConfigTree {
 	 * @return {@code true} if the operation succeeded
 	 */
 	boolean lookupAndBind(String name, PropertyMirror<?> mirror);
+
+	/**
+	 * Creates a detached copy of this tree.
+	 *
+	 * <p>The copy shares every immutable part of this tree with it, such as types, comments and values,
+	 * and allocates new nodes and attribute cells. Values which can be modified in place, such as arrays and
+	 * modifiable lists or maps, are copied; records and unmodifiable collections, like the values created by
+	 * {@link io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes}, are shared. Changing the values of the copy does not affect
+	 * this tree, and does not notify its listeners: copied leaves have no listener, and leaves backed
+	 * by a field of a settings object are copied as regular leaves. Lazy branches are materialized
+	 * before being copied.
+	 *
+	 * <p>The copy of a {@link ConfigBranch} has the same name, comment and attributes as the original,
+	 * the copy of any other tree is an unnamed root.
+	 *
+	 * @return a copy of this tree
+	 * @throws RuntimeFiberException if a node of this tree is neither a tree nor a leaf
+	 */
+	default ConfigBranch copy() {
+		return TreeCopy.copy(this);
+	}
 }
@@ -0,0 +1,26 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.tree;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.NodeOperations;
+
+/**
+ * Decides how {@link NodeOperations#deepMerge(ConfigTree, ConfigTree, MergePolicy)} resolves conflicts,
+ * ie. nodes with the same path in both trees which are not both branches.
+ */
+public enum MergePolicy {
+	/**
+	 * The existing node is kept, and the incoming node is left in the source tree.
+	 */
+	KEEP,
+	/**
+	 * The incoming node replaces the existing node.
+	 */
+	OVERWRITE,
+	/**
+	 * The incoming node replaces the existing node, and an incoming leaf receives the value of the existing leaf.
+	 *
+	 * <p>The value is checked against the constraints of the incoming leaf, and may be corrected.
+	 * If the value is rejected or is not compatible with the incoming leaf's type,
+	 * the incoming leaf keeps its own value.
+	 */
+	KEEP_VALUE
+}
@@ -0,0 +1,81 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.tree;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.NodeOperations;
+
+/**
+ * A difference between two config trees, as reported by {@link NodeOperations#diff(ConfigTree, ConfigTree)}.
+ *
+ * <p>Each change relates a node of the old tree to the node with the same path in the new tree.
+ * Either node is {@code null} if the path only exists in one of the trees.
+ */
+public final class NodeChange {
+	private final Kind kind;
+	private final List<String> path;
+	@Nullable
+	private final ConfigNode oldNode;
+	@Nullable
+	private final ConfigNode newNode;
+
+	public NodeChange(Kind kind, List<String> path, @Nullable ConfigNode oldNode, @Nullable ConfigNode newNode) {
+		this.kind = kind;
+		this.path = path;
+		this.oldNode = oldNode;
+		this.newNode = newNode;
+	}
+
+	public Kind getKind() {
+		return this.kind;
+	}
+
+	/**
+	 * Returns the names of the changed node and of its ancestors, starting below the compared roots.
+	 */
+	public List<String> getPath() {
+		return this.path;
+	}
+
+	/**
+	 * Returns the node in the old tree, or {@code null} if it was {@linkplain Kind#ADDED added}.
+	 */
+	@Nullable
+	public ConfigNode getOldNode() {
+		return this.oldNode;
+	}
+
+	/**
+	 * Returns the node in the new tree, or {@code null} if it was {@linkplain Kind#REMOVED removed}.
+	 */
+	@Nullable
+	public ConfigNode getNewNode() {
+		return this.newNode;
+	}
+
+	@Override
+	public String toString() {
+		return this.kind + " " + String.join(".", this.path);
+	}
+
+	public enum Kind {
+		/**
+		 * The node only exists in the new tree. Its descendants are not reported separately.
+		 */
+		ADDED,
+		/**
+		 * The node only exists in the old tree. Its descendants are not reported separately.
+		 */
+		REMOVED,
+		/**
+		 * Both nodes are leaves with the same type, holding different values.
+		 */
+		VALUE_CHANGED,
+		/**
+		 * Both nodes are leaves with different types or constraints, or one of them is a branch
+		 * while the other is a leaf.
+		 */
+		TYPE_CHANGED
+	}
+}
@@ -1,24 +1,32 @@
 package io.github.fablabsmc.fablabs.impl.fiber.annotation;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AnnotatedArrayType;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.AnnotatedParameterizedType;
 import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
@@ -29,6 +37,7 @@ import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.AnnotatedSettings;
 import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.Setting;
 import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.SettingNamingConvention;
 import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.Settings;
+import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.SettingsHolder;
 import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.collect.MemberCollector;
 import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.collect.PojoMemberProcessor;
 import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.processor.BranchAnnotationProcessor;
@@ -43,14 +52,24 @@ import io.github.fablabsmc.fablabs.api.fiber.v1.exception.FiberTypeProcessingExc
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.MalformedFieldException;
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ProcessingMemberException;
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.RuntimeFiberException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.metrics.FiberMetrics;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.MergePolicy;
+import io.github.fablabsmc.fablabs.impl.fiber.annotation.collect.MemberCollectorImpl;
+import io.github.fablabsmc.fablabs.impl.fiber.annotation.collect.MemberCollectorRecursiveImpl;
 import io.github.fablabsmc.fablabs.impl.fiber.annotation.magic.TypeMagic;
 
 public final class AnnotatedSettingsImpl implements AnnotatedSettings {
+	/**
+	 * The type of the method handles invoking listener methods, taking the POJO, the old value and the new value.
+	 */
+	private static final MethodType LISTENER_TYPE = MethodType.methodType(void.class, Object.class, Object.class, Object.class);
+
 	private final Map<Class<?>, ParameterizedTypeProcessor<?>> registeredGenericTypes;
 	private final Map<Class<?>, ConfigType<?, ?, ?>> registeredTypes;
 	private final Map<Class<? extends Annotation>, LeafAnnotationProcessor<?>> valueSettingProcessors;
@@ -58,6 +77,22 @@ public final class AnnotatedSettingsImpl implements AnnotatedSettings {
 	private final Map<Class<? extends Annotation>, ConstraintAnnotationProcessor<?>> constraintProcessors;
 	private final MemberCollector memberCollector;
 	private final SettingNamingConvention convention;
+	/**
+	 * Whether the members collected from a class only depend on that class, so that templates can be cached.
+	 */
+	private final boolean cacheTemplates;
+	private final ClassValue<AtomicReference<SettingsTemplate>> templates = new ClassValue<AtomicReference<SettingsTemplate>>() {
+		@Override
+		protected AtomicReference<SettingsTemplate> computeValue(Class<?> type) {
+			return new AtomicReference<>();
+		}
+	};
+	private final ClassValue<AtomicReference<ImmutableTemplate>> immutableTemplates = new ClassValue<AtomicReference<ImmutableTemplate>>() {
+		@Override
+		protected AtomicReference<ImmutableTemplate> computeValue(Class<?> type) {
+			return new AtomicReference<>();
+		}
+	};
 
 	AnnotatedSettingsImpl(Map<Class<?>, ParameterizedTypeProcessor<?>> registeredGenericTypes, Map<Class<?>, ConfigType<?, ?, ?>> registeredTypes, Map<Class<? extends Annotation>, LeafAnnotationProcessor<?>> valueSettingProcessors, Map<Class<? extends Annotation>, BranchAnnotationProcessor<?>> groupSettingProcessors, Map<Class<? extends Annotation>, ConstraintAnnotationProcessor<?>> constraintProcessors, MemberCollector memberCollector, SettingNamingConvention convention) {
 		this.registeredGenericTypes = Collections.unmodifiableMap(new LinkedHashMap<>(registeredGenericTypes));
@@ -67,6 +102,7 @@ public final class AnnotatedSettingsImpl implements AnnotatedSettings {
 		this.constraintProcessors = Collections.unmodifiableMap(new LinkedHashMap<>(constraintProcessors));
 		this.memberCollector = memberCollector;
 		this.convention = convention;
+		this.cacheTemplates = memberCollector.getClass() == MemberCollectorImpl.class || memberCollector.getClass() == MemberCollectorRecursiveImpl.class;
 	}
 
 	public ConfigBranch makeTree(Object pojo) throws FiberException {
@@ -76,15 +112,102 @@ public final class AnnotatedSettingsImpl implements AnnotatedSettings {
 	}
 
 	public <P> void applyToNode(ConfigTree mergeTo, P pojo) throws FiberException {
-		@SuppressWarnings("unchecked") Class<P> pojoClass = (Class<P>) pojo.getClass();
-		SettingNamingConvention convention = findSettingAnnotation(Settings.class, pojoClass)
+		FiberMetrics metrics = FiberMetrics.get();
+		long start = metrics.isEnabled() ? System.nanoTime() : 0;
+		ConfigTreeBuilder builder = ConfigTree.builder();
+		this.getTemplate(pojo, this.templates, this::compileTemplate).apply(this, pojo, builder);
+		NodeOperations.deepMerge(builder, mergeTo, MergePolicy.OVERWRITE);
+
+		if (metrics.isEnabled()) {
+			metrics.recordTime(FiberMetrics.APPLY_POJO, mergeTo instanceof ConfigNode ? (ConfigNode) mergeTo : null, System.nanoTime() - start);
+		}
+	}
+
+	public <T> SettingsHolder<T> makeImmutableTree(T settings) throws FiberException {
+		ImmutableTemplate template = this.getTemplate(settings, this.immutableTemplates, this::compileImmutableTemplate);
+		SettingsHolderImpl<T> holder = new SettingsHolderImpl<>(settings);
+		ConfigTreeBuilder builder = ConfigTree.builder();
+		List<ConfigLeaf<?>> leaves = new ArrayList<>();
+		template.build(settings, builder, leaves, holder::changed);
+		ConfigLeaf<?>[] leafArray = leaves.toArray(new ConfigLeaf<?>[0]);
+		@SuppressWarnings("unchecked") Supplier<T> factory = () -> (T) template.instantiate(Arrays.asList(leafArray).iterator());
+		holder.bind(builder.build(), factory);
+		return holder;
+	}
+
+	/**
+	 * Returns the template describing the settings of the given POJO's class.
+	 *
+	 * <p>Templates only depend on the POJO's class, and are compiled once per class when members
+	 * are collected by one of the built-in collectors. Custom collectors may select members
+	 * based on the POJO instance, so their templates are compiled again for every POJO.
+	 */
+	private <P, T> T getTemplate(P pojo, ClassValue<AtomicReference<T>> cache, TemplateCompiler<T> compiler) throws FiberException {
+		Class<?> pojoClass = pojo.getClass();
+
+		if (!this.cacheTemplates) {
+			return compiler.compile(pojo, pojoClass);
+		}
+
+		AtomicReference<T> cached = cache.get(pojoClass);
+		T template = cached.get();
+
+		if (template == null) {
+			// compilation may fail, in which case nothing is cached and the exception is thrown again next time
+			template = compiler.compile(pojo, pojoClass);
+
+			if (!cached.compareAndSet(null, template)) {
+				template = cached.get();
+			}
+		}
+
+		return template;
+	}
+
+	private SettingsTemplate compileTemplate(Object pojo, Class<?> pojoClass) throws FiberException {
+		PojoMemberProcessorImpl processor = this.new PojoMemberProcessorImpl(this.findConvention(pojoClass));
+		this.collect(pojo, pojoClass, processor);
+		return new SettingsTemplate(processor.members);
+	}
+
+	private ImmutableTemplate compileImmutableTemplate(Object settings, Class<?> settingsClass) throws FiberException {
+		ImmutableMemberProcessor processor = this.new ImmutableMemberProcessor(this.findConvention(settingsClass));
+		this.collect(settings, settingsClass, processor);
+
+		if (!processor.listenerMap.isEmpty()) {
+			throw new FiberException("Immutable settings class " + settingsClass.getSimpleName() + " cannot declare listeners, listen to its SettingsHolder instead");
+		}
+
+		Class<?>[] parameterTypes = new Class<?>[processor.components.size()];
+
+		for (int i = 0; i < parameterTypes.length; i++) {
+			parameterTypes[i] = processor.components.get(i).getField().getType();
+		}
+
+		try {
+			Constructor<?> constructor = settingsClass.getDeclaredConstructor(parameterTypes);
+			constructor.setAccessible(true);
+			MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+					.asSpreader(Object[].class, parameterTypes.length)
+					.asType(MethodType.methodType(Object.class, Object[].class));
+			return new ImmutableTemplate(settingsClass, handle, processor.components);
+		} catch (NoSuchMethodException e) {
+			throw new FiberException("Immutable settings class " + settingsClass.getSimpleName() + " must declare a constructor taking all of its settings in declaration order " + Arrays.toString(parameterTypes), e);
+		} catch (IllegalAccessException e) {
+			throw new FiberException("Could not access the constructor of " + settingsClass.getSimpleName(), e);
+		}
+	}
+
+	private SettingNamingConvention findConvention(Class<?> pojoClass) {
+		return findSettingAnnotation(Settings.class, pojoClass)
 				.map(Settings::namingConvention)
 				.map(AnnotatedSettingsImpl::createConvention)
 				.orElse(this.convention);
-		ConfigTreeBuilder builder = ConfigTree.builder();
-		PojoMemberProcessorImpl processor = this.new PojoMemberProcessorImpl(convention, builder);
-		this.memberCollector.collect(pojo, pojoClass, processor);
-		NodeOperations.moveChildren(builder, mergeTo);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <P> void collect(P pojo, Class<?> pojoClass, PojoMemberProcessor processor) throws FiberException {
+		this.memberCollector.collect(pojo, (Class<P>) pojoClass, processor);
 	}
 
 	private static void checkViolation(Field field) throws FiberException {
@@ -105,14 +228,399 @@ public final class AnnotatedSettingsImpl implements AnnotatedSettings {
 		}
 	}
 
+	private static ProcessingMemberException settingFailure(Field setting, Exception cause) {
+		return new ProcessingMemberException("Failed to process setting '" + Modifier.toString(setting.getModifiers()) + " " + setting.getType().getSimpleName() + " " + setting.getName() + "' in " + setting.getDeclaringClass().getSimpleName(), cause, setting);
+	}
+
+	private static ProcessingMemberException groupFailure(Field group, Exception cause) {
+		return new ProcessingMemberException("Failed to process group '" + Modifier.toString(group.getModifiers()) + " " + group.getType().getSimpleName() + " " + group.getName() + "' in " + group.getDeclaringClass().getSimpleName(), cause, group);
+	}
+
+	/**
+	 * The compiled settings of a POJO class, replayed against each POJO instance of that class.
+	 *
+	 * <p>Templates are cached in class values, and must not reference the {@code AnnotatedSettingsImpl}
+	 * which compiled them. Otherwise, the class value would be reachable from the POJO class, and neither
+	 * could ever be unloaded.
+	 */
+	private static final class SettingsTemplate {
+		private final MemberTemplate[] members;
+
+		SettingsTemplate(List<MemberTemplate> members) {
+			this.members = members.toArray(new MemberTemplate[0]);
+		}
+
+		void apply(AnnotatedSettingsImpl settings, Object pojo, ConfigTreeBuilder builder) throws FiberException {
+			for (MemberTemplate member : this.members) {
+				member.apply(settings, pojo, builder);
+			}
+		}
+	}
+
+	private interface MemberTemplate {
+		/**
+		 * Adds the nodes of this member of the given POJO to the builder.
+		 *
+		 * @param settings the settings applying the template, used to apply nested groups
+		 */
+		void apply(AnnotatedSettingsImpl settings, Object pojo, ConfigTreeBuilder builder) throws FiberException;
+	}
+
+	/**
+	 * Creates the listener bound to a POJO instance from a listener member.
+	 */
+	private interface ListenerTemplate<T> {
+		BiConsumer<T, T> bind(Object pojo) throws FiberException;
+	}
+
+	/**
+	 * An annotation present on a member along with the processor that handles it.
+	 */
+	private static final class ProcessorBinding<C> {
+		private final Annotation annotation;
+		private final ConfigAnnotationProcessor<Annotation, Field, C> processor;
+
+		ProcessorBinding(Annotation annotation, ConfigAnnotationProcessor<Annotation, Field, C> processor) {
+			this.annotation = annotation;
+			this.processor = processor;
+		}
+
+		static <C> void applyAll(List<ProcessorBinding<C>> bindings, Object pojo, Field field, C target) {
+			for (ProcessorBinding<C> binding : bindings) {
+				binding.processor.apply(binding.annotation, field, pojo, target);
+			}
+		}
+	}
+
+	private static final class SettingTemplate<R, S> implements MemberTemplate {
+		private final Field field;
+		private final String name;
+		@Nullable
+		private final String comment;
+		private final ConfigType<R, S, ?> type;
+		private final List<ListenerTemplate<R>> listeners;
+		private final List<ProcessorBinding<ConfigLeafBuilder<?, ?>>> processors;
+
+		SettingTemplate(Field field, String name, @Nullable String comment, ConfigType<R, S, ?> type, List<ListenerTemplate<R>> listeners, List<ProcessorBinding<ConfigLeafBuilder<?, ?>>> processors) {
+			this.field = field;
+			this.name = name;
+			this.comment = comment;
+			this.type = type;
+			this.listeners = listeners;
+			this.processors = processors;
+		}
+
+		@Override
+		public void apply(AnnotatedSettingsImpl settings, Object pojo, ConfigTreeBuilder builder) throws FiberException {
+			try {
+				ConfigLeafBuilder<S, R> leafBuilder = builder
+						.beginValue(this.name, this.type, this.findDefaultValue(pojo, this.field))
+						.withComment(this.comment)
+						.withListener(this.bindListeners(pojo));
+				ProcessorBinding.applyAll(this.processors, pojo, this.field, leafBuilder);
+				ConfigLeaf<S> leaf = leafBuilder.build();
+				builder.getItems().remove(leaf);
+				BackedConfigLeaf<R, S> deferred = new BackedConfigLeaf<>(leaf, this.type, pojo, this.field);
+				builder.getItems().add(deferred); // This will also attach deferred
+			} catch (FiberException e) {
+				throw settingFailure(this.field, e);
+			}
+		}
+
+		@Nonnull
+		private BiConsumer<R, R> bindListeners(Object pojo) throws FiberException {
+			BiConsumer<R, R> ret = null;
+
+			for (ListenerTemplate<R> listener : this.listeners) {
+				BiConsumer<R, R> consumer = listener.bind(pojo);
+
+				if (consumer != null) {
+					if (ret == null) {
+						ret = consumer;
+					} else {
+						ret = ret.andThen(consumer);
+					}
+				}
+			}
+
+			if (ret == null) {
+				ret = (r, r2) -> { };
+			}
+
+			return ret;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <T> T findDefaultValue(Object pojo, Field field) throws FiberException {
+			T value;
+
+			try {
+				value = (T) field.get(pojo);
+
+				if (value == null) {
+					throw new MalformedFieldException("Default value for field '" + field.getName() + "' is null");
+				}
+			} catch (IllegalAccessException e) {
+				throw new FiberException("Couldn't get value for field '" + field.getName() + "'", e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class GroupTemplate implements MemberTemplate {
+		private final Field field;
+		private final String name;
+		private final boolean lazy;
+		private final List<ProcessorBinding<ConfigTreeBuilder>> processors;
+
+		GroupTemplate(Field field, String name, boolean lazy, List<ProcessorBinding<ConfigTreeBuilder>> processors) {
+			this.field = field;
+			this.name = name;
+			this.lazy = lazy;
+			this.processors = processors;
+		}
+
+		@Override
+		public void apply(AnnotatedSettingsImpl settings, Object pojo, ConfigTreeBuilder builder) throws FiberException {
+			try {
+				ConfigTreeBuilder sub = builder.fork(this.name);
+				Object subPojo = this.field.get(pojo);
+
+				if (subPojo == null) {
+					throw new ProcessingMemberException("Group " + this.name + " is null. Did you forget to initialize it?", this.field);
+				}
+
+				if (this.lazy) {
+					ProcessorBinding.applyAll(this.processors, pojo, this.field, sub);
+					sub.buildLazily(branch -> this.materialize(settings, branch, subPojo));
+				} else {
+					settings.applyToNode(sub, subPojo);
+					ProcessorBinding.applyAll(this.processors, pojo, this.field, sub);
+					sub.build();
+				}
+			} catch (FiberException | IllegalAccessException e) {
+				throw groupFailure(this.field, e);
+			}
+		}
+
+		private void materialize(AnnotatedSettingsImpl settings, ConfigBranch branch, Object subPojo) {
+			try {
+				settings.applyToNode(branch, subPojo);
+			} catch (FiberException e) {
+				throw new RuntimeFiberException("Failed to create the settings of lazy group " + this.name, groupFailure(this.field, e));
+			}
+		}
+	}
+
+	private interface TemplateCompiler<T> {
+		T compile(Object pojo, Class<?> pojoClass) throws FiberException;
+	}
+
+	/**
+	 * The compiled settings of an immutable settings class, used to build a tree from a settings object,
+	 * and to create new settings objects from the values of that tree's leaves.
+	 */
+	private static final class ImmutableTemplate {
+		private final Class<?> settingsClass;
+		/**
+		 * The settings class' constructor, taking an array of all setting values.
+		 */
+		private final MethodHandle constructor;
+		private final ImmutableComponent[] components;
+
+		ImmutableTemplate(Class<?> settingsClass, MethodHandle constructor, List<ImmutableComponent> components) {
+			this.settingsClass = settingsClass;
+			this.constructor = constructor;
+			this.components = components.toArray(new ImmutableComponent[0]);
+		}
+
+		void build(Object settings, ConfigTreeBuilder builder, List<ConfigLeaf<?>> leaves, Consumer<Runnable> onChange) throws FiberException {
+			for (ImmutableComponent component : this.components) {
+				component.build(settings, builder, leaves, onChange);
+			}
+		}
+
+		Object instantiate(Iterator<ConfigLeaf<?>> leaves) {
+			Object[] args = new Object[this.components.length];
+
+			for (int i = 0; i < args.length; i++) {
+				args[i] = this.components[i].read(leaves);
+			}
+
+			try {
+				return (Object) this.constructor.invokeExact(args);
+			} catch (Throwable t) {
+				throw new RuntimeFiberException("Failed to create settings object of " + this.settingsClass.getSimpleName(), t);
+			}
+		}
+	}
+
+	/**
+	 * A setting or group of an immutable settings class, mapped to a constructor argument.
+	 */
+	private interface ImmutableComponent {
+		Field getField();
+
+		/**
+		 * Builds the nodes for this component, adding the built leaves to {@code leaves} in order.
+		 *
+		 * @param onChange called whenever a built leaf changes, with an action restoring its previous value
+		 */
+		void build(Object settings, ConfigTreeBuilder builder, List<ConfigLeaf<?>> leaves, Consumer<Runnable> onChange) throws FiberException;
+
+		/**
+		 * Reads the value of this component from the leaves built by {@link #build}, in the same order.
+		 */
+		Object read(Iterator<ConfigLeaf<?>> leaves);
+	}
+
+	private static final class ImmutableSettingTemplate<R, S> implements ImmutableComponent {
+		private final Field field;
+		private final String name;
+		@Nullable
+		private final String comment;
+		private final ConfigType<R, S, ?> type;
+		private final List<ProcessorBinding<ConfigLeafBuilder<?, ?>>> processors;
+
+		ImmutableSettingTemplate(Field field, String name, @Nullable String comment, ConfigType<R, S, ?> type, List<ProcessorBinding<ConfigLeafBuilder<?, ?>>> processors) {
+			this.field = field;
+			this.name = name;
+			this.comment = comment;
+			this.type = type;
+			this.processors = processors;
+		}
+
+		@Override
+		public Field getField() {
+			return this.field;
+		}
+
+		@Override
+		public void build(Object settings, ConfigTreeBuilder builder, List<ConfigLeaf<?>> leaves, Consumer<Runnable> onChange) throws FiberException {
+			try {
+				@SuppressWarnings("unchecked") R value = (R) this.field.get(settings);
+
+				if (value == null) {
+					throw new MalformedFieldException("Value for field '" + this.field.getName() + "' is null");
+				}
+
+				ConfigLeafBuilder<S, R> leafBuilder = builder.beginValue(this.name, this.type, value).withComment(this.comment);
+				ProcessorBinding.applyAll(this.processors, settings, this.field, leafBuilder);
+				ConfigLeaf<S> leaf = leafBuilder.build();
+				leaf.addChangeListener((oldValue, newValue) -> onChange.accept(() -> leaf.setValue(oldValue)));
+				leaves.add(leaf);
+			} catch (FiberException | IllegalAccessException e) {
+				throw settingFailure(this.field, e);
+			}
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Object read(Iterator<ConfigLeaf<?>> leaves) {
+			// leaf values have already been checked against the type
+			return this.type.toRuntimeTypeUnchecked(((ConfigLeaf<S>) leaves.next()).getValue());
+		}
+	}
+
+	private static final class ImmutableGroupTemplate implements ImmutableComponent {
+		private final Field field;
+		private final String name;
+		private final ImmutableTemplate template;
+		private final List<ProcessorBinding<ConfigTreeBuilder>> processors;
+
+		ImmutableGroupTemplate(Field field, String name, ImmutableTemplate template, List<ProcessorBinding<ConfigTreeBuilder>> processors) {
+			this.field = field;
+			this.name = name;
+			this.template = template;
+			this.processors = processors;
+		}
+
+		@Override
+		public Field getField() {
+			return this.field;
+		}
+
+		@Override
+		public void build(Object settings, ConfigTreeBuilder builder, List<ConfigLeaf<?>> leaves, Consumer<Runnable> onChange) throws FiberException {
+			try {
+				ConfigTreeBuilder sub = builder.fork(this.name);
+				Object group = this.field.get(settings);
+
+				if (group == null) {
+					throw new ProcessingMemberException("Group " + this.name + " is null. Did you forget to initialize it?", this.field);
+				}
+
+				this.template.build(group, sub, leaves, onChange);
+				ProcessorBinding.applyAll(this.processors, settings, this.field, sub);
+				sub.build();
+			} catch (FiberException | IllegalAccessException e) {
+				throw groupFailure(this.field, e);
+			}
+		}
+
+		@Override
+		public Object read(Iterator<ConfigLeaf<?>> leaves) {
+			return this.template.instantiate(leaves);
+		}
+	}
+
+	/**
+	 * Compiles the members collected from an immutable settings class into {@link ImmutableComponent}s.
+	 *
+	 * <p>Settings of immutable classes are final fields, which are only ever read.
+	 */
+	private final class ImmutableMemberProcessor extends PojoMemberProcessorImpl {
+		private final List<ImmutableComponent> components = new ArrayList<>();
+
+		ImmutableMemberProcessor(SettingNamingConvention convention) {
+			super(convention);
+		}
+
+		@Override
+		public void processGroup(Object settings, Field group) throws ProcessingMemberException {
+			String name = this.findName(group);
+			group.setAccessible(true);
+
+			try {
+				Object value = group.get(settings);
+
+				if (value == null) {
+					throw new ProcessingMemberException("Group " + name + " is null. Did you forget to initialize it?", group);
+				}
+
+				ImmutableTemplate template = AnnotatedSettingsImpl.this.getTemplate(value, AnnotatedSettingsImpl.this.immutableTemplates, AnnotatedSettingsImpl.this::compileImmutableTemplate);
+				this.components.add(new ImmutableGroupTemplate(group, name, template, this.findAnnotationProcessors(group, AnnotatedSettingsImpl.this.groupSettingProcessors)));
+			} catch (FiberException | IllegalAccessException e) {
+				throw groupFailure(group, e);
+			}
+		}
+
+		@Override
+		public void processSetting(Object settings, Field setting) throws ProcessingMemberException {
+			try {
+				this.components.add(this.compileImmutableSetting(setting, this.toConfigType(setting.getAnnotatedType())));
+			} catch (FiberException e) {
+				throw settingFailure(setting, e);
+			}
+		}
+
+		private <R, S> ImmutableSettingTemplate<R, S> compileImmutableSetting(Field setting, ConfigType<R, S, ?> type) {
+			setting.setAccessible(true);
+			return new ImmutableSettingTemplate<>(setting, this.findName(setting), this.findComment(setting), type, this.findAnnotationProcessors(setting, AnnotatedSettingsImpl.this.valueSettingProcessors));
+		}
+	}
+
+	/**
+	 * Compiles the members collected from a POJO class into {@link MemberTemplate}s.
+	 */
 	private class PojoMemberProcessorImpl implements PojoMemberProcessor {
 		private final SettingNamingConvention convention;
-		private final Map<String, List<Member>> listenerMap = new HashMap<>();
-		private final ConfigTreeBuilder builder;
+		final Map<String, List<Member>> listenerMap = new HashMap<>();
+		private final List<MemberTemplate> members = new ArrayList<>();
 
-		PojoMemberProcessorImpl(SettingNamingConvention convention, ConfigTreeBuilder builder) {
+		PojoMemberProcessorImpl(SettingNamingConvention convention) {
 			this.convention = convention;
-			this.builder = builder;
 		}
 
 		@Override
@@ -127,51 +635,38 @@ public final class AnnotatedSettingsImpl implements AnnotatedSettings {
 
 		@Override
 		public void processGroup(Object pojo, Field group) throws ProcessingMemberException {
-			try {
-				String name = this.findName(group);
-				ConfigTreeBuilder sub = this.builder.fork(name);
-				group.setAccessible(true);
-				Object subPojo = group.get(pojo);
-
-				if (subPojo == null) {
-					throw new ProcessingMemberException("Group " + name + " is null. Did you forget to initialize it?", group);
-				}
-
-				AnnotatedSettingsImpl.this.applyToNode(sub, subPojo);
-				this.applyAnnotationProcessors(pojo, group, sub, AnnotatedSettingsImpl.this.groupSettingProcessors);
-				sub.build();
-			} catch (FiberException | IllegalAccessException e) {
-				throw new ProcessingMemberException("Failed to process group '" + Modifier.toString(group.getModifiers()) + " " + group.getType().getSimpleName() + " " + group.getName() + "' in " + group.getDeclaringClass().getSimpleName(), e, group);
-			}
+			String name = this.findName(group);
+			group.setAccessible(true);
+			boolean lazy = findSettingAnnotation(Setting.Group.class, group).map(Setting.Group::lazy).orElse(false);
+			this.members.add(new GroupTemplate(group, name, lazy, this.findAnnotationProcessors(group, AnnotatedSettingsImpl.this.groupSettingProcessors)));
 		}
 
 		@Override
 		public void processSetting(Object pojo, Field setting) throws ProcessingMemberException {
 			try {
 				checkViolation(setting);
-				this.processSetting(pojo, setting, this.toConfigType(setting.getAnnotatedType()));
+				this.members.add(this.compileSetting(setting, this.toConfigType(setting.getAnnotatedType())));
 			} catch (FiberException e) {
-				throw new ProcessingMemberException("Failed to process setting '" + Modifier.toString(setting.getModifiers()) + " " + setting.getType().getSimpleName() + " " + setting.getName() + "' in " + setting.getDeclaringClass().getSimpleName(), e, setting);
+				throw settingFailure(setting, e);
 			}
 		}
 
-		private <R, S> void processSetting(Object pojo, Field setting, ConfigType<R, S, ?> type) throws FiberException {
+		private <R, S> SettingTemplate<R, S> compileSetting(Field setting, ConfigType<R, S, ?> type) throws FiberException {
 			String name = this.findName(setting);
-			List<Member> listeners = this.listenerMap.getOrDefault(name, Collections.emptyList());
+			// only listeners collected so far apply to this setting
+			List<Member> listenerMembers = this.listenerMap.getOrDefault(name, Collections.emptyList());
+			List<ListenerTemplate<R>> listeners = new ArrayList<>(listenerMembers.size());
+
+			for (Member listener : listenerMembers) {
+				listeners.add(this.compileListener(listener, type.getRuntimeType()));
+			}
+
 			setting.setAccessible(true);
-			ConfigLeafBuilder<S, R> leafBuilder = this.builder
-					.beginValue(name, type, this.findDefaultValue(pojo, setting))
-					.withComment(this.findComment(setting))
-					.withListener(this.constructListener(pojo, listeners, type));
-			this.applyAnnotationProcessors(pojo, setting, leafBuilder, AnnotatedSettingsImpl.this.valueSettingProcessors);
-			ConfigLeaf<S> leaf = leafBuilder.build();
-			builder.getItems().remove(leaf);
-			BackedConfigLeaf<R, S> deferred = new BackedConfigLeaf<>(leaf, type, pojo, setting);
-			builder.getItems().add(deferred); // This will also attach deferred
+			return new SettingTemplate<>(setting, name, this.findComment(setting), type, listeners, this.findAnnotationProcessors(setting, AnnotatedSettingsImpl.this.valueSettingProcessors));
 		}
 
 		@Nonnull
-		private String findName(Field field) {
+		String findName(Field field) {
 			return findSettingAnnotation(Setting.Group.class, field).map(Setting.Group::name).filter(s -> !s.isEmpty()).orElseGet(
 					() -> findSettingAnnotation(Setting.class, field).map(Setting::name).filter(s -> !s.isEmpty()).orElseGet(
 							() -> this.convention.name(field.getName())
@@ -180,45 +675,26 @@ public final class AnnotatedSettingsImpl implements AnnotatedSettings {
 		}
 
 		@Nullable
-		private String findComment(Field field) {
+		String findComment(Field field) {
 			return findSettingAnnotation(Setting.class, field).map(Setting::comment).filter(s -> !s.isEmpty()).orElse(null);
 		}
 
-		@Nonnull
-		private <R> BiConsumer<R, R> constructListener(Object pojo, List<Member> listeners, ConfigType<R, ?, ?> type) throws FiberException {
-			BiConsumer<R, R> ret = null;
-
-			for (Member listener : listeners) {
-				BiConsumer<R, R> consumer = this.constructListenerFromMember(pojo, listener, type.getRuntimeType());
+		<C> List<ProcessorBinding<C>> findAnnotationProcessors(Field field, Map<Class<? extends Annotation>, ? extends ConfigAnnotationProcessor<?, Field, C>> settingProcessors) {
+			List<ProcessorBinding<C>> ret = new ArrayList<>();
 
-				if (consumer != null) {
-					if (ret == null) {
-						ret = consumer;
-					} else {
-						ret = ret.andThen(consumer);
-					}
-				}
-			}
-
-			if (ret == null) {
-				ret = (r, r2) -> { };
-			}
-
-			return ret;
-		}
-
-		private <C> void applyAnnotationProcessors(Object pojo, Field field, C sub, Map<Class<? extends Annotation>, ? extends ConfigAnnotationProcessor<?, Field, C>> settingProcessors) {
 			for (Annotation annotation : field.getAnnotations()) {
 				@SuppressWarnings("unchecked") ConfigAnnotationProcessor<Annotation, Field, C> processor = (ConfigAnnotationProcessor<Annotation, Field, C>) settingProcessors.get(annotation.annotationType());
 
 				if (processor != null) {
-					processor.apply(annotation, field, pojo, sub);
+					ret.add(new ProcessorBinding<>(annotation, processor));
 				}
 			}
+
+			return ret.isEmpty() ? Collections.emptyList() : ret;
 		}
 
 		@Nonnull
-		private ConfigType<?, ?, ?> toConfigType(AnnotatedType annotatedType) throws FiberTypeProcessingException {
+		ConfigType<?, ?, ?> toConfigType(AnnotatedType annotatedType) throws FiberTypeProcessingException {
 			Class<?> clazz = TypeMagic.classForType(annotatedType.getType());
 
 			if (clazz == null) {
@@ -313,62 +789,46 @@ public final class AnnotatedSettingsImpl implements AnnotatedSettings {
 			return (T) type.constrain(processor, annotation, annotated);
 		}
 
-		@SuppressWarnings("unchecked")
-		private <T> T findDefaultValue(Object pojo, Field field) throws FiberException {
-			T value;
-
-			try {
-				value = (T) field.get(pojo);
-
-				if (value == null) {
-					throw new MalformedFieldException("Default value for field '" + field.getName() + "' is null");
-				}
-			} catch (IllegalAccessException e) {
-				throw new FiberException("Couldn't get value for field '" + field.getName() + "'", e);
-			}
-
-			return value;
-		}
-
-		private <T> BiConsumer<T, T> constructListenerFromMember(Object pojo, Member listener, Class<T> wantedType) throws FiberException {
-			BiConsumer<T, T> result;
-
+		private <T> ListenerTemplate<T> compileListener(Member listener, Class<T> wantedType) throws FiberException {
 			if (listener instanceof Field) {
-				result = this.constructListenerFromField(pojo, (Field) listener, wantedType);
+				return this.compileListenerField((Field) listener, wantedType);
 			} else if (listener instanceof Method) {
-				result = this.constructListenerFromMethod(pojo, (Method) listener, wantedType);
+				return this.compileListenerMethod((Method) listener, wantedType);
 			} else {
 				throw new FiberException("Cannot create listener from " + listener + ": must be a field or method");
 			}
-
-			// note: we assume that a value coming from the IR is valid
-			return result;
 		}
 
-		private <T, A> BiConsumer<T, T> constructListenerFromMethod(Object pojo, Method method, Class<A> wantedType) throws FiberException {
-			int i = this.checkListenerMethod(method, wantedType);
+		private <T, A> ListenerTemplate<T> compileListenerMethod(Method method, Class<A> wantedType) throws FiberException {
+			int paramCount = this.checkListenerMethod(method, wantedType);
 			method.setAccessible(true);
-			final boolean staticMethod = Modifier.isStatic(method.getModifiers());
-			switch (i) {
-			case 1:
-				return (oldValue, newValue) -> {
-					try {
-						method.invoke(staticMethod ? null : pojo, newValue);
-					} catch (IllegalAccessException | InvocationTargetException e) {
-						throw new RuntimeFiberException("Failed to invoke listener " + method + " with argument " + newValue, e);
-					}
-				};
-			case 2:
-				return (oldValue, newValue) -> {
-					try {
-						method.invoke(staticMethod ? null : pojo, oldValue, newValue);
-					} catch (IllegalAccessException | InvocationTargetException e) {
-						throw new RuntimeFiberException("Failed to invoke listener " + method + " with arguments " + oldValue + ", " + newValue, e);
-					}
-				};
-			default:
-				throw new FiberException("Listener failed due to an invalid number of arguments.");
+			MethodHandle handle;
+
+			try {
+				handle = MethodHandles.lookup().unreflect(method);
+			} catch (IllegalAccessException e) {
+				throw new FiberException("Could not access listener " + method, e);
+			}
+
+			// adapt the method to a (pojo, oldValue, newValue) signature, unboxing primitive parameters
+			// values reach the handle boxed, leaves notifying listeners through a BiConsumer of the runtime type
+			// leaves notify listeners of their initial value with a null old value, which becomes a primitive zero
+			if (Modifier.isStatic(method.getModifiers())) {
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
 			}
+
+			if (paramCount == 1) {
+				handle = MethodHandles.dropArguments(handle, 1, Object.class);
+			}
+
+			MethodHandle listener = MethodHandles.explicitCastArguments(handle, LISTENER_TYPE);
+			return pojo -> (oldValue, newValue) -> {
+				try {
+					listener.invokeExact(pojo, (Object) oldValue, (Object) newValue);
+				} catch (Throwable t) {
+					throw new RuntimeFiberException("Failed to invoke listener " + method + " with arguments " + oldValue + ", " + newValue, t);
+				}
+			};
 		}
 
 		private <A> int checkListenerMethod(Method method, Class<A> wantedType) throws FiberException {
@@ -378,23 +838,31 @@ public final class AnnotatedSettingsImpl implements AnnotatedSettings {
 
 			int paramCount = method.getParameterCount();
 
-			if ((paramCount != 1 && paramCount != 2) || !method.getParameterTypes()[0].equals(wantedType)) {
+			if (paramCount != 1 && paramCount != 2) {
 				throw new FiberException("Listener method must have exactly two parameters of type that it listens for");
 			}
 
+			for (Class<?> parameterType : method.getParameterTypes()) {
+				// primitive parameters are unboxed when the listener is invoked
+				if (TypeMagic.wrapPrimitive(parameterType) != TypeMagic.wrapPrimitive(wantedType)) {
+					throw new FiberException("Listener method must have exactly two parameters of type that it listens for");
+				}
+			}
+
 			return paramCount;
 		}
 
-		private <T, A> BiConsumer<T, T> constructListenerFromField(Object pojo, Field field, Class<A> wantedType) throws FiberException {
+		private <T, A> ListenerTemplate<T> compileListenerField(Field field, Class<A> wantedType) throws FiberException {
 			this.checkListenerField(field, wantedType);
 			field.setAccessible(true);
-
-			try {
-				@SuppressWarnings("unchecked") BiConsumer<T, T> consumer = (BiConsumer<T, T>) field.get(pojo);
-				return consumer;
-			} catch (IllegalAccessException e) {
-				throw new FiberException("Could not construct listener", e);
-			}
+			return pojo -> {
+				try {
+					@SuppressWarnings("unchecked") BiConsumer<T, T> consumer = (BiConsumer<T, T>) field.get(pojo);
+					return consumer;
+				} catch (IllegalAccessException e) {
+					throw new FiberException("Could not construct listener", e);
+				}
+			};
 		}
 
 		private <A> void checkListenerField(Field field, Class<A> wantedType) throws MalformedFieldException {
@@ -17,16 +17,20 @@ import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigAttribute;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.impl.fiber.tree.ContentHash;
+import io.github.fablabsmc.fablabs.impl.fiber.tree.ContentHashedNode;
 
 /**
  * A config leaf backed by a field, {@linkplain ConfigType}, and deferred leaf.
  *
  * <p>It is used to fetch the backing field's values on each {@link #getValue()} call, to make sure a leaf and its corresponding POJO field are always synchronised.
+ * Since direct writes to the field cannot be observed, the leaf counts as a {@linkplain ContentHashedNode#getStaleNodeCount() stale node}:
+ * the field is read again every time the content hash of one of its ancestors is requested.
  *
  * @param <R>
  * @param <S>
  */
-public class BackedConfigLeaf<R, S> implements ConfigLeaf<S> {
+public class BackedConfigLeaf<R, S> implements ConfigLeaf<S>, ContentHashedNode {
 	private final ConfigLeaf<S> backing;
 	private final ConfigType<R, S, ?> type;
 	private final Object pojo;
@@ -106,10 +110,15 @@ public class BackedConfigLeaf<R, S> implements ConfigLeaf<S> {
 
 	@Override
 	public boolean setValue(@Nonnull S value) {
+		long oldHash = ContentHash.of(this.backing);
+
 		if (this.backing.setValue(value)) {
+			ContentHash.childChanged(this.parent, this.getName(), oldHash, ContentHash.of(this.backing));
+
 			try {
 				value = backing.getValue(); // Might've changed after a type check + correction, so we fetch again
-				this.backingField.set(pojo, type.toRuntimeType(value));
+				// the backing leaf has just validated the value, no need to check it a second time
+				this.backingField.set(pojo, type.toRuntimeTypeUnchecked(value));
 			} catch (IllegalAccessException e) {
 				throw new RuntimeFiberException("Failed to update field value", e);
 			}
@@ -128,7 +137,9 @@ public class BackedConfigLeaf<R, S> implements ConfigLeaf<S> {
 			R fieldValue = (R) backingField.get(pojo);
 
 			if (!Objects.equals(fieldValue, cachedValue)) {
+				long oldHash = ContentHash.of(this.backing);
 				this.backing.setValue(type.toSerializedType(fieldValue));
+				ContentHash.childChanged(this.parent, this.getName(), oldHash, ContentHash.of(this.backing));
 				cachedValue = fieldValue;
 			}
 		} catch (IllegalAccessException e) {
@@ -139,6 +150,21 @@ public class BackedConfigLeaf<R, S> implements ConfigLeaf<S> {
 		return backing.getValue();
 	}
 
+	@Override
+	public long getContentHash() {
+		return ContentHash.of(this.backing);
+	}
+
+	@Override
+	public int getStaleNodeCount() {
+		return 1;
+	}
+
+	@Override
+	public void refreshContentHash() {
+		this.getValue();
+	}
+
 	@Override
 	public SerializableType<S> getConfigType() {
 		return backing.getConfigType();
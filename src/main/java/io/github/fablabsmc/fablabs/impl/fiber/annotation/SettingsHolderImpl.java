@@ -0,0 +1,160 @@
+package io.github.fablabsmc.fablabs.impl.fiber.annotation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.SettingsHolder;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+
+/**
+ * A {@link SettingsHolder} rebuilding its settings object from the leaves of its tree after every change.
+ *
+ * <p>Writers are serialized by this holder's lock, readers only ever read the current snapshot.
+ * Listeners are notified after the lock is released.
+ */
+final class SettingsHolderImpl<T> implements SettingsHolder<T> {
+	private final AtomicReference<T> current;
+	private final List<BiConsumer<? super T, ? super T>> listeners = new CopyOnWriteArrayList<>();
+	/**
+	 * Actions restoring the previous values of the leaves changed since the last published snapshot, in change order.
+	 */
+	private final List<Runnable> rollbacks = new ArrayList<>();
+	private ConfigBranch tree;
+	/**
+	 * Creates a new snapshot from the current values of the tree's leaves, {@code null} until the tree is built.
+	 */
+	@Nullable
+	private Supplier<T> factory;
+	private int transactionDepth;
+	private boolean rollingBack;
+
+	SettingsHolderImpl(T initial) {
+		this.current = new AtomicReference<>(initial);
+	}
+
+	/**
+	 * Binds this holder to its tree, once all of its leaves are built.
+	 *
+	 * @param tree    the built tree
+	 * @param factory a factory creating settings objects from the values of the tree's leaves
+	 */
+	synchronized void bind(ConfigBranch tree, Supplier<T> factory) {
+		this.tree = tree;
+		this.factory = factory;
+	}
+
+	/**
+	 * Called when the value of any leaf of the tree changes.
+	 *
+	 * @param rollback an action restoring the previous value of the leaf
+	 */
+	void changed(Runnable rollback) {
+		Runnable notification;
+
+		synchronized (this) {
+			// leaves notify their listeners of their initial value, which the initial snapshot already holds
+			if (this.factory == null || this.rollingBack) return;
+
+			this.rollbacks.add(rollback);
+			notification = this.transactionDepth > 0 ? null : this.publish();
+		}
+
+		if (notification != null) {
+			notification.run();
+		}
+	}
+
+	/**
+	 * Publishes a snapshot of the pending changes, or rolls them back if the snapshot cannot be created.
+	 *
+	 * @return an action notifying the listeners of the new snapshot, to run once the lock is released,
+	 * or {@code null} if there were no pending changes
+	 */
+	@Nullable
+	private Runnable publish() {
+		if (this.rollbacks.isEmpty()) {
+			return null;
+		}
+
+		T snapshot;
+
+		try {
+			snapshot = Objects.requireNonNull(this.factory).get();
+		} catch (RuntimeException | Error e) {
+			this.rollBack();
+			throw e;
+		}
+
+		this.rollbacks.clear();
+		T old = this.current.getAndSet(snapshot);
+		return () -> {
+			for (BiConsumer<? super T, ? super T> listener : this.listeners) {
+				listener.accept(old, snapshot);
+			}
+		};
+	}
+
+	/**
+	 * Restores the previous values of the pending changes, so that the tree matches the current snapshot again.
+	 */
+	private void rollBack() {
+		this.rollingBack = true;
+
+		try {
+			for (int i = this.rollbacks.size() - 1; i >= 0; i--) {
+				this.rollbacks.get(i).run();
+			}
+		} finally {
+			this.rollingBack = false;
+			this.rollbacks.clear();
+		}
+	}
+
+	@Override
+	public T get() {
+		return this.current.get();
+	}
+
+	@Override
+	public ConfigBranch getTree() {
+		return this.tree;
+	}
+
+	@Override
+	public T transaction(Runnable changes) {
+		Runnable notification = null;
+
+		try {
+			synchronized (this) {
+				this.transactionDepth++;
+
+				try {
+					changes.run();
+				} finally {
+					// leaves changed before a failure are still published
+					if (--this.transactionDepth == 0) {
+						notification = this.publish();
+					}
+				}
+			}
+		} finally {
+			if (notification != null) {
+				notification.run();
+			}
+		}
+
+		return this.current.get();
+	}
+
+	@Override
+	public void addListener(BiConsumer<? super T, ? super T> listener) {
+		this.listeners.add(Objects.requireNonNull(listener));
+	}
+}
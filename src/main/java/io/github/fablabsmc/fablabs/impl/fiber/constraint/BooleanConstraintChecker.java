@@ -1,7 +1,10 @@
 package io.github.fablabsmc.fablabs.impl.fiber.constraint;
 
+import javax.annotation.Nullable;
+
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.BooleanSerializableType;
-import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckResult;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.CorrectedValue;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckStatus;
 
 public class BooleanConstraintChecker extends ConstraintChecker<Boolean, BooleanSerializableType> {
 	private static final BooleanConstraintChecker INSTANCE = new BooleanConstraintChecker();
@@ -14,8 +17,8 @@ public class BooleanConstraintChecker extends ConstraintChecker<Boolean, Boolean
 	}
 
 	@Override
-	public TypeCheckResult<Boolean> test(BooleanSerializableType cfg, Boolean value) {
-		return TypeCheckResult.successful(value);
+	public TypeCheckStatus check(BooleanSerializableType cfg, Boolean value, @Nullable CorrectedValue<Boolean> corrected) {
+		return TypeCheckStatus.PASSED;
 	}
 
 	@Override
@@ -1,7 +1,11 @@
 package io.github.fablabsmc.fablabs.impl.fiber.constraint;
 
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.CorrectedValue;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckResult;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckStatus;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
 
 /**
@@ -24,8 +28,33 @@ public abstract class ConstraintChecker<V, T extends SerializableType<V>> {
 	 * @param cfg   the type configuration to test against
 	 * @param value the value
 	 * @return {@code true} if {@code value} satisfies the constraint
+	 * @see #check(SerializableType, Object, CorrectedValue)
+	 */
+	public final TypeCheckResult<V> test(T cfg, V value) {
+		CorrectedValue<V> corrected = new CorrectedValue<>();
+
+		switch (this.check(cfg, value, corrected)) {
+		case PASSED:
+			return TypeCheckResult.successful(value);
+		case CORRECTED:
+			return TypeCheckResult.failed(corrected.get());
+		default:
+			return TypeCheckResult.unrecoverable();
+		}
+	}
+
+	/**
+	 * Tests a value against this {@code Constraint}, without allocating a result.
+	 *
+	 * <p>If the value is invalid but can be corrected, this method returns {@link TypeCheckStatus#CORRECTED}
+	 * and stores the corrected value in {@code corrected}, unless it is {@code null}.
+	 *
+	 * @param cfg       the type configuration to test against
+	 * @param value     the value
+	 * @param corrected an optional holder receiving the corrected value
+	 * @return the status of the check
 	 */
-	public abstract TypeCheckResult<V> test(T cfg, V value);
+	public abstract TypeCheckStatus check(T cfg, V value, @Nullable CorrectedValue<V> corrected);
 
 	/**
 	 * Returns {@code true} if {@code cfg} comprehends {@code cfg2}.
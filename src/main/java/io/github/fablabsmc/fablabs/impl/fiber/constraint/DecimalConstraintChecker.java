@@ -2,39 +2,71 @@ package io.github.fablabsmc.fablabs.impl.fiber.constraint;
 
 import java.math.BigDecimal;
 
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.CorrectedValue;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DecimalSerializableType;
-import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckResult;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckStatus;
 
 /**
  * Checks validity of serialized numbers based on a {@code DecimalConfigType}'s range constraint.
  */
 public final class DecimalConstraintChecker extends ConstraintChecker<BigDecimal, DecimalSerializableType> {
-	private static final DecimalConstraintChecker INSTANCE = new DecimalConstraintChecker();
+	private static final DecimalConstraintChecker INSTANCE = new DecimalConstraintChecker(null);
+
+	/**
+	 * The bounds of the checked type scaled to {@code long}s, or {@code null} if they cannot be represented exactly.
+	 */
+	@Nullable
+	private final ScaledDecimalBounds scaledBounds;
 
 	public static DecimalConstraintChecker instance() {
 		return INSTANCE;
 	}
 
-	private DecimalConstraintChecker() {
+	/**
+	 * Returns a checker for a type with the given bounds, which checks values with scaled {@code long}
+	 * arithmetic when the bounds allow it.
+	 */
+	public static DecimalConstraintChecker of(@Nullable BigDecimal minimum, @Nullable BigDecimal maximum, @Nullable BigDecimal increment) {
+		ScaledDecimalBounds scaledBounds = ScaledDecimalBounds.of(minimum, maximum, increment);
+		return scaledBounds == null ? INSTANCE : new DecimalConstraintChecker(scaledBounds);
+	}
+
+	private DecimalConstraintChecker(@Nullable ScaledDecimalBounds scaledBounds) {
+		this.scaledBounds = scaledBounds;
 	}
 
 	@Override
-	public TypeCheckResult<BigDecimal> test(DecimalSerializableType cfg, BigDecimal value) {
+	public TypeCheckStatus check(DecimalSerializableType cfg, BigDecimal value, @Nullable CorrectedValue<BigDecimal> corrected) {
+		if (this.scaledBounds != null) {
+			TypeCheckStatus status = this.scaledBounds.check(value, corrected);
+
+			if (status != null) {
+				return status;
+			}
+		}
+
 		if (cfg.getMinimum() != null && cfg.getMinimum().compareTo(value) > 0) {
-			return TypeCheckResult.failed(cfg.getMinimum());
+			return corrected(cfg.getMinimum(), corrected);
 		} else if (cfg.getMaximum() != null && cfg.getMaximum().compareTo(value) < 0) {
-			return TypeCheckResult.failed(cfg.getMaximum());
+			return corrected(cfg.getMaximum(), corrected);
 		} else if (cfg.getIncrement() != null && value.remainder(cfg.getIncrement()).intValue() != 0) {
 			if (cfg.getMinimum() != null) {
-				return TypeCheckResult.failed(fit(value, cfg.getMinimum(), cfg.getIncrement()));
+				return corrected(fit(value, cfg.getMinimum(), cfg.getIncrement()), corrected);
 			} else {
-				return TypeCheckResult.unrecoverable();
+				return TypeCheckStatus.UNRECOVERABLE;
 			}
 		} else {
-			return TypeCheckResult.successful(value);
+			return TypeCheckStatus.PASSED;
 		}
 	}
 
+	static TypeCheckStatus corrected(BigDecimal correctedValue, @Nullable CorrectedValue<BigDecimal> corrected) {
+		if (corrected != null) corrected.set(correctedValue);
+		return TypeCheckStatus.CORRECTED;
+	}
+
 	@Override
 	public boolean comprehends(DecimalSerializableType cfg, DecimalSerializableType cfg2) {
 		if (cfg.getMinimum() == null || cfg2.getMinimum() != null && cfg.getMinimum().compareTo(cfg2.getMinimum()) <= 0) {
@@ -0,0 +1,78 @@
+package io.github.fablabsmc.fablabs.impl.fiber.constraint;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.CorrectedValue;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DoubleArraySerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckStatus;
+
+/**
+ * Checks validity of packed {@code double} arrays based on an {@code DoubleArraySerializableType}'s size and element range.
+ */
+public final class DoubleArrayConstraintChecker extends ConstraintChecker<double[], DoubleArraySerializableType> {
+	private static final DoubleArrayConstraintChecker INSTANCE = new DoubleArrayConstraintChecker();
+
+	public static DoubleArrayConstraintChecker instance() {
+		return INSTANCE;
+	}
+
+	private DoubleArrayConstraintChecker() {
+	}
+
+	@Override
+	public TypeCheckStatus check(DoubleArraySerializableType cfg, double[] values, @Nullable CorrectedValue<double[]> correctedValue) {
+		if (values.length < cfg.getMinSize()) {
+			return TypeCheckStatus.UNRECOVERABLE;
+		}
+
+		double min = cfg.getMinValue();
+		double max = cfg.getMaxValue();
+		int length = Math.min(values.length, cfg.getMaxSize());
+		int i = 0;
+
+		// NaN elements fail both comparisons
+		while (i < length && values[i] >= min && values[i] <= max) {
+			i++;
+		}
+
+		if (i == values.length) {
+			return TypeCheckStatus.PASSED;
+		}
+
+		if (correctedValue == null) {
+			// out of range elements can be clamped, but NaN elements cannot
+			for (; i < length; i++) {
+				if (Double.isNaN(values[i])) {
+					return TypeCheckStatus.UNRECOVERABLE;
+				}
+			}
+
+			return TypeCheckStatus.CORRECTED;
+		}
+
+		double[] corrected = Arrays.copyOf(values, length);
+
+		for (; i < length; i++) {
+			if (Double.isNaN(corrected[i])) {
+				return TypeCheckStatus.UNRECOVERABLE;
+			} else if (corrected[i] < min) {
+				corrected[i] = min;
+			} else if (corrected[i] > max) {
+				corrected[i] = max;
+			}
+		}
+
+		correctedValue.set(corrected);
+		return TypeCheckStatus.CORRECTED;
+	}
+
+	@Override
+	public boolean comprehends(DoubleArraySerializableType cfg, DoubleArraySerializableType cfg2) {
+		return cfg.getMinSize() <= cfg2.getMinSize()
+				&& cfg.getMaxSize() >= cfg2.getMaxSize()
+				&& cfg.getMinValue() <= cfg2.getMinValue()
+				&& cfg.getMaxValue() >= cfg2.getMaxValue();
+	}
+}
@@ -2,8 +2,11 @@ package io.github.fablabsmc.fablabs.impl.fiber.constraint;
 
 import java.util.Locale;
 
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.CorrectedValue;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.EnumSerializableType;
-import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckResult;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckStatus;
 
 public final class EnumConstraintChecker extends ConstraintChecker<String, EnumSerializableType> {
 	private static final EnumConstraintChecker INSTANCE = new EnumConstraintChecker();
@@ -16,18 +19,19 @@ public final class EnumConstraintChecker extends ConstraintChecker<String, EnumS
 	}
 
 	@Override
-	public TypeCheckResult<String> test(EnumSerializableType cfg, String value) {
-		if (cfg.getValidValues().contains(value)) {
-			return TypeCheckResult.successful(value);
+	public TypeCheckStatus check(EnumSerializableType cfg, String value, @Nullable CorrectedValue<String> corrected) {
+		if (cfg.ordinalOf(value) >= 0) {
+			return TypeCheckStatus.PASSED;
 		}
 
-		String corrected = value.toUpperCase(Locale.ROOT);
+		int ordinal = cfg.ordinalOf(value.toUpperCase(Locale.ROOT));
 
-		if (cfg.getValidValues().contains(corrected)) {
-			return TypeCheckResult.failed(corrected);
+		if (ordinal >= 0) {
+			if (corrected != null) corrected.set(cfg.valueAt(ordinal));
+			return TypeCheckStatus.CORRECTED;
 		}
 
-		return TypeCheckResult.unrecoverable();
+		return TypeCheckStatus.UNRECOVERABLE;
 	}
 
 	@Override
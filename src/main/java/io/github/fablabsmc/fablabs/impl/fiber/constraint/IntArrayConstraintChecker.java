@@ -0,0 +1,69 @@
+package io.github.fablabsmc.fablabs.impl.fiber.constraint;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.CorrectedValue;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.IntArraySerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckStatus;
+
+/**
+ * Checks validity of packed {@code int} arrays based on an {@code IntArraySerializableType}'s size and element range.
+ */
+public final class IntArrayConstraintChecker extends ConstraintChecker<int[], IntArraySerializableType> {
+	private static final IntArrayConstraintChecker INSTANCE = new IntArrayConstraintChecker();
+
+	public static IntArrayConstraintChecker instance() {
+		return INSTANCE;
+	}
+
+	private IntArrayConstraintChecker() {
+	}
+
+	@Override
+	public TypeCheckStatus check(IntArraySerializableType cfg, int[] values, @Nullable CorrectedValue<int[]> correctedValue) {
+		if (values.length < cfg.getMinSize()) {
+			return TypeCheckStatus.UNRECOVERABLE;
+		}
+
+		int min = cfg.getMinValue();
+		int max = cfg.getMaxValue();
+		int length = Math.min(values.length, cfg.getMaxSize());
+		int i = 0;
+
+		while (i < length && values[i] >= min && values[i] <= max) {
+			i++;
+		}
+
+		if (i == values.length) {
+			return TypeCheckStatus.PASSED;
+		}
+
+		if (correctedValue == null) {
+			// out of range elements can always be clamped
+			return TypeCheckStatus.CORRECTED;
+		}
+
+		int[] corrected = Arrays.copyOf(values, length);
+
+		for (; i < length; i++) {
+			if (corrected[i] < min) {
+				corrected[i] = min;
+			} else if (corrected[i] > max) {
+				corrected[i] = max;
+			}
+		}
+
+		correctedValue.set(corrected);
+		return TypeCheckStatus.CORRECTED;
+	}
+
+	@Override
+	public boolean comprehends(IntArraySerializableType cfg, IntArraySerializableType cfg2) {
+		return cfg.getMinSize() <= cfg2.getMinSize()
+				&& cfg.getMaxSize() >= cfg2.getMaxSize()
+				&& cfg.getMinValue() <= cfg2.getMinValue()
+				&& cfg.getMaxValue() >= cfg2.getMaxValue();
+	}
+}
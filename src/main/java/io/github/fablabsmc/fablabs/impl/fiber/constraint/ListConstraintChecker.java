@@ -2,12 +2,19 @@ package io.github.fablabsmc.fablabs.impl.fiber.constraint;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
 
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.CorrectedValue;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.ListSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckResult;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckStatus;
 
 /**
  * A component constraints is satisfied only if all elements in the aggregate type it checks satisfy the constraint.
@@ -16,6 +23,7 @@ import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckResult;
  */
 public final class ListConstraintChecker<E> extends ConstraintChecker<List<E>, ListSerializableType<E>> {
 	private static final ListConstraintChecker<?> INSTANCE = new ListConstraintChecker<>();
+	private static final int PAIRWISE_UNIQUENESS_THRESHOLD = 16;
 
 	public static <E> ListConstraintChecker<E> instance() {
 		@SuppressWarnings("unchecked") ListConstraintChecker<E> t = (ListConstraintChecker<E>) INSTANCE;
@@ -26,34 +34,146 @@ public final class ListConstraintChecker<E> extends ConstraintChecker<List<E>, L
 	}
 
 	@Override
-	public TypeCheckResult<List<E>> test(ListSerializableType<E> cfg, List<E> values) {
+	public TypeCheckStatus check(ListSerializableType<E> cfg, List<E> values, @Nullable CorrectedValue<List<E>> corrected) {
+		if (values.size() < cfg.getMinSize()) {
+			// correction can only remove elements
+			return TypeCheckStatus.UNRECOVERABLE;
+		}
+
+		int validPrefix = validPrefixLength(cfg, values);
+
+		if (validPrefix == values.size()) {
+			return TypeCheckStatus.PASSED;
+		}
+
+		return correct(cfg, values, validPrefix, corrected);
+	}
+
+	/**
+	 * Tests an element about to be appended to a list that is already known to satisfy {@code cfg}.
+	 *
+	 * <p>Unlike {@link #check(ListSerializableType, List, CorrectedValue)}, this method only checks the new element
+	 * against the existing ones, making it suitable for growing large lists one element at a time.
+	 *
+	 * @param cfg         the list type configuration
+	 * @param validValues a list that satisfies {@code cfg}
+	 * @param element     the element to append
+	 * @return the result of the check for the appended element
+	 */
+	public TypeCheckResult<E> testAppend(ListSerializableType<E> cfg, List<E> validValues, E element) {
+		if (validValues.size() >= cfg.getMaxSize()) {
+			return TypeCheckResult.unrecoverable();
+		}
+
+		if (!cfg.hasUniqueElements()) {
+			return cfg.getElementType().test(element);
+		}
+
+		CorrectedValue<E> corrected = new CorrectedValue<>();
+		TypeCheckStatus status = cfg.getElementType().check(element, corrected);
+
+		if (status == TypeCheckStatus.UNRECOVERABLE) {
+			return TypeCheckResult.unrecoverable();
+		}
+
+		E candidate = status == TypeCheckStatus.PASSED ? element : corrected.get();
+
+		if (validValues.contains(candidate)) {
+			return TypeCheckResult.unrecoverable();
+		}
+
+		return status == TypeCheckStatus.PASSED ? TypeCheckResult.successful(element) : TypeCheckResult.failed(candidate);
+	}
+
+	/**
+	 * Tests whether an element can be removed from a list that is already known to satisfy {@code cfg}.
+	 *
+	 * <p>Removing an element can neither break the uniqueness nor the element constraints of a valid list,
+	 * so this only checks the minimum size.
+	 *
+	 * @param cfg         the list type configuration
+	 * @param validValues a list that satisfies {@code cfg}
+	 * @return {@code true} if the list would still satisfy {@code cfg} after removing one element
+	 */
+	public boolean testRemoval(ListSerializableType<E> cfg, List<E> validValues) {
+		return validValues.size() > cfg.getMinSize();
+	}
+
+	/**
+	 * Counts the leading elements of {@code values} that satisfy the list constraints, without allocating
+	 * for small or non-unique lists.
+	 */
+	private static <E> int validPrefixLength(ListSerializableType<E> cfg, List<E> values) {
+		if (!(values instanceof RandomAccess)) {
+			// sequential lists are not worth special-casing, check everything the slow way
+			return 0;
+		}
+
+		int length = Math.min(values.size(), cfg.getMaxSize());
+		boolean unique = cfg.hasUniqueElements();
+		// small lists can be checked for duplicates without hashing anything
+		Set<E> seen = unique && length > PAIRWISE_UNIQUENESS_THRESHOLD ? new HashSet<>() : null;
+
+		for (int i = 0; i < length; i++) {
+			E e = values.get(i);
+
+			if (cfg.getElementType().check(e, null) != TypeCheckStatus.PASSED) {
+				return i;
+			}
+
+			if (seen != null) {
+				if (!seen.add(e)) return i;
+			} else if (unique) {
+				for (int j = 0; j < i; j++) {
+					if (Objects.equals(values.get(j), e)) return i;
+				}
+			}
+		}
+
+		return length;
+	}
+
+	/**
+	 * Builds a corrected list, given that the first {@code validPrefix} elements of {@code values}
+	 * are already known to be valid.
+	 */
+	private static <E> TypeCheckStatus correct(ListSerializableType<E> cfg, List<E> values, int validPrefix, @Nullable CorrectedValue<List<E>> corrected) {
 		boolean valid = true;
 		int maxSize = cfg.getMaxSize();
-		Collection<E> corrected = cfg.hasUniqueElements() ? new LinkedHashSet<>(values.size()) : new ArrayList<>(values.size());
+		Collection<E> ret = cfg.hasUniqueElements() ? new LinkedHashSet<>(values.size()) : new ArrayList<>(values.size());
+		ret.addAll(values.subList(0, validPrefix));
+		// reused for every element
+		CorrectedValue<E> correctedElement = new CorrectedValue<>();
 
-		for (E e : values) {
-			if (corrected.size() >= maxSize) {
+		for (E e : values.subList(validPrefix, values.size())) {
+			if (ret.size() >= maxSize) {
 				valid = false;
 				break;
 			}
 
-			TypeCheckResult<E> testResult = cfg.getElementType().test(e);
+			TypeCheckStatus status = cfg.getElementType().check(e, correctedElement);
 
-			if (testResult.hasPassed()) {
-				valid &= corrected.add(e);  // UNIQUE check
+			if (status == TypeCheckStatus.PASSED) {
+				valid &= ret.add(e);  // UNIQUE check
 			} else {
 				valid = false;
-				Optional<E> correctedValue = testResult.getCorrectedValue();
-				correctedValue.ifPresent(corrected::add);
-				// if not present, just skip it
+
+				if (status == TypeCheckStatus.CORRECTED) {
+					ret.add(correctedElement.get());
+				}
+
+				// if unrecoverable, just skip it
 			}
 		}
 
-		if (corrected.size() < cfg.getMinSize()) {
-			return TypeCheckResult.unrecoverable();
+		if (ret.size() < cfg.getMinSize()) {
+			return TypeCheckStatus.UNRECOVERABLE;
+		} else if (valid) {
+			return TypeCheckStatus.PASSED;
 		}
 
-		return valid ? TypeCheckResult.successful(values) : TypeCheckResult.failed(new ArrayList<>(corrected));
+		if (corrected != null) corrected.set(new ArrayList<>(ret));
+		return TypeCheckStatus.CORRECTED;
 	}
 
 	@Override
@@ -2,10 +2,12 @@ package io.github.fablabsmc.fablabs.impl.fiber.constraint;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Optional;
 
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.CorrectedValue;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.MapSerializableType;
-import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckResult;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckStatus;
 
 public class MapConstraintChecker<V> extends ConstraintChecker<Map<String, V>, MapSerializableType<V>> {
 	private static final MapConstraintChecker<?> INSTANCE = new MapConstraintChecker<>();
@@ -19,41 +21,90 @@ public class MapConstraintChecker<V> extends ConstraintChecker<Map<String, V>, M
 	}
 
 	@Override
-	public TypeCheckResult<Map<String, V>> test(MapSerializableType<V> cfg, Map<String, V> values) {
+	public TypeCheckStatus check(MapSerializableType<V> cfg, Map<String, V> values, @Nullable CorrectedValue<Map<String, V>> corrected) {
+		if (values.size() < cfg.getMinSize()) {
+			// correction can only remove entries
+			return TypeCheckStatus.UNRECOVERABLE;
+		}
+
+		int validPrefix = validPrefixLength(cfg, values);
+
+		if (validPrefix == values.size()) {
+			return TypeCheckStatus.PASSED;
+		}
+
+		return correct(cfg, values, validPrefix, corrected);
+	}
+
+	/**
+	 * Counts the leading entries of {@code values} that satisfy the map constraints, without allocating a new map.
+	 */
+	private static <V> int validPrefixLength(MapSerializableType<V> cfg, Map<String, V> values) {
+		int length = Math.min(values.size(), cfg.getMaxSize());
+		int i = 0;
+
+		for (Map.Entry<String, V> entry : values.entrySet()) {
+			if (i == length
+					|| cfg.getKeyType().check(entry.getKey(), null) != TypeCheckStatus.PASSED
+					|| cfg.getValueType().check(entry.getValue(), null) != TypeCheckStatus.PASSED) {
+				break;
+			}
+
+			i++;
+		}
+
+		return i;
+	}
+
+	/**
+	 * Builds a corrected map, given that the first {@code validPrefix} entries of {@code values}
+	 * are already known to be valid.
+	 */
+	private static <V> TypeCheckStatus correct(MapSerializableType<V> cfg, Map<String, V> values, int validPrefix, @Nullable CorrectedValue<Map<String, V>> corrected) {
 		boolean valid = true;
 		int maxSize = cfg.getMaxSize();
-		Map<String, V> corrected = new LinkedHashMap<>();
+		Map<String, V> ret = new LinkedHashMap<>();
+		// reused for every entry
+		CorrectedValue<String> correctedKey = new CorrectedValue<>();
+		CorrectedValue<V> correctedValue = new CorrectedValue<>();
+		int i = 0;
 
 		for (Map.Entry<String, V> entry : values.entrySet()) {
-			if (corrected.size() >= maxSize) {
+			if (i++ < validPrefix) {
+				ret.put(entry.getKey(), entry.getValue());
+				continue;
+			}
+
+			if (ret.size() >= maxSize) {
 				valid = false;
 				break;
 			}
 
-			TypeCheckResult<String> keyTestResult = cfg.getKeyType().test(entry.getKey());
-			TypeCheckResult<V> valueTestResult = cfg.getValueType().test(entry.getValue());
+			TypeCheckStatus keyStatus = cfg.getKeyType().check(entry.getKey(), correctedKey);
+			TypeCheckStatus valueStatus = cfg.getValueType().check(entry.getValue(), correctedValue);
 
-			if (keyTestResult.hasPassed() && valueTestResult.hasPassed()) {
-				corrected.put(entry.getKey(), entry.getValue());
+			if (keyStatus == TypeCheckStatus.PASSED && valueStatus == TypeCheckStatus.PASSED) {
+				ret.put(entry.getKey(), entry.getValue());
 			} else {
 				valid = false;
-				Optional<String> correctedKey = keyTestResult.getCorrectedValue();
-				Optional<V> correctedValue = valueTestResult.getCorrectedValue();
 
-				if (correctedKey.isPresent() && correctedValue.isPresent()) {
-					corrected.put(correctedKey.get(), correctedValue.get());
+				if (keyStatus != TypeCheckStatus.UNRECOVERABLE && valueStatus != TypeCheckStatus.UNRECOVERABLE) {
+					String key = keyStatus == TypeCheckStatus.PASSED ? entry.getKey() : correctedKey.get();
+					V value = valueStatus == TypeCheckStatus.PASSED ? entry.getValue() : correctedValue.get();
+					ret.put(key, value);
 				}
 
 				// if key or value missing, just skip the entry
 			}
 		}
 
-		if (corrected.size() < cfg.getMinSize()) {
-			return TypeCheckResult.unrecoverable();
+		if (ret.size() < cfg.getMinSize()) {
+			return TypeCheckStatus.UNRECOVERABLE;
 		} else if (!valid) {
-			return TypeCheckResult.failed(corrected);
+			if (corrected != null) corrected.set(ret);
+			return TypeCheckStatus.CORRECTED;
 		} else {
-			return TypeCheckResult.successful(values);
+			return TypeCheckStatus.PASSED;
 		}
 	}
 
@@ -1,12 +1,14 @@
 package io.github.fablabsmc.fablabs.impl.fiber.constraint;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Optional;
 
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.CorrectedValue;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.RecordSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.RecordValue;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
-import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckResult;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckStatus;
 
 public class RecordConstraintChecker extends ConstraintChecker<Map<String, Object>, RecordSerializableType> {
 	private static final RecordConstraintChecker INSTANCE = new RecordConstraintChecker();
@@ -19,42 +21,66 @@ public class RecordConstraintChecker extends ConstraintChecker<Map<String, Objec
 	}
 
 	@Override
-	public TypeCheckResult<Map<String, Object>> test(RecordSerializableType cfg, Map<String, Object> value) {
-		// if value does not have enough fields -> unrecoverable
-		if (!value.keySet().containsAll(cfg.getFields().keySet())) {
-			return TypeCheckResult.unrecoverable();
+	public TypeCheckStatus check(RecordSerializableType cfg, Map<String, Object> value, @Nullable CorrectedValue<Map<String, Object>> correctedValue) {
+		boolean sameLayout = cfg.hasLayoutOf(value);
+		boolean successful;
+
+		if (sameLayout) {
+			// fields are stored in the right order, no need to look them up by name
+			successful = true;
+		} else {
+			// if value does not have enough fields -> unrecoverable
+			if (!value.keySet().containsAll(cfg.getFields().keySet())) {
+				return TypeCheckStatus.UNRECOVERABLE;
+			}
+
+			// if value has extra fields -> failed
+			successful = cfg.getFields().keySet().containsAll(value.keySet());
 		}
 
-		// if value has extra fields -> failed
-		boolean successful = cfg.getFields().keySet().containsAll(value.keySet());
-		// keep track of a corrected value map
-		Map<String, Object> corrected = new LinkedHashMap<>(value.size());
+		// keep track of corrected field values, only allocated once a field fails
+		Object[] corrected = successful ? null : new Object[cfg.getFieldCount()];
+		// reused for every field
+		CorrectedValue<Object> correctedField = new CorrectedValue<>();
 
-		for (Map.Entry<String, SerializableType<?>> field : cfg.getFields().entrySet()) {
-			Object child = value.get(field.getKey());
-			SerializableType<?> fieldType = field.getValue();
-			TypeCheckResult<?> result = this.testChild(fieldType, child);
-			Optional<?> correctedFieldValue = result.getCorrectedValue();
+		for (int i = 0; i < cfg.getFieldCount(); i++) {
+			Object child = fieldValue(cfg, value, sameLayout, i);
+			TypeCheckStatus status = checkChild(cfg.getFieldType(i), child, correctedField);
 
-			if (!result.hasPassed()) {
-				successful = false;
+			if (status == TypeCheckStatus.UNRECOVERABLE) {
+				return TypeCheckStatus.UNRECOVERABLE;
 			}
 
-			if (correctedFieldValue.isPresent()) {
-				corrected.put(field.getKey(), correctedFieldValue.get());
-			} else {
-				return TypeCheckResult.unrecoverable();
+			if (status == TypeCheckStatus.CORRECTED && corrected == null) {
+				corrected = new Object[cfg.getFieldCount()];
+
+				for (int j = 0; j < i; j++) {
+					corrected[j] = fieldValue(cfg, value, sameLayout, j);
+				}
 			}
+
+			if (corrected != null) {
+				corrected[i] = status == TypeCheckStatus.PASSED ? child : correctedField.get();
+			}
+		}
+
+		if (corrected == null) {
+			return TypeCheckStatus.PASSED;
 		}
 
-		return successful ? TypeCheckResult.successful(value) : TypeCheckResult.failed(corrected);
+		if (correctedValue != null) correctedValue.set(cfg.createRecord(corrected));
+		return TypeCheckStatus.CORRECTED;
+	}
+
+	private static Object fieldValue(RecordSerializableType cfg, Map<String, Object> value, boolean sameLayout, int index) {
+		return sameLayout ? ((RecordValue) value).get(index) : value.get(cfg.getFieldName(index));
 	}
 
 	@SuppressWarnings("unchecked")
-	private <T> TypeCheckResult<T> testChild(SerializableType<T> type, Object value) {
+	private static <T> TypeCheckStatus checkChild(SerializableType<T> type, Object value, CorrectedValue<Object> corrected) {
 		// value has already been validated, so this is always valid
-		// type.test also calls type.cast inside it, so double casting serves no purpose
-		return type.test((T) value);
+		// type.check also calls type.cast inside it, so double casting serves no purpose
+		return type.check((T) value, (CorrectedValue<T>) corrected);
 	}
 
 	@Override
@@ -0,0 +1,120 @@
+package io.github.fablabsmc.fablabs.impl.fiber.constraint;
+
+import java.math.BigDecimal;
+
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.CorrectedValue;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DecimalSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckStatus;
+
+/**
+ * The bounds of a {@link DecimalSerializableType}, stored as {@code long}s scaled by a common power of ten.
+ *
+ * <p>Most numeric constraints use small integers or decimals with a few digits, for which values can be
+ * checked and corrected with primitive arithmetic instead of {@link BigDecimal} operations. Values that
+ * cannot be represented exactly with the common scale are left to {@link DecimalConstraintChecker}.
+ */
+public final class ScaledDecimalBounds {
+	private static final int MAX_SCALE = 9;
+	/**
+	 * The maximum amount of digits of a scaled value, chosen so that intermediate results never overflow.
+	 */
+	private static final int MAX_DIGITS = 17;
+	private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+	static {
+		POWERS_OF_TEN[0] = 1;
+
+		for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+		}
+	}
+
+	@Nullable
+	private final BigDecimal minimum;
+	@Nullable
+	private final BigDecimal maximum;
+	private final int scale;
+	private final long min;
+	private final long max;
+	private final long increment;
+	private final int correctedScale;
+
+	private ScaledDecimalBounds(@Nullable BigDecimal minimum, @Nullable BigDecimal maximum, @Nullable BigDecimal increment, int scale) {
+		this.minimum = minimum;
+		this.maximum = maximum;
+		this.scale = scale;
+		this.min = minimum == null ? Long.MIN_VALUE : this.toScaledLong(minimum);
+		this.max = maximum == null ? Long.MAX_VALUE : this.toScaledLong(maximum);
+		this.increment = increment == null ? 0 : this.toScaledLong(increment);
+		// same scale as the corrected values computed by DecimalConstraintChecker
+		this.correctedScale = minimum == null || increment == null ? 0 : Math.max(minimum.scale(), increment.scale());
+	}
+
+	/**
+	 * Creates scaled bounds from the given decimal bounds.
+	 *
+	 * @return the scaled bounds, or {@code null} if any of the bounds cannot be represented exactly
+	 */
+	@Nullable
+	public static ScaledDecimalBounds of(@Nullable BigDecimal minimum, @Nullable BigDecimal maximum, @Nullable BigDecimal increment) {
+		int scale = 0;
+
+		for (BigDecimal bound : new BigDecimal[] {minimum, maximum, increment}) {
+			if (bound != null) {
+				if (bound.scale() < 0 || bound.scale() > MAX_SCALE) return null;
+				scale = Math.max(scale, bound.scale());
+			}
+		}
+
+		for (BigDecimal bound : new BigDecimal[] {minimum, maximum, increment}) {
+			if (bound != null && !fits(bound, scale)) return null;
+		}
+
+		return new ScaledDecimalBounds(minimum, maximum, increment, scale);
+	}
+
+	/**
+	 * Checks a value against these bounds, with the same semantics as {@link DecimalConstraintChecker#check}.
+	 *
+	 * @param value     the value to check
+	 * @param corrected an optional holder receiving the corrected value
+	 * @return the status of the check, or {@code null} if the value cannot be checked using primitive arithmetic
+	 */
+	@Nullable
+	TypeCheckStatus check(BigDecimal value, @Nullable CorrectedValue<BigDecimal> corrected) {
+		if (!fits(value, this.scale)) {
+			return null;
+		}
+
+		long v = this.toScaledLong(value);
+
+		if (v < this.min) {
+			return DecimalConstraintChecker.corrected(this.minimum, corrected);
+		} else if (v > this.max) {
+			return DecimalConstraintChecker.corrected(this.maximum, corrected);
+		} else if (this.increment != 0 && (int) (v % this.increment / POWERS_OF_TEN[this.scale]) != 0) {
+			// the increment check mirrors BigDecimal#remainder(BigDecimal)#intValue()
+			if (corrected != null) {
+				long prevTick = this.min + (v - this.min) / this.increment * this.increment;
+				long nextTick = prevTick + this.increment;
+				long correctedTick = v - prevTick < nextTick - v ? prevTick : nextTick;
+				corrected.set(BigDecimal.valueOf(correctedTick, this.scale).setScale(this.correctedScale, BigDecimal.ROUND_UNNECESSARY));
+			}
+
+			return TypeCheckStatus.CORRECTED;
+		} else {
+			return TypeCheckStatus.PASSED;
+		}
+	}
+
+	private static boolean fits(BigDecimal value, int scale) {
+		return value.scale() >= 0 && value.scale() <= scale && value.precision() + scale - value.scale() <= MAX_DIGITS;
+	}
+
+	private long toScaledLong(BigDecimal value) {
+		long unscaled = value.scale() == 0 ? value.longValue() : value.unscaledValue().longValue();
+		return unscaled * POWERS_OF_TEN[this.scale - value.scale()];
+	}
+}
@@ -0,0 +1,428 @@
+package io.github.fablabsmc.fablabs.impl.fiber.constraint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+/**
+ * A compiled form of simple regular expressions, made of a sequence of literals and character classes
+ * with optional greedy quantifiers (eg. {@code [a-z_][a-z0-9_]*} or {@code \d{3}-\d{4}}).
+ *
+ * <p>Such patterns make up most of the patterns used to constrain config strings, and can be
+ * matched without the overhead of a {@link java.util.regex.Matcher}. Patterns using any other
+ * construct (groups, alternations, anchors, lookarounds, flags...) are not supported
+ * and are left to {@link Pattern}.
+ */
+final class SimplePattern {
+	private static final String META_CHARACTERS = "\\[](){}.*+?^$|";
+
+	private final Atom[] atoms;
+
+	private SimplePattern(Atom[] atoms) {
+		this.atoms = atoms;
+	}
+
+	/**
+	 * Compiles a simple pattern equivalent to the given regular expression.
+	 *
+	 * @param pattern the pattern to compile
+	 * @return the compiled pattern, or {@code null} if {@code pattern} is not simple enough
+	 */
+	@Nullable
+	static SimplePattern compile(Pattern pattern) {
+		if (pattern.flags() != 0) {
+			return null;
+		}
+
+		try {
+			return new Parser(pattern.pattern()).parse();
+		} catch (UnsupportedSyntaxException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns whether the whole {@code value} matches this pattern, as {@link java.util.regex.Matcher#matches()} would.
+	 *
+	 * <p>Values containing surrogate characters must not be passed to this method, as regular expressions
+	 * match them by code point.
+	 */
+	boolean matches(String value) {
+		return this.matches(0, value, 0);
+	}
+
+	private boolean matches(int atomIndex, String value, int pos) {
+		if (atomIndex == this.atoms.length) {
+			return pos == value.length();
+		}
+
+		Atom atom = this.atoms[atomIndex];
+		int max = Math.min(atom.max, value.length() - pos);
+		int count = 0;
+
+		while (count < max && atom.charClass.contains(value.charAt(pos + count))) {
+			count++;
+		}
+
+		if (atomIndex == this.atoms.length - 1) {
+			return count >= atom.min && pos + count == value.length();
+		}
+
+		// greedy, backtrack until the rest of the pattern matches
+		for (int n = count; n >= atom.min; n--) {
+			if (this.matches(atomIndex + 1, value, pos + n)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns {@code true} if every string matched by {@code other} is also matched by this pattern.
+	 *
+	 * <p>This check is conservative: it only compares patterns atom by atom, and may therefore return
+	 * {@code false} for some patterns that do include the other one.
+	 */
+	boolean includes(SimplePattern other) {
+		if (this.atoms.length != other.atoms.length) {
+			return false;
+		}
+
+		for (int i = 0; i < this.atoms.length; i++) {
+			Atom a = this.atoms[i];
+			Atom b = other.atoms[i];
+
+			if (a.min > b.min || a.max < b.max || !a.charClass.includes(b.charClass)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static final class Atom {
+		final CharClass charClass;
+		final int min;
+		final int max;
+
+		Atom(CharClass charClass, int min, int max) {
+			this.charClass = charClass;
+			this.min = min;
+			this.max = max;
+		}
+	}
+
+	/**
+	 * A set of characters, stored as a bitmask for ASCII characters and as a list of ranges for other characters.
+	 */
+	private static final class CharClass {
+		static final CharClass DIGIT = new CharClass().addRange('0', '9');
+		static final CharClass WORD = new CharClass().addRange('a', 'z').addRange('A', 'Z').addRange('0', '9').add('_');
+		static final CharClass SPACE = new CharClass().add(' ').add('\t').add('\n').add('\u000B').add('\f').add('\r');
+		static final CharClass LINE_TERMINATOR = new CharClass().add('\n').add('\r').add((char) 0x85).add((char) 0x2028).add((char) 0x2029);
+
+		private long low;
+		private long high;
+		private final List<char[]> ranges = new ArrayList<>();
+		private boolean negated;
+
+		CharClass add(char c) {
+			return this.addRange(c, c);
+		}
+
+		CharClass addRange(char from, char to) {
+			for (int c = from; c <= Math.min(to, 127); c++) {
+				if (c < 64) {
+					this.low |= 1L << c;
+				} else {
+					this.high |= 1L << (c - 64);
+				}
+			}
+
+			if (to >= 128) {
+				this.ranges.add(new char[] {(char) Math.max(from, 128), to});
+			}
+
+			return this;
+		}
+
+		CharClass addAll(CharClass other) {
+			if (other.negated) {
+				throw new UnsupportedSyntaxException();
+			}
+
+			this.low |= other.low;
+			this.high |= other.high;
+			this.ranges.addAll(other.ranges);
+			return this;
+		}
+
+		CharClass negated() {
+			CharClass ret = new CharClass().addAll(this);
+			ret.negated = true;
+			return ret;
+		}
+
+		boolean contains(char c) {
+			return this.containsRaw(c) != this.negated;
+		}
+
+		private boolean containsRaw(char c) {
+			if (c < 64) {
+				return (this.low & (1L << c)) != 0;
+			} else if (c < 128) {
+				return (this.high & (1L << (c - 64))) != 0;
+			}
+
+			for (char[] range : this.ranges) {
+				if (c >= range[0] && c <= range[1]) return true;
+			}
+
+			return false;
+		}
+
+		/**
+		 * Returns {@code true} if every character of {@code other} is part of this class. This check is conservative.
+		 */
+		boolean includes(CharClass other) {
+			if (!this.negated && !other.negated) {
+				return this.includesRaw(other);
+			} else if (this.negated && other.negated) {
+				// the excluded characters of this class must also be excluded from the other
+				return other.includesRaw(this);
+			} else if (this.negated) {
+				// the other class must not contain any of the excluded characters
+				return this.isDisjointRaw(other);
+			}
+
+			// a negated class is never a subset of a plain class written with a reasonable amount of ranges
+			return false;
+		}
+
+		private boolean includesRaw(CharClass other) {
+			if ((other.low & ~this.low) != 0 || (other.high & ~this.high) != 0) return false;
+
+			for (char[] range : other.ranges) {
+				if (!this.containsRange(range[0], range[1])) return false;
+			}
+
+			return true;
+		}
+
+		private boolean isDisjointRaw(CharClass other) {
+			if ((other.low & this.low) != 0 || (other.high & this.high) != 0) return false;
+
+			for (char[] a : this.ranges) {
+				for (char[] b : other.ranges) {
+					if (a[0] <= b[1] && b[0] <= a[1]) return false;
+				}
+			}
+
+			return true;
+		}
+
+		private boolean containsRange(char from, char to) {
+			for (char[] range : this.ranges) {
+				if (from >= range[0] && to <= range[1]) return true;
+			}
+
+			return false;
+		}
+	}
+
+	private static final class Parser {
+		private final String regex;
+		private int pos;
+
+		Parser(String regex) {
+			this.regex = regex;
+		}
+
+		SimplePattern parse() {
+			List<Atom> atoms = new ArrayList<>();
+
+			while (this.pos < this.regex.length()) {
+				CharClass charClass = this.parseAtom();
+				int min = 1;
+				int max = 1;
+
+				if (this.pos < this.regex.length()) {
+					char c = this.regex.charAt(this.pos);
+
+					if (c == '*' || c == '+' || c == '?') {
+						this.pos++;
+						min = c == '+' ? 1 : 0;
+						max = c == '?' ? 1 : Integer.MAX_VALUE;
+						this.rejectQuantifierMode();
+					} else if (c == '{') {
+						this.pos++;
+						min = this.parseInt();
+						max = min;
+
+						if (this.peek() == ',') {
+							this.pos++;
+							max = this.peek() == '}' ? Integer.MAX_VALUE : this.parseInt();
+						}
+
+						this.expect('}');
+						this.rejectQuantifierMode();
+					}
+				}
+
+				atoms.add(new Atom(charClass, min, max));
+			}
+
+			return new SimplePattern(atoms.toArray(new Atom[0]));
+		}
+
+		/**
+		 * Rejects reluctant and possessive quantifiers, which are left to {@link Pattern}.
+		 */
+		private void rejectQuantifierMode() {
+			if (this.pos < this.regex.length() && (this.regex.charAt(this.pos) == '?' || this.regex.charAt(this.pos) == '+')) {
+				throw new UnsupportedSyntaxException();
+			}
+		}
+
+		private CharClass parseAtom() {
+			char c = this.next();
+
+			if (c == '\\') {
+				char escaped = this.next();
+				CharClass shorthand = shorthand(escaped);
+				return shorthand != null ? shorthand : new CharClass().add(escapedLiteral(escaped));
+			} else if (c == '[') {
+				return this.parseClass();
+			} else if (c == '.') {
+				return CharClass.LINE_TERMINATOR.negated();
+			} else if (META_CHARACTERS.indexOf(c) >= 0 || Character.isSurrogate(c)) {
+				throw new UnsupportedSyntaxException();
+			}
+
+			return new CharClass().add(c);
+		}
+
+		private CharClass parseClass() {
+			CharClass ret = new CharClass();
+			boolean negated = false;
+
+			if (this.peek() == '^') {
+				this.pos++;
+				negated = true;
+			}
+
+			if (this.peek() == ']') {
+				throw new UnsupportedSyntaxException();
+			}
+
+			while (this.peek() != ']') {
+				char c = this.next();
+
+				if (c == '[' || c == '&' || Character.isSurrogate(c)) {
+					// nested classes, unions and intersections
+					throw new UnsupportedSyntaxException();
+				}
+
+				if (c == '\\') {
+					char escaped = this.next();
+					CharClass shorthand = shorthand(escaped);
+
+					if (shorthand != null) {
+						ret.addAll(shorthand);
+						continue;
+					}
+
+					c = escapedLiteral(escaped);
+				}
+
+				if (this.peek() == '-' && this.pos + 1 < this.regex.length() && this.regex.charAt(this.pos + 1) != ']') {
+					this.pos++;
+					char to = this.next();
+
+					if (to == '\\') {
+						to = escapedLiteral(this.next());
+					} else if (to == '[' || to == '&' || Character.isSurrogate(to)) {
+						throw new UnsupportedSyntaxException();
+					}
+
+					if (to < c) throw new UnsupportedSyntaxException();
+					ret.addRange(c, to);
+				} else {
+					ret.add(c);
+				}
+			}
+
+			this.expect(']');
+			return negated ? ret.negated() : ret;
+		}
+
+		@Nullable
+		private static CharClass shorthand(char c) {
+			switch (c) {
+			case 'd':
+				return CharClass.DIGIT;
+			case 'D':
+				return CharClass.DIGIT.negated();
+			case 'w':
+				return CharClass.WORD;
+			case 'W':
+				return CharClass.WORD.negated();
+			case 's':
+				return CharClass.SPACE;
+			case 'S':
+				return CharClass.SPACE.negated();
+			default:
+				return null;
+			}
+		}
+
+		private static char escapedLiteral(char c) {
+			// only escaped ASCII punctuation is a plain literal, letters and digits have special meanings
+			if (c >= 128 || Character.isLetterOrDigit(c)) {
+				throw new UnsupportedSyntaxException();
+			}
+
+			return c;
+		}
+
+		private int parseInt() {
+			int start = this.pos;
+
+			while (this.pos < this.regex.length() && this.pos - start < 9 && Character.isDigit(this.regex.charAt(this.pos))) {
+				this.pos++;
+			}
+
+			if (start == this.pos) throw new UnsupportedSyntaxException();
+			return Integer.parseInt(this.regex.substring(start, this.pos));
+		}
+
+		private char peek() {
+			if (this.pos >= this.regex.length()) throw new UnsupportedSyntaxException();
+			return this.regex.charAt(this.pos);
+		}
+
+		private char next() {
+			char c = this.peek();
+			this.pos++;
+			return c;
+		}
+
+		private void expect(char c) {
+			if (this.next() != c) throw new UnsupportedSyntaxException();
+		}
+	}
+
+	/**
+	 * Thrown when parsing a pattern that cannot be represented as a {@code SimplePattern}.
+	 */
+	private static final class UnsupportedSyntaxException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		UnsupportedSyntaxException() {
+			super(null, null, false, false);
+		}
+	}
+}
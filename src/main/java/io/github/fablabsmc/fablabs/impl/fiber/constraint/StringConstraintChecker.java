@@ -2,8 +2,11 @@ package io.github.fablabsmc.fablabs.impl.fiber.constraint;
 
 import java.util.regex.Pattern;
 
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.CorrectedValue;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.StringSerializableType;
-import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckResult;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckStatus;
 
 /**
  * Checks validity of serialized strings based on a {@code StringConfigType}'s length range and pattern.
@@ -19,22 +22,20 @@ public final class StringConstraintChecker extends ConstraintChecker<String, Str
 	}
 
 	@Override
-	public TypeCheckResult<String> test(StringSerializableType cfg, String value) {
+	public TypeCheckStatus check(StringSerializableType cfg, String value, @Nullable CorrectedValue<String> corrected) {
 		if (value.length() < cfg.getMinLength()) {
-			return TypeCheckResult.unrecoverable();
+			return TypeCheckStatus.UNRECOVERABLE;
 		}
 
 		if (value.length() > cfg.getMaxLength()) {
-			return TypeCheckResult.unrecoverable();
+			return TypeCheckStatus.UNRECOVERABLE;
 		}
 
-		Pattern pattern = cfg.getPattern();
-
-		if (pattern != null && !pattern.matcher(value).matches()) {
-			return TypeCheckResult.unrecoverable();
+		if (!cfg.matchesPattern(value)) {
+			return TypeCheckStatus.UNRECOVERABLE;
 		}
 
-		return TypeCheckResult.successful(value);
+		return TypeCheckStatus.PASSED;
 	}
 
 	@Override
@@ -47,7 +48,8 @@ public final class StringConstraintChecker extends ConstraintChecker<String, Str
 			return false;
 		}
 
-		// TODO detect if this pattern matches every string the other pattern can?
-		return cfg.getPattern() == null || cfg.getPattern().equals(cfg2.getPattern());
+		Pattern pattern = cfg.getPattern();
+		Pattern pattern2 = cfg2.getPattern();
+		return pattern == null || pattern2 != null && StringPatternMatcher.includes(pattern, pattern2);
 	}
 }
@@ -0,0 +1,98 @@
+package io.github.fablabsmc.fablabs.impl.fiber.constraint;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+/**
+ * Matches strings against a {@link Pattern}, avoiding the cost of a new {@link Matcher} for every check.
+ *
+ * <p>Simple patterns are matched directly by a {@link SimplePattern}, other patterns use a thread-local
+ * {@code Matcher}. Recently accepted values are remembered in a small, lock-free cache, so that values
+ * that are set repeatedly (eg. when reloading a config file) are only matched once.
+ */
+public final class StringPatternMatcher {
+	private static final int CACHE_SIZE = 64;
+	private static final Map<Pattern, Map<Pattern, Boolean>> INCLUSION_CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private final Pattern pattern;
+	@Nullable
+	private final SimplePattern simplePattern;
+	private final ThreadLocal<Matcher> matcher;
+	private final AtomicReferenceArray<String> acceptedValues = new AtomicReferenceArray<>(CACHE_SIZE);
+
+	public StringPatternMatcher(Pattern pattern) {
+		this.pattern = pattern;
+		this.simplePattern = SimplePattern.compile(pattern);
+		this.matcher = ThreadLocal.withInitial(() -> pattern.matcher(""));
+	}
+
+	public Pattern getPattern() {
+		return this.pattern;
+	}
+
+	/**
+	 * Returns whether the whole {@code value} matches this matcher's pattern.
+	 *
+	 * @param value the string to match
+	 * @return {@code true} if {@code value} matches the pattern
+	 * @see Matcher#matches()
+	 */
+	public boolean matches(String value) {
+		int slot = value.hashCode() & (CACHE_SIZE - 1);
+
+		if (value.equals(this.acceptedValues.get(slot))) {
+			return true;
+		}
+
+		boolean matches;
+
+		if (this.simplePattern != null && !hasSurrogates(value)) {
+			matches = this.simplePattern.matches(value);
+		} else {
+			matches = this.matcher.get().reset(value).matches();
+		}
+
+		if (matches) {
+			this.acceptedValues.lazySet(slot, value);
+		}
+
+		return matches;
+	}
+
+	/**
+	 * Returns {@code true} if every string matched by {@code other} is also matched by {@code pattern}.
+	 *
+	 * <p>This check is conservative: a {@code false} result does not prove that {@code other} matches some string
+	 * that {@code pattern} does not. Results are cached for the lifetime of the compared patterns.
+	 *
+	 * @param pattern the pattern that may include {@code other}
+	 * @param other   the pattern that may be included in {@code pattern}
+	 * @return {@code true} if {@code pattern} is known to match every string matched by {@code other}
+	 */
+	public static boolean includes(Pattern pattern, Pattern other) {
+		if (pattern == other || pattern.flags() == other.flags() && pattern.pattern().equals(other.pattern())) {
+			return true;
+		}
+
+		Map<Pattern, Boolean> cached = INCLUSION_CACHE.computeIfAbsent(pattern, p -> Collections.synchronizedMap(new WeakHashMap<>()));
+		return cached.computeIfAbsent(other, o -> {
+			SimplePattern simplePattern = SimplePattern.compile(pattern);
+			SimplePattern simpleOther = SimplePattern.compile(o);
+			return simplePattern != null && simpleOther != null && simplePattern.includes(simpleOther);
+		});
+	}
+
+	private static boolean hasSurrogates(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			if (Character.isSurrogate(value.charAt(i))) return true;
+		}
+
+		return false;
+	}
+}
@@ -0,0 +1,74 @@
+package io.github.fablabsmc.fablabs.impl.fiber.jfr;
+
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
+
+/**
+ * Emits Java Flight Recorder events for config operations.
+ *
+ * <p>This class is the Java 8 version, which does nothing. On JDK 11 and above, it is replaced by
+ * the version in {@code META-INF/versions/11} of the multi-release jar, which emits events when
+ * they are enabled in a recording.
+ *
+ * <p>Timed events are started by a {@code begin} method, which returns {@code null} if the event
+ * is not recorded, and completed by the matching {@code end} method.
+ */
+public final class FiberEvents {
+	private FiberEvents() {
+	}
+
+	/**
+	 * Starts timing the parsing of a serialized tree.
+	 */
+	@Nullable
+	public static Object beginLoad() {
+		return null;
+	}
+
+	public static void endLoad(@Nullable Object event, @Nullable ConfigNode tree, long bytesRead) {
+	}
+
+	/**
+	 * Starts timing the application of a parsed tree to the config nodes.
+	 */
+	@Nullable
+	public static Object beginApply() {
+		return null;
+	}
+
+	public static void endApply(@Nullable Object event, @Nullable ConfigNode tree) {
+	}
+
+	/**
+	 * Starts timing the serialization of a tree.
+	 */
+	@Nullable
+	public static Object beginSave() {
+		return null;
+	}
+
+	public static void endSave(@Nullable Object event, @Nullable ConfigNode tree, long bytesWritten) {
+	}
+
+	/**
+	 * Starts timing the listeners notified of a leaf's value change.
+	 */
+	@Nullable
+	public static Object beginListener() {
+		return null;
+	}
+
+	public static void endListener(@Nullable Object event, ConfigNode leaf) {
+	}
+
+	/**
+	 * Reports a value violating the constraints of a leaf's type.
+	 *
+	 * @param leaf      the leaf which value was set
+	 * @param value     the invalid value
+	 * @param corrected whether the value was corrected, or rejected
+	 */
+	public static void constraintViolation(ConfigNode leaf, Object value, boolean corrected) {
+	}
+}
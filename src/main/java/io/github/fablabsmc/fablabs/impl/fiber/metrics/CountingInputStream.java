@@ -0,0 +1,55 @@
+package io.github.fablabsmc.fablabs.impl.fiber.metrics;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An input stream counting the bytes read from the underlying stream.
+ */
+public final class CountingInputStream extends FilterInputStream {
+	private long count;
+
+	public CountingInputStream(InputStream in) {
+		super(in);
+	}
+
+	public long getCount() {
+		return this.count;
+	}
+
+	@Override
+	public int read() throws IOException {
+		int b = this.in.read();
+
+		if (b >= 0) {
+			this.count++;
+		}
+
+		return b;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		int read = this.in.read(b, off, len);
+
+		if (read > 0) {
+			this.count += read;
+		}
+
+		return read;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long skipped = this.in.skip(n);
+		this.count += skipped;
+		return skipped;
+	}
+
+	@Override
+	public boolean markSupported() {
+		// counts cannot be rewound
+		return false;
+	}
+}
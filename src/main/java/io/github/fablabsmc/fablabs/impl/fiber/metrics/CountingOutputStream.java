@@ -0,0 +1,33 @@
+package io.github.fablabsmc.fablabs.impl.fiber.metrics;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An output stream counting the bytes written to the underlying stream.
+ */
+public final class CountingOutputStream extends FilterOutputStream {
+	private long count;
+
+	public CountingOutputStream(OutputStream out) {
+		super(out);
+	}
+
+	public long getCount() {
+		return this.count;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		this.out.write(b);
+		this.count++;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		// FilterOutputStream writes arrays byte by byte
+		this.out.write(b, off, len);
+		this.count += len;
+	}
+}
@@ -0,0 +1,67 @@
+package io.github.fablabsmc.fablabs.impl.fiber.metrics;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.metrics.FiberMetrics;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
+
+/**
+ * Holds the current {@link FiberMetrics} implementation.
+ */
+public final class FiberMetricsHolder {
+	public static final FiberMetrics NOOP = new FiberMetrics() {
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+
+		@Override
+		public void count(String metric, @Nullable ConfigNode node) {
+		}
+
+		@Override
+		public void recordTime(String metric, @Nullable ConfigNode node, long nanos) {
+		}
+
+		@Override
+		public void recordBytes(String metric, @Nullable ConfigNode node, long bytes) {
+		}
+
+		@Override
+		public String toString() {
+			return "FiberMetrics.noop()";
+		}
+	};
+
+	public static volatile FiberMetrics current = loadProvider();
+
+	private FiberMetricsHolder() {
+	}
+
+	private static FiberMetrics loadProvider() {
+		Iterator<FiberMetrics> providers = ServiceLoader.load(FiberMetrics.class, FiberMetrics.class.getClassLoader()).iterator();
+		return providers.hasNext() ? providers.next() : NOOP;
+	}
+
+	public static String pathOf(@Nullable ConfigNode node) {
+		if (node == null) {
+			return "";
+		}
+
+		Deque<String> names = new ArrayDeque<>();
+
+		for (ConfigNode n = node; n != null; n = n.getParent()) {
+			// the root of a tree is usually unnamed
+			if (n.getName() != null) {
+				names.addFirst(n.getName());
+			}
+		}
+
+		return String.join(".", names);
+	}
+}
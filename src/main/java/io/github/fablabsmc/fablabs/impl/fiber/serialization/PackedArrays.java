@@ -0,0 +1,116 @@
+package io.github.fablabsmc.fablabs.impl.fiber.serialization;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DecimalSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DoubleArraySerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.IntArraySerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.ListSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.LongArraySerializableType;
+
+/**
+ * Converts packed arrays to and from lists of decimals, for serializers which do not handle packed arrays natively.
+ */
+public final class PackedArrays {
+	private PackedArrays() {
+	}
+
+	public static ListSerializableType<BigDecimal> listType(IntArraySerializableType type) {
+		DecimalSerializableType element = new DecimalSerializableType(BigDecimal.valueOf(type.getMinValue()), BigDecimal.valueOf(type.getMaxValue()), BigDecimal.ONE);
+		return new ListSerializableType<>(element, type.getMinSize(), type.getMaxSize(), false);
+	}
+
+	public static ListSerializableType<BigDecimal> listType(LongArraySerializableType type) {
+		DecimalSerializableType element = new DecimalSerializableType(BigDecimal.valueOf(type.getMinValue()), BigDecimal.valueOf(type.getMaxValue()), BigDecimal.ONE);
+		return new ListSerializableType<>(element, type.getMinSize(), type.getMaxSize(), false);
+	}
+
+	public static ListSerializableType<BigDecimal> listType(DoubleArraySerializableType type) {
+		DecimalSerializableType element = new DecimalSerializableType(finiteOrNull(type.getMinValue()), finiteOrNull(type.getMaxValue()), null);
+		return new ListSerializableType<>(element, type.getMinSize(), type.getMaxSize(), false);
+	}
+
+	private static BigDecimal finiteOrNull(double bound) {
+		return Double.isInfinite(bound) ? null : BigDecimal.valueOf(bound);
+	}
+
+	public static List<BigDecimal> toList(int[] value) {
+		List<BigDecimal> list = new ArrayList<>(value.length);
+
+		for (int v : value) {
+			list.add(BigDecimal.valueOf(v));
+		}
+
+		return list;
+	}
+
+	public static List<BigDecimal> toList(long[] value) {
+		List<BigDecimal> list = new ArrayList<>(value.length);
+
+		for (long v : value) {
+			list.add(BigDecimal.valueOf(v));
+		}
+
+		return list;
+	}
+
+	/**
+	 * Boxes the elements of a {@code double} array.
+	 *
+	 * @throws IllegalArgumentException if an element is infinite, which decimals cannot represent
+	 */
+	public static List<BigDecimal> toList(double[] value) {
+		List<BigDecimal> list = new ArrayList<>(value.length);
+
+		for (double v : value) {
+			if (Double.isInfinite(v)) {
+				throw new IllegalArgumentException("Cannot serialize infinite element " + v + " as a decimal");
+			}
+
+			list.add(BigDecimal.valueOf(v));
+		}
+
+		return list;
+	}
+
+	public static int[] toIntArray(List<BigDecimal> list) throws ValueDeserializationException {
+		int[] ret = new int[list.size()];
+
+		for (int i = 0; i < ret.length; i++) {
+			try {
+				ret[i] = list.get(i).intValueExact();
+			} catch (ArithmeticException e) {
+				throw new ValueDeserializationException(list.get(i), int.class, "Number out of int range", e);
+			}
+		}
+
+		return ret;
+	}
+
+	public static long[] toLongArray(List<BigDecimal> list) throws ValueDeserializationException {
+		long[] ret = new long[list.size()];
+
+		for (int i = 0; i < ret.length; i++) {
+			try {
+				ret[i] = list.get(i).longValueExact();
+			} catch (ArithmeticException e) {
+				throw new ValueDeserializationException(list.get(i), long.class, "Number out of long range", e);
+			}
+		}
+
+		return ret;
+	}
+
+	public static double[] toDoubleArray(List<BigDecimal> list) {
+		double[] ret = new double[list.size()];
+
+		for (int i = 0; i < ret.length; i++) {
+			ret[i] = list.get(i).doubleValue();
+		}
+
+		return ret;
+	}
+}
@@ -0,0 +1,70 @@
+package io.github.fablabsmc.fablabs.impl.fiber.sync;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.sync.SyncTransport;
+
+/**
+ * A {@link SyncTransport} writing frames to a stream, each preceded by its length as a variable length integer.
+ */
+public final class StreamSyncTransport implements SyncTransport {
+	private final DataOutputStream out;
+
+	public StreamSyncTransport(OutputStream out) {
+		this.out = new DataOutputStream(out);
+	}
+
+	@Override
+	public synchronized void send(byte[] frame) throws IOException {
+		SyncCodec.writeVarInt(this.out, frame.length);
+		this.out.write(frame);
+		this.out.flush();
+	}
+
+	/**
+	 * Reads a frame, rejecting frames longer than {@code maxFrameSize} before allocating them.
+	 */
+	@Nullable
+	public static byte[] readFrame(InputStream in, int maxFrameSize) throws IOException {
+		int b = in.read();
+
+		if (b < 0) {
+			return null;
+		}
+
+		DataInputStream data = new DataInputStream(in);
+		int length = b & 0x7F;
+
+		for (int shift = 7; (b & 0x80) != 0; shift += 7) {
+			if (shift > 28) {
+				throw new IOException("Malformed frame length");
+			}
+
+			b = data.readUnsignedByte();
+			length |= (b & 0x7F) << shift;
+		}
+
+		if (length < 0) {
+			throw new IOException("Negative frame length " + length);
+		} else if (length > maxFrameSize) {
+			throw new IOException("Frame length " + length + " exceeds the maximum of " + maxFrameSize);
+		}
+
+		byte[] frame = new byte[length];
+
+		try {
+			data.readFully(frame);
+		} catch (EOFException e) {
+			throw new EOFException("Stream ended within a frame");
+		}
+
+		return frame;
+	}
+}
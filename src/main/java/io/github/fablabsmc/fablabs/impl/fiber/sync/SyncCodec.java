@@ -0,0 +1,340 @@
+package io.github.fablabsmc.fablabs.impl.fiber.sync;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.BooleanSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DecimalSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DoubleArraySerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.EnumSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.IntArraySerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.ListSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.LongArraySerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.MapSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.RecordSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.StringSerializableType;
+
+/**
+ * The binary encoding of sync frames.
+ *
+ * <p>Frames start with a one byte {@linkplain #SNAPSHOT type}. Counts, lengths and leaf ids are written as
+ * unsigned LEB128 variable length integers, strings as UTF-8 bytes preceded by their length, and values
+ * according to their {@link SerializableType}, without any type information.
+ *
+ * <p>Frames come from a peer, so lengths read from them are checked against the bytes left in the frame
+ * before anything is allocated for them. Readers therefore take streams over a whole frame, which
+ * {@linkplain DataInputStream#available() report} the number of unread bytes.
+ */
+public final class SyncCodec {
+	/**
+	 * A full snapshot: table epoch, sequence number, and the path, {@linkplain #typeFingerprint(SerializableType)
+	 * type fingerprint} and value of every leaf of the leaf-id table.
+	 */
+	public static final byte SNAPSHOT = 1;
+	/**
+	 * A delta: table epoch, sequence number, and the ids and values of the changed leaves.
+	 */
+	public static final byte DELTA = 2;
+	/**
+	 * A resynchronization request from a client: the last sequence number it applied.
+	 */
+	public static final byte RESYNC_REQUEST = 3;
+
+	private SyncCodec() {
+	}
+
+	public static void writeVarInt(DataOutput out, int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+
+		out.writeByte(value);
+	}
+
+	public static int readVarInt(DataInput in) throws IOException {
+		int value = 0;
+
+		for (int shift = 0; shift < 35; shift += 7) {
+			byte b = in.readByte();
+			value |= (b & 0x7F) << shift;
+
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+
+		throw new IOException("Malformed variable length integer");
+	}
+
+	/**
+	 * Reads a count or a length, which cannot be negative.
+	 */
+	public static int readLength(DataInput in) throws IOException {
+		int length = readVarInt(in);
+
+		if (length < 0) {
+			throw new IOException("Negative length " + length);
+		}
+
+		return length;
+	}
+
+	/**
+	 * Reads a count or a length of elements taking at least {@code elementSize} bytes each, rejecting counts
+	 * which cannot fit in the rest of the frame.
+	 */
+	public static int readLength(DataInputStream in, int elementSize) throws IOException {
+		int length = readLength(in);
+
+		if (elementSize > 0 && length > in.available() / elementSize) {
+			throw new IOException("Length " + length + " exceeds the remaining " + in.available() + " bytes");
+		}
+
+		return length;
+	}
+
+	public static void writeString(DataOutput out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(out, bytes.length);
+		out.write(bytes);
+	}
+
+	public static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[readLength(in, 1)];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Computes a fingerprint of the encoding of a type's values, so that a value is never decoded with another type
+	 * which happens to read the same bytes, like an empty string read as {@code false}.
+	 *
+	 * <p>Constraints are not part of the fingerprint, values being checked against the constraints of the
+	 * receiving leaf. Enumerations have the fingerprint of strings, and records include the names of their fields.
+	 *
+	 * @throws IllegalArgumentException if the type is not one of Fiber's serializable types
+	 */
+	public static long typeFingerprint(SerializableType<?> type) {
+		return fingerprint(0xCBF29CE484222325L, type);
+	}
+
+	private static long fingerprint(long hash, SerializableType<?> type) {
+		if (type instanceof BooleanSerializableType) {
+			return fingerprintStep(hash, 1);
+		} else if (type instanceof DecimalSerializableType) {
+			return fingerprintStep(hash, 2);
+		} else if (type instanceof StringSerializableType || type instanceof EnumSerializableType) {
+			return fingerprintStep(hash, 3);
+		} else if (type instanceof ListSerializableType) {
+			return fingerprint(fingerprintStep(hash, 4), ((ListSerializableType<?>) type).getElementType());
+		} else if (type instanceof MapSerializableType) {
+			return fingerprint(fingerprintStep(hash, 5), ((MapSerializableType<?>) type).getValueType());
+		} else if (type instanceof RecordSerializableType) {
+			RecordSerializableType recordType = (RecordSerializableType) type;
+			hash = fingerprintStep(fingerprintStep(hash, 6), recordType.getFieldCount());
+
+			for (int i = 0; i < recordType.getFieldCount(); i++) {
+				String name = recordType.getFieldName(i);
+				hash = fingerprintStep(hash, name.length());
+
+				for (int c = 0; c < name.length(); c++) {
+					hash = fingerprintStep(hash, name.charAt(c));
+				}
+
+				hash = fingerprint(hash, recordType.getFieldType(i));
+			}
+
+			return hash;
+		} else if (type instanceof IntArraySerializableType) {
+			return fingerprintStep(hash, 7);
+		} else if (type instanceof LongArraySerializableType) {
+			return fingerprintStep(hash, 8);
+		} else if (type instanceof DoubleArraySerializableType) {
+			return fingerprintStep(hash, 9);
+		}
+
+		throw new IllegalArgumentException("Unsupported type " + type);
+	}
+
+	/**
+	 * One step of 64 bits FNV-1a.
+	 */
+	private static long fingerprintStep(long hash, int value) {
+		return (hash ^ value) * 0x100000001B3L;
+	}
+
+	/**
+	 * Writes a value of the given type.
+	 *
+	 * @throws IllegalArgumentException if the type is not one of Fiber's serializable types
+	 */
+	public static void writeValue(DataOutput out, SerializableType<?> type, Object value) throws IOException {
+		if (type instanceof BooleanSerializableType) {
+			out.writeBoolean((Boolean) value);
+		} else if (type instanceof DecimalSerializableType) {
+			BigDecimal decimal = (BigDecimal) value;
+			byte[] unscaled = decimal.unscaledValue().toByteArray();
+			writeVarInt(out, unscaled.length);
+			out.write(unscaled);
+			out.writeInt(decimal.scale());
+		} else if (type instanceof StringSerializableType || type instanceof EnumSerializableType) {
+			writeString(out, (String) value);
+		} else if (type instanceof ListSerializableType) {
+			SerializableType<?> elementType = ((ListSerializableType<?>) type).getElementType();
+			List<?> list = (List<?>) value;
+			writeVarInt(out, list.size());
+
+			for (Object element : list) {
+				writeValue(out, elementType, element);
+			}
+		} else if (type instanceof MapSerializableType) {
+			SerializableType<?> valueType = ((MapSerializableType<?>) type).getValueType();
+			Map<?, ?> map = (Map<?, ?>) value;
+			writeVarInt(out, map.size());
+
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				writeString(out, (String) entry.getKey());
+				writeValue(out, valueType, entry.getValue());
+			}
+		} else if (type instanceof RecordSerializableType) {
+			RecordSerializableType recordType = (RecordSerializableType) type;
+			Map<?, ?> record = (Map<?, ?>) value;
+
+			// fields are written in index order, their names are part of the agreed schema
+			for (int i = 0; i < recordType.getFieldCount(); i++) {
+				writeValue(out, recordType.getFieldType(i), record.get(recordType.getFieldName(i)));
+			}
+		} else if (type instanceof IntArraySerializableType) {
+			int[] array = (int[]) value;
+			writeVarInt(out, array.length);
+
+			for (int element : array) {
+				out.writeInt(element);
+			}
+		} else if (type instanceof LongArraySerializableType) {
+			long[] array = (long[]) value;
+			writeVarInt(out, array.length);
+
+			for (long element : array) {
+				out.writeLong(element);
+			}
+		} else if (type instanceof DoubleArraySerializableType) {
+			double[] array = (double[]) value;
+			writeVarInt(out, array.length);
+
+			for (double element : array) {
+				out.writeDouble(element);
+			}
+		} else {
+			throw new IllegalArgumentException("Unsupported type " + type);
+		}
+	}
+
+	/**
+	 * Reads a value of the given type.
+	 *
+	 * @throws IllegalArgumentException if the type is not one of Fiber's serializable types
+	 */
+	public static Object readValue(DataInputStream in, SerializableType<?> type) throws IOException {
+		if (type instanceof BooleanSerializableType) {
+			return in.readBoolean();
+		} else if (type instanceof DecimalSerializableType) {
+			byte[] unscaled = new byte[readLength(in, 1)];
+			in.readFully(unscaled);
+			return new BigDecimal(new BigInteger(unscaled), in.readInt());
+		} else if (type instanceof StringSerializableType || type instanceof EnumSerializableType) {
+			return readString(in);
+		} else if (type instanceof ListSerializableType) {
+			SerializableType<?> elementType = ((ListSerializableType<?>) type).getElementType();
+			int elementSize = minimumSize(elementType);
+			int size = readLength(in, elementSize);
+			// elements without any byte, like empty records, are not bounded by the frame and not preallocated
+			List<Object> list = new ArrayList<>(elementSize > 0 ? size : 0);
+
+			for (int i = 0; i < size; i++) {
+				list.add(readValue(in, elementType));
+			}
+
+			return list;
+		} else if (type instanceof MapSerializableType) {
+			SerializableType<?> valueType = ((MapSerializableType<?>) type).getValueType();
+			int size = readLength(in, 1 + minimumSize(valueType));
+			Map<String, Object> map = new LinkedHashMap<>();
+
+			for (int i = 0; i < size; i++) {
+				String key = readString(in);
+				map.put(key, readValue(in, valueType));
+			}
+
+			return map;
+		} else if (type instanceof RecordSerializableType) {
+			RecordSerializableType recordType = (RecordSerializableType) type;
+			Object[] fields = new Object[recordType.getFieldCount()];
+
+			for (int i = 0; i < fields.length; i++) {
+				fields[i] = readValue(in, recordType.getFieldType(i));
+			}
+
+			return recordType.createRecord(fields);
+		} else if (type instanceof IntArraySerializableType) {
+			int[] array = new int[readLength(in, Integer.BYTES)];
+
+			for (int i = 0; i < array.length; i++) {
+				array[i] = in.readInt();
+			}
+
+			return array;
+		} else if (type instanceof LongArraySerializableType) {
+			long[] array = new long[readLength(in, Long.BYTES)];
+
+			for (int i = 0; i < array.length; i++) {
+				array[i] = in.readLong();
+			}
+
+			return array;
+		} else if (type instanceof DoubleArraySerializableType) {
+			double[] array = new double[readLength(in, Double.BYTES)];
+
+			for (int i = 0; i < array.length; i++) {
+				array[i] = in.readDouble();
+			}
+
+			return array;
+		}
+
+		throw new IllegalArgumentException("Unsupported type " + type);
+	}
+
+	/**
+	 * Computes the least number of bytes taken by a value of the given type.
+	 */
+	private static int minimumSize(SerializableType<?> type) {
+		if (type instanceof DecimalSerializableType) {
+			// an empty unscaled value and the scale
+			return 1 + Integer.BYTES;
+		} else if (type instanceof RecordSerializableType) {
+			RecordSerializableType recordType = (RecordSerializableType) type;
+			int size = 0;
+
+			for (int i = 0; i < recordType.getFieldCount(); i++) {
+				size += minimumSize(recordType.getFieldType(i));
+			}
+
+			return size;
+		}
+
+		// a boolean, or the length of a string or a collection
+		return 1;
+	}
+}
@@ -16,7 +16,7 @@ public class ConfigAttributeImpl<T> implements ConfigAttribute<T> {
 
 	public ConfigAttributeImpl(FiberId identifier, SerializableType<T> type, @Nonnull T value) {
 		this.identifier = identifier;
-		this.type = type;
+		this.type = SerializableType.canonical(type);
 		this.value = Objects.requireNonNull(value);
 	}
 
@@ -16,9 +16,12 @@ import io.github.fablabsmc.fablabs.api.fiber.v1.tree.PropertyMirror;
 /**
  * Class implementing {@link ConfigBranch}.
  */
-public class ConfigBranchImpl extends ConfigNodeImpl implements ConfigBranch {
+public class ConfigBranchImpl extends ConfigNodeImpl implements ConfigBranch, ContentHashedNode {
 	private final NodeCollection items;
 	private final boolean serializeSeparately;
+	private long contentHash;
+	private long structureVersion;
+	private int staleNodes;
 
 	/**
 	 * Creates a new {@code ConfigBranch}.
@@ -66,13 +69,13 @@ public class ConfigBranchImpl extends ConfigNodeImpl implements ConfigBranch {
 	@Nullable
 	@Override
 	public ConfigNode lookup(String name) {
-		return this.items.getByName(name);
+		return this.getItems().getByName(name);
 	}
 
 	@Nullable
 	@Override
 	public <T> ConfigLeaf<T> lookupLeaf(String name, SerializableType<T> type) {
-		ConfigNode child = this.items.getByName(name);
+		ConfigNode child = this.getItems().getByName(name);
 
 		if (child instanceof ConfigLeaf && type.isAssignableFrom(((ConfigLeaf<?>) child).getConfigType())) {
 			@SuppressWarnings("unchecked") ConfigLeaf<T> leaf = (ConfigLeaf<T>) child;
@@ -97,7 +100,7 @@ public class ConfigBranchImpl extends ConfigNodeImpl implements ConfigBranch {
 	@Nullable
 	@Override
 	public ConfigBranch lookupBranch(String name) {
-		ConfigNode child = this.items.getByName(name);
+		ConfigNode child = this.getItems().getByName(name);
 
 		if (child instanceof ConfigBranch) {
 			return (ConfigBranch) child;
@@ -110,4 +113,112 @@ public class ConfigBranchImpl extends ConfigNodeImpl implements ConfigBranch {
 	public boolean isSerializedSeparately() {
 		return serializeSeparately;
 	}
+
+	/**
+	 * Returns the content hash of this branch, updated every time a descendant changes.
+	 *
+	 * <p>Stale descendants, such as lazy branches or leaves backed by fields, are refreshed first.
+	 *
+	 * @see ContentHash
+	 */
+	@Override
+	public long getContentHash() {
+		this.refreshContentHash();
+		return this.contentHash;
+	}
+
+	@Override
+	public int getStaleNodeCount() {
+		return this.staleNodes;
+	}
+
+	@Override
+	public void refreshContentHash() {
+		if (this.staleNodes == 0) {
+			return;
+		}
+
+		for (ConfigNode child : this.items) {
+			if (child instanceof ContentHashedNode && ((ContentHashedNode) child).getStaleNodeCount() > 0) {
+				((ContentHashedNode) child).refreshContentHash();
+			}
+		}
+	}
+
+	/**
+	 * Returns a counter incremented every time a node is added to or removed from this branch or any of its descendants.
+	 */
+	public long getStructureVersion() {
+		return this.structureVersion;
+	}
+
+	void childAdded(ConfigNode child) {
+		this.structureChanged();
+		this.adjustStaleNodes(staleNodes(child));
+		this.adjustContentHash(ContentHash.ofChild(child.getName(), currentHash(child)));
+	}
+
+	void childRemoved(ConfigNode child) {
+		this.structureChanged();
+		this.adjustStaleNodes(-staleNodes(child));
+		this.adjustContentHash(-ContentHash.ofChild(child.getName(), currentHash(child)));
+	}
+
+	/**
+	 * Reports several children removed and added at once, updating the structure version,
+	 * stale node count and content hash of this branch and its ancestors a single time.
+	 */
+	void childrenChanged(Collection<ConfigNode> removed, Collection<ConfigNode> added) {
+		long hashDelta = 0L;
+		int staleDelta = 0;
+
+		for (ConfigNode child : removed) {
+			hashDelta -= ContentHash.ofChild(child.getName(), currentHash(child));
+			staleDelta -= staleNodes(child);
+		}
+
+		for (ConfigNode child : added) {
+			hashDelta += ContentHash.ofChild(child.getName(), currentHash(child));
+			staleDelta += staleNodes(child);
+		}
+
+		this.structureChanged();
+		this.adjustStaleNodes(staleDelta);
+		this.adjustContentHash(hashDelta);
+	}
+
+	/**
+	 * Adjusts the count of stale nodes in this subtree and in the subtrees of all ancestors.
+	 */
+	void adjustStaleNodes(int delta) {
+		if (delta == 0) {
+			return;
+		}
+
+		for (ConfigNode branch = this; branch instanceof ConfigBranchImpl; branch = branch.getParent()) {
+			((ConfigBranchImpl) branch).staleNodes += delta;
+		}
+	}
+
+	private void structureChanged() {
+		for (ConfigNode branch = this; branch instanceof ConfigBranchImpl; branch = branch.getParent()) {
+			((ConfigBranchImpl) branch).structureVersion++;
+		}
+	}
+
+	void adjustContentHash(long delta) {
+		long oldHash = this.contentHash;
+		this.contentHash += delta;
+		ContentHash.childChanged(this.getParent(), this.getName(), oldHash, this.contentHash);
+	}
+
+	private static long currentHash(ConfigNode child) {
+		// lazy branches report their children as they are created, which must not happen here,
+		// stale nodes are counted instead and refreshed when the hash of an ancestor is requested
+		return child instanceof ConfigBranchImpl ? ((ConfigBranchImpl) child).contentHash : ContentHash.of(child);
+	}
+
+	private static int staleNodes(ConfigNode child) {
+		return child instanceof ContentHashedNode ? ((ContentHashedNode) child).getStaleNodeCount() : 0;
+	}
 }
@@ -0,0 +1,171 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.CorrectedValue;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckStatus;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigInstance;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigShape;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.Property;
+
+/**
+ * A {@link ConfigInstance} holding its values in an array indexed by slot.
+ *
+ * <p>Once the instance is viewed as a tree, writes go through the leaves of the view,
+ * so that their listeners and the content hashes of their ancestors are kept up to date.
+ */
+public final class ConfigInstanceImpl implements ConfigInstance {
+	private final ConfigShapeImpl shape;
+	final Object[] values;
+	@Nullable
+	private InstanceLeaf<?>[] leaves;
+	@Nullable
+	private ConfigBranch tree;
+
+	ConfigInstanceImpl(ConfigShapeImpl shape, Object[] values) {
+		this.shape = shape;
+		this.values = values;
+	}
+
+	/**
+	 * Checks a value against the constraints of a type.
+	 *
+	 * @return the value, possibly corrected, or {@code null} if it was rejected
+	 */
+	@Nullable
+	static <T> T check(SerializableType<T> type, T value) {
+		// most values pass, only allocate a holder for the corrected value when required
+		TypeCheckStatus status = type.check(value, null);
+
+		if (status == TypeCheckStatus.PASSED) {
+			return value;
+		} else if (status == TypeCheckStatus.UNRECOVERABLE) {
+			return null;
+		}
+
+		CorrectedValue<T> corrected = new CorrectedValue<>();
+		type.check(value, corrected);
+		return corrected.get();
+	}
+
+	@Override
+	public ConfigShape getShape() {
+		return this.shape;
+	}
+
+	@Nonnull
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T getValue(int slot, SerializableType<T> type) {
+		this.checkType(slot, type);
+		return (T) this.values[slot];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> boolean setValue(int slot, SerializableType<T> type, @Nonnull T value) {
+		this.checkType(slot, type);
+
+		if (this.leaves != null) {
+			return ((InstanceLeaf<T>) this.leaves[slot]).setValue(value);
+		}
+
+		T checked = check((SerializableType<T>) this.shape.getType(slot), value);
+
+		if (checked == null) {
+			return false;
+		}
+
+		this.values[slot] = checked;
+		return true;
+	}
+
+	@Override
+	public <T> Property<T> getProperty(int slot, SerializableType<T> type) {
+		this.checkType(slot, type);
+		return new SlotProperty<>(this, slot, type);
+	}
+
+	@Override
+	public ConfigBranch asTree() {
+		if (this.tree == null) {
+			InstanceLeaf<?>[] leaves = new InstanceLeaf<?>[this.values.length];
+			this.tree = this.view(this.shape.getRoot(), leaves);
+			this.leaves = leaves;
+		}
+
+		return this.tree;
+	}
+
+	private ConfigBranch view(ConfigShapeImpl.Branch shape, InstanceLeaf<?>[] leaves) {
+		List<ConfigNode> children = new ArrayList<>(shape.children.size());
+
+		for (Object child : shape.children.values()) {
+			if (child instanceof ConfigShapeImpl.Branch) {
+				children.add(this.view((ConfigShapeImpl.Branch) child, leaves));
+			} else {
+				ConfigShapeImpl.Leaf leaf = (ConfigShapeImpl.Leaf) child;
+				leaves[leaf.slot] = new InstanceLeaf<>(this, leaf);
+				children.add(leaves[leaf.slot]);
+			}
+		}
+
+		ConfigBranchImpl branch = new ConfigBranchImpl(shape.name, shape.comment, children, shape.serializeSeparately);
+		// each view has its own attribute cells, which can be changed without affecting the shape
+		TreeCopy.copyAttributes(shape.attributes, branch);
+		return branch;
+	}
+
+	private void checkType(int slot, SerializableType<?> type) {
+		SerializableType<?> actual = this.shape.getType(slot);
+
+		if (!type.isAssignableFrom(actual)) {
+			throw new ClassCastException("Attempt to access a value of type " + type + " in slot " + slot + " with type " + actual);
+		}
+	}
+
+	/**
+	 * A lightweight property over a single slot, which can be mirrored without viewing the instance as a tree.
+	 */
+	private static final class SlotProperty<T> implements Property<T> {
+		private final ConfigInstanceImpl instance;
+		private final int slot;
+		private final SerializableType<T> type;
+
+		SlotProperty(ConfigInstanceImpl instance, int slot, SerializableType<T> type) {
+			this.instance = instance;
+			this.slot = slot;
+			this.type = type;
+		}
+
+		@Override
+		public boolean setValue(@Nonnull T value) {
+			return this.instance.setValue(this.slot, this.type, value);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean accepts(@Nonnull T value) {
+			return ((SerializableType<T>) this.instance.shape.getType(this.slot)).accepts(value);
+		}
+
+		@Nonnull
+		@Override
+		@SuppressWarnings("unchecked")
+		public T getValue() {
+			return (T) this.instance.values[this.slot];
+		}
+
+		@Override
+		public Class<? super T> getType() {
+			return this.type.getErasedPlatformType();
+		}
+	}
+}
@@ -7,12 +7,16 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.builder.ConfigLeafBuilder;
+import io.github.fablabsmc.fablabs.api.fiber.v1.metrics.FiberMetrics;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.CorrectedValue;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
-import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckResult;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckStatus;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.impl.fiber.jfr.FiberEvents;
 
-public final class ConfigLeafImpl<T> extends ConfigNodeImpl implements ConfigLeaf<T> {
+public final class ConfigLeafImpl<T> extends ConfigNodeImpl implements ConfigLeaf<T>, ContentHashedNode {
 	private T value;
+	private long contentHash;
 	@Nonnull
 	private final T defaultValue;
 	@Nonnull
@@ -34,10 +38,30 @@ public final class ConfigLeafImpl<T> extends ConfigNodeImpl implements ConfigLea
 		super(name, comment);
 		this.defaultValue = Objects.requireNonNull(defaultValue);
 		this.listener = listener;
-		this.type = type;
+		this.type = SerializableType.canonical(type);
 		this.setValue(defaultValue);
 	}
 
+	/**
+	 * Creates a copy of a leaf, without any listener.
+	 *
+	 * <p>The copy shares the type of the original leaf, and receives {@linkplain TreeCopy#copyValue(Object) copies}
+	 * of its values, which are not checked again.
+	 *
+	 * @param original the leaf to copy
+	 * @see TreeCopy
+	 */
+	ConfigLeafImpl(ConfigLeaf<T> original) {
+		super(original.getName(), original.getComment());
+		// reading the value first lets backed leaves synchronize with their field, and their hash
+		this.value = TreeCopy.copyValue(original.getValue());
+		this.contentHash = ContentHash.of(original);
+		this.defaultValue = TreeCopy.copyValue(Objects.requireNonNull(original.getDefaultValue()));
+		this.listener = (oldValue, newValue) -> {
+		};
+		this.type = original.getConfigType();
+	}
+
 	@Override
 	@Nonnull
 	public T getValue() {
@@ -57,24 +81,58 @@ public final class ConfigLeafImpl<T> extends ConfigNodeImpl implements ConfigLea
 	@Override
 	public boolean setValue(@Nonnull T value) {
 		T correctedValue;
-		TypeCheckResult<T> result = this.type.test(value);
+		FiberMetrics metrics = FiberMetrics.get();
+		long checkStart = metrics.isEnabled() ? System.nanoTime() : 0;
+		// most values pass, only allocate a holder for the corrected value when required
+		TypeCheckStatus status = this.type.check(value, null);
 
-		if (result.hasPassed()) {
+		if (status == TypeCheckStatus.PASSED) {
 			correctedValue = value;
+		} else if (status == TypeCheckStatus.UNRECOVERABLE) {
+			correctedValue = null;
 		} else {
-			if (!result.getCorrectedValue().isPresent()) {
-				return false;
-			}
+			CorrectedValue<T> corrected = new CorrectedValue<>();
+			this.type.check(value, corrected);
+			correctedValue = corrected.get();
+		}
 
-			correctedValue = result.getCorrectedValue().get();
+		if (metrics.isEnabled()) {
+			metrics.recordTime(FiberMetrics.CONSTRAINT_CHECK, this, System.nanoTime() - checkStart);
+		}
+
+		if (status == TypeCheckStatus.UNRECOVERABLE) {
+			if (metrics.isEnabled()) metrics.count(FiberMetrics.LEAF_SET_REJECTED, this);
+			FiberEvents.constraintViolation(this, value, false);
+			return false;
+		} else if (status != TypeCheckStatus.PASSED) {
+			FiberEvents.constraintViolation(this, value, true);
 		}
 
 		T oldValue = this.value;
 		this.value = Objects.requireNonNull(correctedValue);
-		this.listener.accept(oldValue, this.value);
+		long oldHash = this.contentHash;
+		this.contentHash = ContentHash.ofValue(this.type, this.value);
+		ContentHash.childChanged(this.getParent(), this.getName(), oldHash, this.contentHash);
+		Object event = FiberEvents.beginListener();
+
+		if (metrics.isEnabled()) {
+			metrics.count(status == TypeCheckStatus.PASSED ? FiberMetrics.LEAF_SET_PASSED : FiberMetrics.LEAF_SET_CORRECTED, this);
+			long start = System.nanoTime();
+			this.listener.accept(oldValue, this.value);
+			metrics.recordTime(FiberMetrics.LEAF_LISTENERS, this, System.nanoTime() - start);
+		} else {
+			this.listener.accept(oldValue, this.value);
+		}
+
+		FiberEvents.endListener(event, this);
 		return true;
 	}
 
+	@Override
+	public long getContentHash() {
+		return this.contentHash;
+	}
+
 	@Override
 	@Nonnull
 	public BiConsumer<T, T> getListener() {
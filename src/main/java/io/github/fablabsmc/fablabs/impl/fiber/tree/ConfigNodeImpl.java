@@ -113,6 +113,16 @@ public abstract class ConfigNodeImpl implements ConfigNode, Commentable {
 		this.parent = null;
 	}
 
+	/**
+	 * Sets the parent of this node, without updating any collection.
+	 *
+	 * <p>Used by {@link IndexedNodeCollection#update}, which has already
+	 * added this node to or removed it from the collection of the parent.
+	 */
+	void setParent(@Nullable ConfigBranch parent) {
+		this.parent = parent;
+	}
+
 	@Override
 	public void attachTo(ConfigBranch parent) {
 		if (this.parent != null && this.parent != parent) {
@@ -0,0 +1,248 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigOverlay;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+
+/**
+ * A {@link ConfigOverlay} caching the resolution of each path.
+ *
+ * <p>Instead of registering listeners on the leaves of its layers, which could never be removed and would
+ * keep every overlay reachable from the shared base layers, this overlay remembers the
+ * {@linkplain ConfigBranchImpl#getStructureVersion() structure version} of each layer, and discards its
+ * cache when any of them changed. Checking the versions costs one field read per layer.
+ */
+public final class ConfigOverlayImpl implements ConfigOverlay {
+	private static final Resolution UNRESOLVED = new Resolution(-1, null);
+
+	private final List<ConfigTree> layers;
+	private final long[] versions;
+	/**
+	 * {@code false} if a layer does not track its structure version, in which case resolutions are never cached.
+	 */
+	private final boolean cacheable;
+	private final Map<List<String>, Resolution> cache = new HashMap<>();
+
+	public ConfigOverlayImpl(List<? extends ConfigTree> layers) {
+		this.layers = Collections.unmodifiableList(new ArrayList<>(layers));
+		this.versions = new long[this.layers.size()];
+		boolean cacheable = true;
+
+		for (int i = 0; i < this.versions.length; i++) {
+			ConfigTree layer = this.layers.get(i);
+
+			if (layer instanceof ConfigBranchImpl) {
+				this.versions[i] = ((ConfigBranchImpl) layer).getStructureVersion();
+			} else {
+				cacheable = false;
+			}
+		}
+
+		this.cacheable = cacheable;
+	}
+
+	@Override
+	public List<ConfigTree> getLayers() {
+		return this.layers;
+	}
+
+	@Nullable
+	@Override
+	public ConfigLeaf<?> resolve(String... path) {
+		return this.resolution(path).leaf;
+	}
+
+	@Override
+	public int resolveLayer(String... path) {
+		return this.resolution(path).layer;
+	}
+
+	@Nullable
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T getValue(SerializableType<T> type, String... path) {
+		ConfigLeaf<?> leaf = this.resolve(path);
+
+		if (leaf == null) {
+			return null;
+		}
+
+		checkType(type, leaf);
+		return (T) leaf.getValue();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> boolean setValue(int layer, SerializableType<T> type, @Nonnull T value, String... path) {
+		ConfigLeaf<?> existing = findLeaf(this.layers.get(layer), path);
+
+		if (existing != null) {
+			checkType(type, existing);
+			return ((ConfigLeaf<T>) existing).setValue(value);
+		}
+
+		ConfigLeaf<?> template = this.resolve(path);
+
+		if (template == null) {
+			throw new IllegalArgumentException("No layer holds a leaf at " + String.join(".", path));
+		}
+
+		checkType(type, template);
+		T defaultValue = (T) (template.getDefaultValue() != null ? template.getDefaultValue() : template.getValue());
+		ConfigLeafImpl<T> leaf = new ConfigLeafImpl<>(path[path.length - 1], (SerializableType<T>) template.getConfigType(), template.getComment(), defaultValue, (oldValue, newValue) -> {
+		});
+
+		if (!leaf.setValue(value)) {
+			return false;
+		}
+
+		this.createParent(layer, path).getItems().add(leaf);
+		this.invalidate();
+		return true;
+	}
+
+	@Override
+	public boolean unset(int layer, String... path) {
+		ConfigLeaf<?> leaf = findLeaf(this.layers.get(layer), path);
+
+		if (leaf == null) {
+			return false;
+		}
+
+		leaf.detach();
+		this.invalidate();
+		return true;
+	}
+
+	@Override
+	public void invalidate() {
+		this.cache.clear();
+	}
+
+	private Resolution resolution(String[] path) {
+		if (!this.cacheable) {
+			return this.resolveUncached(path);
+		}
+
+		this.checkVersions();
+		Resolution resolution = this.cache.get(Arrays.asList(path));
+
+		if (resolution == null) {
+			resolution = this.resolveUncached(path);
+			// the caller keeps ownership of its array
+			this.cache.put(Arrays.asList(path.clone()), resolution);
+		}
+
+		return resolution;
+	}
+
+	private void checkVersions() {
+		for (int i = 0; i < this.versions.length; i++) {
+			long version = ((ConfigBranchImpl) this.layers.get(i)).getStructureVersion();
+
+			if (version != this.versions[i]) {
+				this.versions[i] = version;
+				this.cache.clear();
+			}
+		}
+	}
+
+	private Resolution resolveUncached(String[] path) {
+		for (int i = this.layers.size() - 1; i >= 0; i--) {
+			ConfigLeaf<?> leaf = findLeaf(this.layers.get(i), path);
+
+			if (leaf != null) {
+				return new Resolution(i, leaf);
+			}
+		}
+
+		return UNRESOLVED;
+	}
+
+	/**
+	 * Returns the parent branch of the given path in a layer, creating missing branches
+	 * with the comments of the resolved branches.
+	 */
+	private ConfigTree createParent(int layer, String[] path) {
+		ConfigTree tree = this.layers.get(layer);
+
+		for (int i = 0; i < path.length - 1; i++) {
+			ConfigNode child = tree.lookup(path[i]);
+
+			if (child == null) {
+				ConfigBranch template = this.findTemplateBranch(Arrays.copyOf(path, i + 1));
+				child = new ConfigBranchImpl(path[i], template == null ? null : template.getComment());
+				tree.getItems().add(child);
+			} else if (!(child instanceof ConfigTree)) {
+				throw new IllegalArgumentException("Layer " + layer + " holds a leaf at " + String.join(".", Arrays.copyOf(path, i + 1)));
+			}
+
+			tree = (ConfigTree) child;
+		}
+
+		return tree;
+	}
+
+	@Nullable
+	private ConfigBranch findTemplateBranch(String[] path) {
+		for (int i = this.layers.size() - 1; i >= 0; i--) {
+			ConfigTree tree = this.layers.get(i);
+
+			for (String name : path) {
+				tree = tree == null ? null : tree.lookupBranch(name);
+			}
+
+			if (tree instanceof ConfigBranch) {
+				return (ConfigBranch) tree;
+			}
+		}
+
+		return null;
+	}
+
+	@Nullable
+	private static ConfigLeaf<?> findLeaf(ConfigTree layer, String[] path) {
+		ConfigTree tree = layer;
+
+		for (int i = 0; i < path.length - 1; i++) {
+			tree = tree.lookupBranch(path[i]);
+
+			if (tree == null) {
+				return null;
+			}
+		}
+
+		ConfigNode node = tree.lookup(path[path.length - 1]);
+		return node instanceof ConfigLeaf ? (ConfigLeaf<?>) node : null;
+	}
+
+	private static void checkType(SerializableType<?> type, ConfigLeaf<?> leaf) {
+		if (!type.isAssignableFrom(leaf.getConfigType())) {
+			throw new ClassCastException("Attempt to access a value of type " + type + " from leaf with type " + leaf.getConfigType());
+		}
+	}
+
+	private static final class Resolution {
+		final int layer;
+		@Nullable
+		final ConfigLeaf<?> leaf;
+
+		Resolution(int layer, @Nullable ConfigLeaf<?> leaf) {
+			this.layer = layer;
+			this.leaf = leaf;
+		}
+	}
+}
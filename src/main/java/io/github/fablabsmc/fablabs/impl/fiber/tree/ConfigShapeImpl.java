@@ -0,0 +1,207 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.FiberId;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigAttribute;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigInstance;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigShape;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+
+/**
+ * An immutable {@link ConfigShape}, keeping its branches as a tree and its leaves in an array indexed by slot.
+ */
+public final class ConfigShapeImpl implements ConfigShape {
+	private final Branch root;
+	private final Leaf[] leaves;
+	/**
+	 * The default value of every slot, copied into each new instance.
+	 */
+	private final Object[] defaults;
+	/**
+	 * The slots which default values are {@linkplain TreeCopy#isMutable(Object) mutable}, such as arrays,
+	 * and must be copied for each instance. Immutable defaults are shared by every instance.
+	 */
+	private final int[] mutableDefaults;
+
+	private ConfigShapeImpl(Branch root, List<Leaf> leaves) {
+		this.root = root;
+		this.leaves = leaves.toArray(new Leaf[0]);
+		this.defaults = new Object[this.leaves.length];
+		int[] mutableDefaults = new int[this.leaves.length];
+		int mutableCount = 0;
+
+		for (int slot = 0; slot < this.leaves.length; slot++) {
+			this.defaults[slot] = this.leaves[slot].defaultValue;
+
+			if (TreeCopy.isMutable(this.defaults[slot])) {
+				mutableDefaults[mutableCount++] = slot;
+			}
+		}
+
+		this.mutableDefaults = Arrays.copyOf(mutableDefaults, mutableCount);
+	}
+
+	public static ConfigShapeImpl freeze(ConfigTree template) {
+		List<Leaf> leaves = new ArrayList<>();
+		Branch root;
+
+		if (template instanceof ConfigBranch) {
+			ConfigBranch branch = (ConfigBranch) template;
+			root = new Branch(branch.getName(), branch.getComment(), branch.isSerializedSeparately(), freezeAttributes(branch));
+		} else {
+			root = new Branch(null, null, false, Collections.emptyMap());
+		}
+
+		freezeChildren(template, root, new ArrayList<>(), leaves);
+		return new ConfigShapeImpl(root, leaves);
+	}
+
+	private static void freezeChildren(ConfigTree tree, Branch shape, List<String> path, List<Leaf> leaves) {
+		for (ConfigNode child : tree.getItems()) {
+			path.add(child.getName());
+
+			if (child instanceof ConfigBranch) {
+				ConfigBranch branch = (ConfigBranch) child;
+				Branch childShape = new Branch(branch.getName(), branch.getComment(), branch.isSerializedSeparately(), freezeAttributes(branch));
+				freezeChildren(branch, childShape, path, leaves);
+				shape.children.put(child.getName(), childShape);
+			} else if (child instanceof ConfigLeaf) {
+				ConfigLeaf<?> leaf = (ConfigLeaf<?>) child;
+				// the shape keeps its own copy, which cannot be changed through the template
+				Object defaultValue = TreeCopy.copyValue(leaf.getDefaultValue() != null ? leaf.getDefaultValue() : leaf.getValue());
+				Leaf childShape = new Leaf(leaves.size(), leaf.getName(), leaf.getComment(), leaf.getConfigType(), defaultValue, freezeAttributes(leaf), path);
+				leaves.add(childShape);
+				shape.children.put(child.getName(), childShape);
+			}
+
+			path.remove(path.size() - 1);
+		}
+	}
+
+	private static Map<FiberId, ConfigAttribute<?>> freezeAttributes(ConfigNode node) {
+		if (node.getAttributes().isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<FiberId, ConfigAttribute<?>> attributes = new TreeMap<>(Comparator.comparing(FiberId::toString));
+
+		for (Map.Entry<FiberId, ConfigAttribute<?>> attribute : node.getAttributes().entrySet()) {
+			attributes.put(attribute.getKey(), TreeCopy.copyAttribute(attribute.getValue()));
+		}
+
+		return Collections.unmodifiableMap(attributes);
+	}
+
+	Branch getRoot() {
+		return this.root;
+	}
+
+	Leaf getLeaf(int slot) {
+		return this.leaves[slot];
+	}
+
+	@Override
+	public int getSlotCount() {
+		return this.leaves.length;
+	}
+
+	@Override
+	public int slotOf(String... path) {
+		Branch branch = this.root;
+
+		for (int i = 0; i < path.length; i++) {
+			Object child = branch.children.get(path[i]);
+
+			if (child instanceof Leaf && i == path.length - 1) {
+				return ((Leaf) child).slot;
+			} else if (child instanceof Branch) {
+				branch = (Branch) child;
+			} else {
+				break;
+			}
+		}
+
+		return -1;
+	}
+
+	@Override
+	public List<String> getPath(int slot) {
+		return this.leaves[slot].path;
+	}
+
+	@Override
+	public SerializableType<?> getType(int slot) {
+		return this.leaves[slot].type;
+	}
+
+	@Override
+	public Object getDefaultValue(int slot) {
+		return TreeCopy.copyValue(this.leaves[slot].defaultValue);
+	}
+
+	@Override
+	public ConfigInstance newInstance() {
+		Object[] values = this.defaults.clone();
+
+		for (int slot : this.mutableDefaults) {
+			values[slot] = TreeCopy.copyValue(values[slot]);
+		}
+
+		return new ConfigInstanceImpl(this, values);
+	}
+
+	static final class Branch {
+		@Nullable
+		final String name;
+		@Nullable
+		final String comment;
+		final boolean serializeSeparately;
+		final Map<FiberId, ConfigAttribute<?>> attributes;
+		/**
+		 * The children of this branch by name, each being either a {@link Branch} or a {@link Leaf}.
+		 */
+		final Map<String, Object> children = new LinkedHashMap<>();
+
+		Branch(@Nullable String name, @Nullable String comment, boolean serializeSeparately, Map<FiberId, ConfigAttribute<?>> attributes) {
+			this.name = name;
+			this.comment = comment;
+			this.serializeSeparately = serializeSeparately;
+			this.attributes = attributes;
+		}
+	}
+
+	static final class Leaf {
+		final int slot;
+		final String name;
+		@Nullable
+		final String comment;
+		final SerializableType<?> type;
+		final Object defaultValue;
+		final Map<FiberId, ConfigAttribute<?>> attributes;
+		final List<String> path;
+
+		Leaf(int slot, String name, @Nullable String comment, SerializableType<?> type, Object defaultValue, Map<FiberId, ConfigAttribute<?>> attributes, List<String> path) {
+			this.slot = slot;
+			this.name = name;
+			this.comment = comment;
+			this.type = type;
+			this.defaultValue = defaultValue;
+			this.attributes = attributes;
+			this.path = Collections.unmodifiableList(Arrays.asList(path.toArray(new String[0])));
+		}
+	}
+}
@@ -0,0 +1,201 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+
+/**
+ * Computes the 64 bits content hashes of config nodes.
+ *
+ * <p>The content hash of a leaf combines its type and value. The content hash of a tree is the sum
+ * of the mixed hashes of its children, each combining the child's name and content hash. Since the sum
+ * does not depend on the order of its terms, a branch updates its hash in constant time when a single
+ * child changes, and reports the change to its own parent, up to the root.
+ *
+ * <p>Values are hashed from their content with 64 bits arithmetic, rather than from their 32 bits
+ * {@link Object#hashCode()}, so that distinct contents have distinct hashes with very high probability.
+ * Equal hashes are however not a proof of equal contents, and must only be used to detect changes.
+ *
+ * <p>Names, comments and attributes of the node itself are not part of its content hash.
+ */
+public final class ContentHash {
+	/**
+	 * An odd constant derived from the golden ratio, spreading small integers over all 64 bits when multiplied.
+	 */
+	private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+	private ContentHash() {
+	}
+
+	/**
+	 * Returns the content hash of a node.
+	 *
+	 * <p>Nodes implementing {@link ContentHashedNode} return their maintained hash,
+	 * the hash of other nodes is computed on every call.
+	 *
+	 * @param node a leaf or a branch
+	 * @return the content hash of the node
+	 */
+	public static long of(ConfigNode node) {
+		if (node instanceof ContentHashedNode) {
+			return ((ContentHashedNode) node).getContentHash();
+		} else if (node instanceof ConfigLeaf) {
+			ConfigLeaf<?> leaf = (ConfigLeaf<?>) node;
+			return ofValue(leaf.getConfigType(), leaf.getValue());
+		} else if (node instanceof ConfigTree) {
+			return ofTree((ConfigTree) node);
+		}
+
+		return 0L;
+	}
+
+	/**
+	 * Computes the content hash of a tree from its children.
+	 */
+	public static long ofTree(ConfigTree tree) {
+		long hash = 0L;
+
+		for (ConfigNode child : tree.getItems()) {
+			hash += ofChild(child.getName(), of(child));
+		}
+
+		return hash;
+	}
+
+	/**
+	 * Computes the content hash of a leaf holding {@code value}.
+	 */
+	public static long ofValue(SerializableType<?> type, @Nullable Object value) {
+		return mix(type.hashCode() * GOLDEN + valueHash(value));
+	}
+
+	/**
+	 * Returns the term contributed by a child to the content hash of its parent.
+	 */
+	static long ofChild(@Nullable String name, long contentHash) {
+		return mix((name == null ? 0L : stringHash(name)) * 0xC2B2AE3D27D4EB4FL ^ contentHash);
+	}
+
+	/**
+	 * Reports a change of a child's content hash to its parent.
+	 *
+	 * @param parent  the parent of the changed node, or {@code null}
+	 * @param name    the name of the changed node
+	 * @param oldHash the previous content hash of the node
+	 * @param newHash the current content hash of the node
+	 */
+	public static void childChanged(@Nullable ConfigBranch parent, String name, long oldHash, long newHash) {
+		if (oldHash != newHash && parent instanceof ConfigBranchImpl) {
+			((ConfigBranchImpl) parent).adjustContentHash(ofChild(name, newHash) - ofChild(name, oldHash));
+		}
+	}
+
+	/**
+	 * Hashes a serialized value from its content, with a distinct seed for each kind of value.
+	 */
+	private static long valueHash(@Nullable Object value) {
+		if (value == null) {
+			return 0L;
+		} else if (value instanceof String) {
+			return stringHash((String) value);
+		} else if (value instanceof BigDecimal) {
+			BigDecimal decimal = (BigDecimal) value;
+			return mix(bytesHash(decimal.unscaledValue().toByteArray()) + decimal.scale() * GOLDEN);
+		} else if (value instanceof Boolean) {
+			return (Boolean) value ? 0x2545F4914F6CDD1DL : 0x1B873593CC9E2D51L;
+		} else if (value instanceof Map) {
+			// entries are summed, as map equality does not depend on iteration order
+			long hash = ((Map<?, ?>) value).size();
+
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				hash += mix(valueHash(entry.getKey()) + mix(valueHash(entry.getValue()) ^ 0x632BE59BD9B4E019L));
+			}
+
+			return mix(hash ^ 0x3C6EF372FE94F82BL);
+		} else if (value instanceof Iterable) {
+			long hash = 0x5851F42D4C957F2DL;
+
+			for (Object element : (Iterable<?>) value) {
+				hash = mix(hash + valueHash(element) * GOLDEN);
+			}
+
+			return hash;
+		} else if (value instanceof int[]) {
+			long hash = 0x14057B7EF767814FL;
+
+			for (int element : (int[]) value) {
+				hash = mix(hash + element * GOLDEN);
+			}
+
+			return hash;
+		} else if (value instanceof long[]) {
+			long hash = 0x6A09E667F3BCC909L;
+
+			for (long element : (long[]) value) {
+				hash = mix(hash + element * GOLDEN);
+			}
+
+			return hash;
+		} else if (value instanceof double[]) {
+			long hash = 0x510E527FADE682D1L;
+
+			for (double element : (double[]) value) {
+				hash = mix(hash + Double.doubleToLongBits(element) * GOLDEN);
+			}
+
+			return hash;
+		} else if (value instanceof Object[]) {
+			long hash = 0x9B05688C2B3E6C1FL;
+
+			for (Object element : (Object[]) value) {
+				hash = mix(hash + valueHash(element) * GOLDEN);
+			}
+
+			return hash;
+		} else if (value instanceof Enum) {
+			return stringHash(((Enum<?>) value).name());
+		}
+
+		// values of unknown types only have their 32 bits hash code
+		return mix(value.getClass().getName().hashCode() * GOLDEN + value.hashCode());
+	}
+
+	/**
+	 * Hashes the characters of a string with 64 bits FNV-1a, and mixes the result with the length of the string.
+	 */
+	private static long stringHash(String value) {
+		long hash = 0xCBF29CE484222325L;
+
+		for (int i = 0; i < value.length(); i++) {
+			hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+		}
+
+		return mix(hash + value.length());
+	}
+
+	private static long bytesHash(byte[] bytes) {
+		long hash = 0xCBF29CE484222325L;
+
+		for (byte b : bytes) {
+			hash = (hash ^ (b & 0xFF)) * 0x100000001B3L;
+		}
+
+		return mix(hash + bytes.length);
+	}
+
+	/**
+	 * The finalizer of the SplitMix64 generator, spreading every input bit over the whole output.
+	 */
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
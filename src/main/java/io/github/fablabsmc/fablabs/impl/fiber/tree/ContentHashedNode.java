@@ -0,0 +1,39 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
+
+/**
+ * A {@link ConfigNode} maintaining its own content hash.
+ *
+ * <p>Implementations must report every change of their content hash to their parent
+ * through {@link ContentHash#childChanged(ConfigBranch, String, long, long)}. Nodes which cannot observe
+ * every change of their content, such as lazy branches or leaves backed by fields, count themselves
+ * as stale, so that their ancestors refresh them before returning a hash.
+ *
+ * @see ContentHash
+ */
+public interface ContentHashedNode extends ConfigNode {
+	/**
+	 * Returns the content hash of this node, as defined by {@link ContentHash#of(ConfigNode)}.
+	 */
+	long getContentHash();
+
+	/**
+	 * Returns the number of nodes in this subtree, including this node, whose content hash
+	 * may be outdated until {@linkplain #refreshContentHash() refreshed}.
+	 *
+	 * <p>Changes of this count must be reported to the parent before the node is attached,
+	 * or through {@link ConfigBranchImpl#adjustStaleNodes(int)}.
+	 */
+	default int getStaleNodeCount() {
+		return 0;
+	}
+
+	/**
+	 * Brings the content hashes of the stale nodes in this subtree up to date,
+	 * reporting the changes to the parent.
+	 */
+	default void refreshContentHash() {
+	}
+}
@@ -1,10 +1,17 @@
 package io.github.fablabsmc.fablabs.impl.fiber.tree;
 
 import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.Spliterator;
 
 import javax.annotation.Nonnull;
@@ -49,6 +56,7 @@ public class IndexedNodeCollection extends AbstractCollection<ConfigNode> implem
 				if (this.last == null) throw new IllegalStateException();
 				// order is important to avoid infinite recursion
 				this.backing.remove();
+				IndexedNodeCollection.this.removed(this.last);
 				this.last.detach();
 			}
 		};
@@ -76,6 +84,11 @@ public class IndexedNodeCollection extends AbstractCollection<ConfigNode> implem
 
 		this.items.put(item.getName(), item);
 		item.attachTo(this.owner);
+
+		if (this.owner instanceof ConfigBranchImpl) {
+			((ConfigBranchImpl) this.owner).childAdded(item);
+		}
+
 		return true;
 	}
 
@@ -94,6 +107,7 @@ public class IndexedNodeCollection extends AbstractCollection<ConfigNode> implem
 			boolean removed = this.items.remove(((ConfigNode) child).getName(), child);
 
 			if (removed) {
+				this.removed((ConfigNode) child);
 				((ConfigNode) child).detach();
 				return true;
 			}
@@ -118,9 +132,73 @@ public class IndexedNodeCollection extends AbstractCollection<ConfigNode> implem
 		ConfigNode removed = this.items.remove(name);
 
 		if (removed != null) {
+			this.removed(removed);
 			removed.detach();
 		}
 
 		return removed;
 	}
+
+	/**
+	 * Removes and adds nodes as a single structural change.
+	 *
+	 * <p>Unlike a sequence of {@link #remove(Object)} and {@link #add(ConfigNode)} calls, each node is only
+	 * looked up once, and the structure version and content hash of the owner and its ancestors are only
+	 * updated once. Removed nodes which are not in this collection are ignored. Added nodes must not be
+	 * part of another collection, and their names must not be used by the nodes remaining in this collection.
+	 *
+	 * @param removals  the nodes to remove
+	 * @param additions the nodes to add, after the removals
+	 * @throws DuplicateChildException if an added node has the same name as a remaining or another added node,
+	 *                                  in which case this collection is not modified
+	 */
+	public void update(Collection<ConfigNode> removals, Collection<ConfigNode> additions) throws DuplicateChildException {
+		Set<String> names = new HashSet<>();
+		Set<ConfigNode> removalSet = Collections.newSetFromMap(new IdentityHashMap<>());
+		removalSet.addAll(removals);
+
+		for (ConfigNode addition : additions) {
+			ConfigNode existing = this.items.get(addition.getName());
+
+			if (!names.add(addition.getName()) || existing != null && !removalSet.contains(existing)) {
+				throw new DuplicateChildException("Attempt to replace node " + addition.getName());
+			}
+		}
+
+		List<ConfigNode> removed = new ArrayList<>(removals.size());
+
+		for (ConfigNode removal : removals) {
+			if (this.items.remove(removal.getName(), removal)) {
+				removed.add(removal);
+				setParent(removal, null);
+			}
+		}
+
+		for (ConfigNode addition : additions) {
+			this.items.put(addition.getName(), addition);
+			setParent(addition, this.owner);
+		}
+
+		if (this.owner instanceof ConfigBranchImpl) {
+			((ConfigBranchImpl) this.owner).childrenChanged(removed, additions);
+		}
+	}
+
+	private static void setParent(ConfigNode node, @Nullable ConfigBranch parent) {
+		if (node instanceof ConfigNodeImpl) {
+			((ConfigNodeImpl) node).setParent(parent);
+		} else if (parent == null) {
+			// the node is no longer in this collection, so it does not try to remove itself again
+			node.detach();
+		} else {
+			// the node is already in this collection, so it does not try to add itself again
+			node.attachTo(parent);
+		}
+	}
+
+	private void removed(ConfigNode child) {
+		if (this.owner instanceof ConfigBranchImpl) {
+			((ConfigBranchImpl) this.owner).childRemoved(child);
+		}
+	}
 }
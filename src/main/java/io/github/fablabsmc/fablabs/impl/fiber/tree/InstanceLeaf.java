@@ -0,0 +1,99 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nonnull;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+
+/**
+ * A leaf of a {@linkplain ConfigInstanceImpl#asTree() tree view}, reading and writing a slot of its instance.
+ */
+final class InstanceLeaf<T> extends ConfigNodeImpl implements ConfigLeaf<T>, ContentHashedNode {
+	private final ConfigInstanceImpl instance;
+	private final int slot;
+	private final SerializableType<T> type;
+	private final T defaultValue;
+	@Nonnull
+	private BiConsumer<T, T> listener = (oldValue, newValue) -> {
+	};
+
+	@SuppressWarnings("unchecked")
+	InstanceLeaf(ConfigInstanceImpl instance, ConfigShapeImpl.Leaf shape) {
+		super(shape.name, shape.comment);
+		this.instance = instance;
+		this.slot = shape.slot;
+		this.type = (SerializableType<T>) shape.type;
+		this.defaultValue = (T) shape.defaultValue;
+		TreeCopy.copyAttributes(shape.attributes, this);
+	}
+
+	@Nonnull
+	@Override
+	@SuppressWarnings("unchecked")
+	public T getValue() {
+		return (T) this.instance.values[this.slot];
+	}
+
+	@Override
+	public boolean setValue(@Nonnull T value) {
+		T checked = ConfigInstanceImpl.check(this.type, value);
+
+		if (checked == null) {
+			return false;
+		}
+
+		T oldValue = this.getValue();
+		long oldHash = this.getContentHash();
+		this.instance.values[this.slot] = checked;
+		ContentHash.childChanged(this.getParent(), this.getName(), oldHash, this.getContentHash());
+		this.listener.accept(oldValue, checked);
+		return true;
+	}
+
+	@Override
+	public boolean accepts(@Nonnull T value) {
+		return this.type.accepts(value);
+	}
+
+	@Override
+	public SerializableType<T> getConfigType() {
+		return this.type;
+	}
+
+	@Override
+	public long getContentHash() {
+		return ContentHash.ofValue(this.type, this.getValue());
+	}
+
+	@Nonnull
+	@Override
+	public BiConsumer<T, T> getListener() {
+		return this.listener;
+	}
+
+	@Override
+	public void addChangeListener(BiConsumer<T, T> listener) {
+		this.listener = this.listener.andThen(listener);
+	}
+
+	/**
+	 * Returns the default value of the shape, or a copy of it if it is {@linkplain TreeCopy#isMutable(Object) mutable}.
+	 */
+	@Nonnull
+	@Override
+	public T getDefaultValue() {
+		return TreeCopy.copyValue(this.defaultValue);
+	}
+
+	@Override
+	public String toString() {
+		return this.getClass().getSimpleName()
+				+ '<' + this.type.getGenericPlatformType().getTypeName()
+				+ ">[name=" + this.getName()
+				+ ", slot=" + this.slot
+				+ ", value=" + this.getValue()
+				+ "]";
+	}
+}
@@ -0,0 +1,100 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.RuntimeFiberException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.NodeCollection;
+
+/**
+ * A {@link ConfigBranch} which children are only created when they are first accessed.
+ *
+ * <p>The branch starts with the given items, and runs its initializer the first time its items
+ * are looked up, iterated or serialized. The initializer adds the remaining children to the branch.
+ * If the initializer fails, every later access to the children of the branch fails as well.
+ *
+ * <p>An unmaterialized branch counts as a {@linkplain ContentHashedNode#getStaleNodeCount() stale node},
+ * so that requesting the content hash of any ancestor creates its children first.
+ */
+public class LazyConfigBranchImpl extends ConfigBranchImpl {
+	@Nullable
+	private Consumer<? super ConfigBranch> initializer;
+	private volatile boolean materialized;
+	/**
+	 * The failure of the initializer, rethrown on every access instead of exposing partial children.
+	 */
+	@Nullable
+	private volatile Throwable failure;
+
+	/**
+	 * Creates a new lazy {@code ConfigBranch}.
+	 *
+	 * @param name                the name for this branch
+	 * @param comment             the comment for this branch
+	 * @param items               the branch's initial items
+	 * @param serializeSeparately whether or not this node should be serialised separately
+	 * @param initializer         an action adding this branch's remaining children, run once on first access
+	 */
+	public LazyConfigBranchImpl(String name, @Nullable String comment, @Nonnull Collection<ConfigNode> items, boolean serializeSeparately, Consumer<? super ConfigBranch> initializer) {
+		super(name, comment, items, serializeSeparately);
+		this.initializer = initializer;
+		this.adjustStaleNodes(1);
+	}
+
+	/**
+	 * Returns {@code true} if this branch's children have been created.
+	 */
+	public boolean isMaterialized() {
+		return this.materialized;
+	}
+
+	@Nonnull
+	@Override
+	public NodeCollection getItems() {
+		if (!this.materialized) {
+			this.materialize();
+		}
+
+		return super.getItems();
+	}
+
+	/**
+	 * Creates the children of this branch if required, then refreshes its stale descendants.
+	 */
+	@Override
+	public void refreshContentHash() {
+		if (!this.materialized) {
+			this.materialize();
+		}
+
+		super.refreshContentHash();
+	}
+
+	private synchronized void materialize() {
+		if (this.failure != null) {
+			throw new RuntimeFiberException("Lazy branch " + this.getName() + " failed to create its children", this.failure);
+		}
+
+		Consumer<? super ConfigBranch> initializer = this.initializer;
+
+		if (initializer != null) {
+			// the initializer itself adds items to this branch, which must not run it again
+			this.initializer = null;
+
+			try {
+				initializer.accept(this);
+			} catch (RuntimeException | Error e) {
+				this.failure = e;
+				throw e;
+			}
+
+			this.materialized = true;
+			this.adjustStaleNodes(-1);
+		}
+	}
+}
@@ -17,6 +17,7 @@ public final class PropertyMirrorImpl<R, S> implements PropertyMirror<R> {
 	private S lastSerializedValue;
 	@Nullable
 	private R cachedValue;
+	private boolean trustedDelegate;
 
 	public PropertyMirrorImpl(ConfigType<R, S, ?> mirroredType) {
 		this.mirroredType = mirroredType;
@@ -40,12 +41,16 @@ public final class PropertyMirrorImpl<R, S> implements PropertyMirror<R> {
 		this.delegate = d;
 
 		if (d instanceof ConfigLeaf) {
+			ConfigLeaf<S> leaf = (ConfigLeaf<S>) d;
 			// passive invalidation
-			((ConfigLeaf<S>) d).addChangeListener((old, cur) -> this.cachedValue = null);
+			leaf.addChangeListener((old, cur) -> this.cachedValue = null);
 			this.lastSerializedValue = null;
+			// the leaf validates every value it holds, no need to check them again when converting
+			this.trustedDelegate = this.mirroredType.getSerializedType().isAssignableFrom(leaf.getConfigType());
 		} else {
 			// active invalidation, less efficient
 			this.lastSerializedValue = d.getValue();
+			this.trustedDelegate = false;
 		}
 	}
 
@@ -75,7 +80,7 @@ public final class PropertyMirrorImpl<R, S> implements PropertyMirror<R> {
 			S serializedValue = this.delegate.getValue();
 
 			if (cachedValue == null || !Objects.equals(this.lastSerializedValue, serializedValue)) {
-				this.cachedValue = this.mirroredType.toRuntimeType(serializedValue);
+				this.cachedValue = this.trustedDelegate ? this.mirroredType.toRuntimeTypeUnchecked(serializedValue) : this.mirroredType.toRuntimeType(serializedValue);
 				this.lastSerializedValue = serializedValue;
 			}
 		}
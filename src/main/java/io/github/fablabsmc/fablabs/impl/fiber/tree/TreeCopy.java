@@ -0,0 +1,176 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.FiberId;
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.RuntimeFiberException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.RecordValue;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigAttribute;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+
+/**
+ * Copies config trees, sharing everything but the mutable parts of their nodes.
+ *
+ * <p>Copied leaves share the types and comments of the original leaves. Their default and current values
+ * are {@linkplain #copyValue(Object) copied} when {@linkplain #isMutable(Object) mutable}, like arrays or
+ * modifiable lists, and shared otherwise, as are the values of copied attributes. Serialized values created
+ * by Fiber's config types are immutable, so copying a tree usually allocates no value. No value is type-checked again.
+ */
+public final class TreeCopy {
+	/**
+	 * The classes of the collections which cannot be modified, and are shared by copies.
+	 */
+	private static final Set<Class<?>> IMMUTABLE_COLLECTIONS = new HashSet<>(Arrays.asList(
+			Collections.emptyList().getClass(),
+			Collections.emptyMap().getClass(),
+			Collections.singletonList(null).getClass(),
+			Collections.singletonMap(null, null).getClass(),
+			Collections.unmodifiableList(new ArrayList<>()).getClass(),
+			Collections.unmodifiableList(new LinkedList<>()).getClass(),
+			Collections.unmodifiableMap(new HashMap<>()).getClass(),
+			Collections.unmodifiableSortedMap(new TreeMap<>()).getClass()
+	));
+
+	private TreeCopy() {
+	}
+
+	public static ConfigBranch copy(ConfigTree tree) {
+		if (tree instanceof ConfigBranch) {
+			return copyBranch((ConfigBranch) tree);
+		}
+
+		return new ConfigBranchImpl(null, null, copyChildren(tree), false);
+	}
+
+	private static ConfigBranch copyBranch(ConfigBranch branch) {
+		// children are copied first, so that the content hash of the copy is computed bottom-up in a single pass
+		ConfigBranchImpl copy = new ConfigBranchImpl(branch.getName(), branch.getComment(), copyChildren(branch), branch.isSerializedSeparately());
+		copyAttributes(branch, copy);
+		return copy;
+	}
+
+	private static Collection<ConfigNode> copyChildren(ConfigTree tree) {
+		Collection<ConfigNode> items = tree.getItems();
+		List<ConfigNode> copies = new ArrayList<>(items.size());
+
+		for (ConfigNode child : items) {
+			ConfigNode copy;
+
+			if (child instanceof ConfigBranch) {
+				copy = copyBranch((ConfigBranch) child);
+			} else if (child instanceof ConfigTree) {
+				copy = new ConfigBranchImpl(child.getName(), null, copyChildren((ConfigTree) child), false);
+				copyAttributes(child, copy);
+			} else if (child instanceof ConfigLeaf) {
+				copy = new ConfigLeafImpl<>((ConfigLeaf<?>) child);
+				copyAttributes(child, copy);
+			} else {
+				throw new RuntimeFiberException("Cannot copy " + child + ", which is neither a tree nor a leaf");
+			}
+
+			copies.add(copy);
+		}
+
+		return copies;
+	}
+
+	private static void copyAttributes(ConfigNode original, ConfigNode copy) {
+		copyAttributes(original.getAttributes(), copy);
+	}
+
+	/**
+	 * Gives {@code copy} its own cells for the given attributes.
+	 */
+	static void copyAttributes(Map<FiberId, ConfigAttribute<?>> attributes, ConfigNode copy) {
+		for (Map.Entry<FiberId, ConfigAttribute<?>> attribute : attributes.entrySet()) {
+			copy.getAttributes().put(attribute.getKey(), copyAttribute(attribute.getValue()));
+		}
+	}
+
+	static <A> ConfigAttribute<A> copyAttribute(ConfigAttribute<A> attribute) {
+		return new ConfigAttributeImpl<>(attribute.getIdentifier(), attribute.getConfigType(), copyValue(attribute.getValue()));
+	}
+
+	/**
+	 * Returns {@code true} if a serialized value can be modified in place, and must be copied to be shared.
+	 *
+	 * <p>Arrays, and lists and maps which are not known to be unmodifiable, are mutable. Records are immutable,
+	 * as are unmodifiable collections, such as the serialized values created by Fiber's config types.
+	 * Elements of immutable values are not inspected. This method does not allocate.
+	 */
+	static boolean isMutable(Object value) {
+		if (value instanceof int[] || value instanceof long[] || value instanceof double[] || value instanceof Object[]) {
+			return true;
+		} else if (value instanceof List || value instanceof Map) {
+			return !(value instanceof RecordValue) && !IMMUTABLE_COLLECTIONS.contains(value.getClass());
+		}
+
+		return false;
+	}
+
+	/**
+	 * Copies the mutable parts of a serialized value, recursively.
+	 *
+	 * <p>Arrays are cloned, and mutable lists and maps are copied to new collections. Immutable values,
+	 * such as strings, decimals, records and unmodifiable collections, are returned as is.
+	 *
+	 * @see #isMutable(Object)
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> T copyValue(T value) {
+		if (!isMutable(value)) {
+			return value;
+		}
+
+		Object copy;
+
+		if (value instanceof int[]) {
+			copy = ((int[]) value).clone();
+		} else if (value instanceof long[]) {
+			copy = ((long[]) value).clone();
+		} else if (value instanceof double[]) {
+			copy = ((double[]) value).clone();
+		} else if (value instanceof Object[]) {
+			Object[] array = ((Object[]) value).clone();
+
+			for (int i = 0; i < array.length; i++) {
+				array[i] = copyValue(array[i]);
+			}
+
+			copy = array;
+		} else if (value instanceof List) {
+			List<Object> list = new ArrayList<>(((List<?>) value).size());
+
+			for (Object element : (List<?>) value) {
+				list.add(copyValue(element));
+			}
+
+			copy = list;
+		} else {
+			// the only other mutable values are maps
+			Map<Object, Object> map = new LinkedHashMap<>();
+
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				map.put(entry.getKey(), copyValue(entry.getValue()));
+			}
+
+			copy = map;
+		}
+
+		return (T) copy;
+	}
+}
@@ -0,0 +1,98 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.NodeChange;
+
+/**
+ * Walks two trees side by side, reporting their differences.
+ *
+ * <p>Children are matched by name, and the only state kept during the walk is the current path.
+ * Subtrees maintaining equal {@linkplain ContentHash content hashes} are skipped without being visited,
+ * unless the walk is exact: equal 64 bits hashes denote equal contents with very high probability only,
+ * so an exact walk only skips identical nodes and always compares the values of leaves present in both trees.
+ */
+public final class TreeDiff {
+	private final Consumer<? super NodeChange> sink;
+	private final boolean exact;
+	private final List<String> path = new ArrayList<>();
+
+	private TreeDiff(Consumer<? super NodeChange> sink, boolean exact) {
+		this.sink = sink;
+		this.exact = exact;
+	}
+
+	public static void diff(ConfigTree oldTree, ConfigTree newTree, boolean exact, Consumer<? super NodeChange> sink) {
+		TreeDiff diff = new TreeDiff(sink, exact);
+
+		if (!diff.sameContent(oldTree, newTree)) {
+			diff.diffChildren(oldTree, newTree);
+		}
+	}
+
+	private void diffChildren(ConfigTree oldTree, ConfigTree newTree) {
+		for (ConfigNode oldChild : oldTree.getItems()) {
+			ConfigNode newChild = newTree.getItems().getByName(oldChild.getName());
+			this.path.add(oldChild.getName());
+
+			if (newChild == null) {
+				this.report(NodeChange.Kind.REMOVED, oldChild, null);
+			} else {
+				this.diffNodes(oldChild, newChild);
+			}
+
+			this.path.remove(this.path.size() - 1);
+		}
+
+		for (ConfigNode newChild : newTree.getItems()) {
+			if (oldTree.getItems().getByName(newChild.getName()) == null) {
+				this.path.add(newChild.getName());
+				this.report(NodeChange.Kind.ADDED, null, newChild);
+				this.path.remove(this.path.size() - 1);
+			}
+		}
+	}
+
+	private void diffNodes(ConfigNode oldNode, ConfigNode newNode) {
+		if (this.sameContent(oldNode, newNode)) return;
+
+		if (oldNode instanceof ConfigTree && newNode instanceof ConfigTree) {
+			this.diffChildren((ConfigTree) oldNode, (ConfigTree) newNode);
+		} else if (oldNode instanceof ConfigLeaf && newNode instanceof ConfigLeaf) {
+			ConfigLeaf<?> oldLeaf = (ConfigLeaf<?>) oldNode;
+			ConfigLeaf<?> newLeaf = (ConfigLeaf<?>) newNode;
+
+			if (!oldLeaf.getConfigType().equals(newLeaf.getConfigType())) {
+				this.report(NodeChange.Kind.TYPE_CHANGED, oldNode, newNode);
+			} else if (!Objects.deepEquals(oldLeaf.getValue(), newLeaf.getValue())) {
+				this.report(NodeChange.Kind.VALUE_CHANGED, oldNode, newNode);
+			}
+		} else {
+			this.report(NodeChange.Kind.TYPE_CHANGED, oldNode, newNode);
+		}
+	}
+
+	private void report(NodeChange.Kind kind, @Nullable ConfigNode oldNode, @Nullable ConfigNode newNode) {
+		List<String> changePath = Collections.unmodifiableList(Arrays.asList(this.path.toArray(new String[0])));
+		this.sink.accept(new NodeChange(kind, changePath, oldNode, newNode));
+	}
+
+	/**
+	 * Returns {@code true} if both nodes are taken to hold the same content without visiting them.
+	 */
+	private boolean sameContent(Object oldNode, Object newNode) {
+		return oldNode == newNode
+				|| !this.exact && oldNode instanceof ContentHashedNode && newNode instanceof ContentHashedNode
+				&& ((ContentHashedNode) oldNode).getContentHash() == ((ContentHashedNode) newNode).getContentHash();
+	}
+}
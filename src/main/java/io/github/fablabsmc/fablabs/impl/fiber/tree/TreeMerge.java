@@ -0,0 +1,136 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.FiberId;
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.DuplicateChildException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigAttribute;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.MergePolicy;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.NodeCollection;
+
+/**
+ * Merges a tree into another, recursing into the branches present in both trees.
+ *
+ * <p>Each branch of the source tree is traversed once, with a single name lookup per child
+ * in the target branch. The nodes moved out of a source branch, and into or out of a target branch,
+ * are applied as a single structural change per branch, so that versions and content hashes
+ * are updated once per branch rather than once per node. Values carried over by {@link MergePolicy#KEEP_VALUE} are only set
+ * once the structure of the target tree is final, so that listeners observe the merged tree.
+ *
+ * <p>Unless the policy is {@link MergePolicy#KEEP}, the attributes of a source branch are copied onto
+ * the target branch it is merged into. The target branch keeps its own comment.
+ */
+public final class TreeMerge {
+	private final MergePolicy policy;
+	private final List<Runnable> pendingValues = new ArrayList<>();
+
+	private TreeMerge(MergePolicy policy) {
+		this.policy = policy;
+	}
+
+	public static void merge(ConfigTree from, ConfigTree to, MergePolicy policy) throws DuplicateChildException {
+		TreeMerge merge = new TreeMerge(policy);
+		merge.mergeChildren(from, to);
+
+		for (Runnable pendingValue : merge.pendingValues) {
+			pendingValue.run();
+		}
+	}
+
+	private void mergeChildren(ConfigTree from, ConfigTree to) throws DuplicateChildException {
+		NodeCollection source = from.getItems();
+		NodeCollection target = to.getItems();
+		List<ConfigNode> moved = new ArrayList<>();
+		List<ConfigNode> replaced = new ArrayList<>();
+
+		for (ConfigNode incoming : source) {
+			ConfigNode existing = target.getByName(incoming.getName());
+
+			if (existing == null) {
+				moved.add(incoming);
+			} else if (incoming instanceof ConfigTree && existing instanceof ConfigTree) {
+				if (this.policy != MergePolicy.KEEP) {
+					mergeAttributes(incoming, existing);
+				}
+
+				this.mergeChildren((ConfigTree) incoming, (ConfigTree) existing);
+			} else if (this.policy != MergePolicy.KEEP) {
+				moved.add(incoming);
+				replaced.add(existing);
+
+				if (this.policy == MergePolicy.KEEP_VALUE && incoming instanceof ConfigLeaf && existing instanceof ConfigLeaf) {
+					this.carryValue((ConfigLeaf<?>) existing, (ConfigLeaf<?>) incoming);
+				}
+			}
+		}
+
+		if (!moved.isEmpty()) {
+			// each branch changes its structure once, rather than once per moved node
+			update(source, moved, Collections.emptyList());
+			update(target, replaced, moved);
+		}
+	}
+
+	private static void update(NodeCollection items, List<ConfigNode> removals, List<ConfigNode> additions) throws DuplicateChildException {
+		if (items instanceof IndexedNodeCollection) {
+			((IndexedNodeCollection) items).update(removals, additions);
+		} else {
+			for (ConfigNode removal : removals) {
+				items.remove(removal);
+			}
+
+			for (ConfigNode addition : additions) {
+				items.add(addition);
+			}
+		}
+	}
+
+	/**
+	 * Copies the attributes of an incoming branch onto the existing branch it is merged into.
+	 *
+	 * <p>The existing branch keeps its own comment, as comments cannot be changed after a node is built.
+	 */
+	private static void mergeAttributes(ConfigNode incoming, ConfigNode existing) {
+		for (Map.Entry<FiberId, ConfigAttribute<?>> attribute : incoming.getAttributes().entrySet()) {
+			// each tree keeps its own attribute cells
+			existing.getAttributes().put(attribute.getKey(), copyAttribute(attribute.getKey(), attribute.getValue()));
+		}
+	}
+
+	private static <A> ConfigAttribute<A> copyAttribute(FiberId id, ConfigAttribute<A> attribute) {
+		return ConfigAttribute.create(id, attribute.getConfigType(), attribute.getValue());
+	}
+
+	private <T> void carryValue(ConfigLeaf<?> existing, ConfigLeaf<T> incoming) {
+		SerializableType<T> type = incoming.getConfigType();
+		T value;
+
+		try {
+			// cast only checks the representation of the value, which may satisfy different element types
+			// or constraints; the value is checked against the incoming type when it is set
+			value = type.cast(existing.getValue());
+		} catch (ClassCastException e) {
+			// the value cannot be represented by the new type, the incoming leaf keeps its own value
+			return;
+		}
+
+		if (type.isAssignableFrom(existing.getConfigType())) {
+			this.pendingValues.add(() -> incoming.setValue(value));
+		} else {
+			this.pendingValues.add(() -> {
+				try {
+					incoming.setValue(value);
+				} catch (ClassCastException e) {
+					// the constraints of the incoming type do not apply to the value, which is left out
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package io.github.fablabsmc.fablabs.impl.fiber.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.github.fablabsmc.fiber.ConfigApply")
+@Label("Config Apply")
+@Category("Fiber")
+@Description("Application of deserialized values to a config tree")
+final class ConfigApplyEvent extends Event {
+	@Label("Tree")
+	String tree;
+}
@@ -0,0 +1,21 @@
+package io.github.fablabsmc.fablabs.impl.fiber.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.github.fablabsmc.fiber.ConfigLoad")
+@Label("Config Load")
+@Category("Fiber")
+@Description("Parsing of a serialized config tree")
+final class ConfigLoadEvent extends Event {
+	@Label("Tree")
+	String tree;
+
+	@Label("Bytes Read")
+	@DataAmount
+	long bytesRead;
+}
@@ -0,0 +1,21 @@
+package io.github.fablabsmc.fablabs.impl.fiber.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.github.fablabsmc.fiber.ConfigSave")
+@Label("Config Save")
+@Category("Fiber")
+@Description("Serialization of a config tree")
+final class ConfigSaveEvent extends Event {
+	@Label("Tree")
+	String tree;
+
+	@Label("Bytes Written")
+	@DataAmount
+	long bytesWritten;
+}
@@ -0,0 +1,22 @@
+package io.github.fablabsmc.fablabs.impl.fiber.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.github.fablabsmc.fiber.ConstraintViolation")
+@Label("Constraint Violation")
+@Category("Fiber")
+@Description("A value set on a leaf which did not satisfy the constraints of its type")
+final class ConstraintViolationEvent extends Event {
+	@Label("Leaf")
+	String leaf;
+
+	@Label("Value")
+	String value;
+
+	@Label("Corrected")
+	boolean corrected;
+}
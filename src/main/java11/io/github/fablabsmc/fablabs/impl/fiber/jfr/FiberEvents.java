@@ -0,0 +1,115 @@
+package io.github.fablabsmc.fablabs.impl.fiber.jfr;
+
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.metrics.FiberMetrics;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+
+/**
+ * Emits Java Flight Recorder events for config operations.
+ *
+ * <p>This is the JDK 11 version of this class. Events are only allocated while they are enabled
+ * in a recording, and otherwise cost an {@link EventType#isEnabled()} check.
+ */
+public final class FiberEvents {
+	private static final EventType LOAD = EventType.getEventType(ConfigLoadEvent.class);
+	private static final EventType APPLY = EventType.getEventType(ConfigApplyEvent.class);
+	private static final EventType SAVE = EventType.getEventType(ConfigSaveEvent.class);
+	private static final EventType LISTENER = EventType.getEventType(ListenerInvocationEvent.class);
+	private static final EventType VIOLATION = EventType.getEventType(ConstraintViolationEvent.class);
+
+	private FiberEvents() {
+	}
+
+	@Nullable
+	public static Object beginLoad() {
+		return LOAD.isEnabled() ? begin(new ConfigLoadEvent()) : null;
+	}
+
+	public static void endLoad(@Nullable Object event, @Nullable ConfigNode tree, long bytesRead) {
+		if (event != null) {
+			ConfigLoadEvent load = (ConfigLoadEvent) event;
+			load.end();
+
+			if (load.shouldCommit()) {
+				load.tree = FiberMetrics.pathOf(tree);
+				load.bytesRead = bytesRead;
+				load.commit();
+			}
+		}
+	}
+
+	@Nullable
+	public static Object beginApply() {
+		return APPLY.isEnabled() ? begin(new ConfigApplyEvent()) : null;
+	}
+
+	public static void endApply(@Nullable Object event, @Nullable ConfigNode tree) {
+		if (event != null) {
+			ConfigApplyEvent apply = (ConfigApplyEvent) event;
+			apply.end();
+
+			if (apply.shouldCommit()) {
+				apply.tree = FiberMetrics.pathOf(tree);
+				apply.commit();
+			}
+		}
+	}
+
+	@Nullable
+	public static Object beginSave() {
+		return SAVE.isEnabled() ? begin(new ConfigSaveEvent()) : null;
+	}
+
+	public static void endSave(@Nullable Object event, @Nullable ConfigNode tree, long bytesWritten) {
+		if (event != null) {
+			ConfigSaveEvent save = (ConfigSaveEvent) event;
+			save.end();
+
+			if (save.shouldCommit()) {
+				save.tree = FiberMetrics.pathOf(tree);
+				save.bytesWritten = bytesWritten;
+				save.commit();
+			}
+		}
+	}
+
+	@Nullable
+	public static Object beginListener() {
+		return LISTENER.isEnabled() ? begin(new ListenerInvocationEvent()) : null;
+	}
+
+	public static void endListener(@Nullable Object event, ConfigNode leaf) {
+		if (event != null) {
+			ListenerInvocationEvent invocation = (ListenerInvocationEvent) event;
+			invocation.end();
+
+			if (invocation.shouldCommit()) {
+				invocation.leaf = FiberMetrics.pathOf(leaf);
+				invocation.commit();
+			}
+		}
+	}
+
+	public static void constraintViolation(ConfigNode leaf, Object value, boolean corrected) {
+		if (!VIOLATION.isEnabled()) {
+			return;
+		}
+
+		ConstraintViolationEvent event = new ConstraintViolationEvent();
+
+		if (event.shouldCommit()) {
+			event.leaf = FiberMetrics.pathOf(leaf);
+			event.value = String.valueOf(value);
+			event.corrected = corrected;
+			event.commit();
+		}
+	}
+
+	private static Object begin(Event event) {
+		event.begin();
+		return event;
+	}
+}
@@ -0,0 +1,16 @@
+package io.github.fablabsmc.fablabs.impl.fiber.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.github.fablabsmc.fiber.ListenerInvocation")
+@Label("Listener Invocation")
+@Category("Fiber")
+@Description("Notification of the listeners of a leaf after a value change")
+final class ListenerInvocationEvent extends Event {
+	@Label("Leaf")
+	String leaf;
+}
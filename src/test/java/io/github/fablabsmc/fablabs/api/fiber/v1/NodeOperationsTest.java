@@ -1,18 +1,30 @@
 package io.github.fablabsmc.fablabs.api.fiber.v1;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.builder.ConfigLeafBuilder;
 import io.github.fablabsmc.fablabs.api.fiber.v1.builder.ConfigTreeBuilder;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.MergePolicy;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.NodeChange;
+import io.github.fablabsmc.fablabs.impl.fiber.tree.ConfigBranchImpl;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -56,6 +68,156 @@ public class NodeOperationsTest {
 		testItemFor(ConfigTypes.INTEGER.getSerializedType(), BigDecimal.TEN, valueTwo);
 	}
 
+	@Test
+	@DisplayName("Deep merge")
+	void deepMerge() {
+		for (MergePolicy policy : MergePolicy.values()) {
+			List<String> events = new ArrayList<>();
+			ConfigBranch to = ConfigTree.builder()
+					.withValue("kept", ConfigTypes.STRING, "old")
+					.fork("child")
+					.withValue("nested", ConfigTypes.STRING, "old")
+					.withValue("conflict", ConfigTypes.INTEGER, 50)
+					.withValue("retyped", ConfigTypes.makeList(ConfigTypes.STRING), Collections.singletonList("a"))
+					.finishBranch()
+					.build();
+			ConfigTreeBuilder from = ConfigTree.builder();
+			from.fork("child")
+					.withAttribute(new FiberId("fiber", "test"), ConfigTypes.STRING.getSerializedType(), "new")
+					.withValue("added", ConfigTypes.STRING, "new")
+					.withValue("retyped", ConfigTypes.makeList(ConfigTypes.INTEGER), Collections.singletonList(1))
+					.beginValue("conflict", ConfigTypes.INTEGER.withValidRange(0, 10, 1), 5)
+					.withListener((o, n) -> events.add(o + "->" + n + (to.lookupBranch("child").lookup("added") != null ? " merged" : "")))
+					.finishValue()
+					.finishBranch();
+			events.clear();
+			long version = ((ConfigBranchImpl) to).getStructureVersion();
+
+			NodeOperations.deepMerge(from, to, policy);
+			assertEquals(version + 1, ((ConfigBranchImpl) to).getStructureVersion(), "Each branch changes its structure once");
+			assertEquals(NodeOperations.contentHash(to.copy()), NodeOperations.contentHash(to), "Content hashes are kept up to date");
+
+			ConfigBranch child = to.lookupBranch("child");
+			assertNotNull(to.lookup("kept"), "Unrelated nodes are kept");
+			assertNotNull(child.lookup("nested"), "Nested nodes are kept");
+			assertNotNull(child.lookup("added"), "Nested nodes are added");
+			ConfigLeaf<?> conflict = (ConfigLeaf<?>) child.lookup("conflict");
+			ConfigLeaf<?> retyped = (ConfigLeaf<?>) child.lookup("retyped");
+
+			switch (policy) {
+			case KEEP:
+				assertEquals(ConfigTypes.INTEGER.getSerializedType(), conflict.getConfigType());
+				assertEquals(BigDecimal.valueOf(50), conflict.getValue());
+				assertTrue(events.isEmpty());
+				assertFalse(child.getAttributeValue(new FiberId("fiber", "test"), ConfigTypes.STRING.getSerializedType()).isPresent());
+				break;
+			case OVERWRITE:
+				assertEquals(BigDecimal.valueOf(5), conflict.getValue());
+				assertTrue(events.isEmpty());
+				assertEquals("new", child.getAttributeValue(new FiberId("fiber", "test"), ConfigTypes.STRING.getSerializedType()).orElse(null), "Attributes are merged");
+				break;
+			default:
+				// values which cannot be represented by the new type are left out
+				assertEquals(Collections.singletonList(BigDecimal.ONE), retyped.getValue());
+				// the old value is carried over and corrected to the new constraints, once the tree is merged
+				assertEquals(ConfigTypes.INTEGER.withValidRange(0, 10, 1).getSerializedType(), conflict.getConfigType());
+				assertEquals(BigDecimal.TEN, conflict.getValue());
+				assertEquals(Collections.singletonList("5->10 merged"), events);
+				break;
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Content hash")
+	void contentHash() {
+		ConfigBranch one = contentHashTree(10);
+		ConfigBranch two = contentHashTree(10);
+		assertEquals(NodeOperations.contentHash(one), NodeOperations.contentHash(two), "Equal trees have equal hashes");
+
+		ConfigLeaf<BigDecimal> leaf = one.lookupBranch("child").lookupLeaf("A", ConfigTypes.INTEGER.getSerializedType());
+		leaf.setValue(BigDecimal.valueOf(20));
+		assertNotEquals(NodeOperations.contentHash(two), NodeOperations.contentHash(one), "Value changes propagate to the root");
+		assertEquals(NodeOperations.contentHash(contentHashTree(20)), NodeOperations.contentHash(one), "Hash is updated incrementally");
+		assertEquals(NodeOperations.contentHash(two.lookup("B")), NodeOperations.contentHash(one.lookup("B")), "Unchanged subtrees keep their hash");
+
+		leaf.setValue(BigDecimal.TEN);
+		assertEquals(NodeOperations.contentHash(two), NodeOperations.contentHash(one), "Reverting a value reverts the hash");
+
+		ConfigNode removed = one.getItems().removeByName("B");
+		assertNotEquals(NodeOperations.contentHash(two), NodeOperations.contentHash(one), "Removals change the hash");
+		one.getItems().add(removed);
+		assertEquals(NodeOperations.contentHash(two), NodeOperations.contentHash(one), "Child order does not matter");
+
+		// both pairs have equal 32 bits hash codes
+		assertNotEquals(valueHash(ConfigTypes.STRING, "Aa"), valueHash(ConfigTypes.STRING, "BB"), "Strings are hashed from their characters");
+		assertNotEquals(valueHash(ConfigTypes.makeList(ConfigTypes.INTEGER), Arrays.asList(0, 31)),
+				valueHash(ConfigTypes.makeList(ConfigTypes.INTEGER), Arrays.asList(1, 0)), "Lists are hashed from their elements");
+	}
+
+	private static <T> long valueHash(ConfigType<T, ?, ?> type, T value) {
+		return NodeOperations.contentHash(ConfigTree.builder().withValue("value", type, value).build());
+	}
+
+	@Test
+	@DisplayName("Diff")
+	void diff() {
+		ConfigBranch from = ConfigTree.builder()
+				.withValue("same", ConfigTypes.STRING, "s")
+				.withValue("removed", ConfigTypes.STRING, "r")
+				.withValue("retyped", ConfigTypes.INTEGER, 1)
+				.fork("child")
+				.withValue("changed", ConfigTypes.INTEGER, 1)
+				.withValue("constrained", ConfigTypes.INTEGER, 1)
+				.finishBranch()
+				.fork("unchanged")
+				.withValue("A", ConfigTypes.INTEGER, 1)
+				.finishBranch()
+				.build();
+		ConfigBranch to = ConfigTree.builder()
+				.fork("unchanged")
+				.withValue("A", ConfigTypes.INTEGER, 1)
+				.finishBranch()
+				.fork("child")
+				.withValue("constrained", ConfigTypes.INTEGER.withMaximum(5), 1)
+				.withValue("changed", ConfigTypes.INTEGER, 2)
+				.finishBranch()
+				.withValue("added", ConfigTypes.BOOLEAN, true)
+				.withValue("retyped", ConfigTypes.STRING, "1")
+				.withValue("same", ConfigTypes.STRING, "s")
+				.build();
+
+		List<NodeChange> changes = NodeOperations.diff(from, to);
+		assertEquals(5, changes.size(), "Changes: " + changes);
+		assertChange(changes.get(0), NodeChange.Kind.REMOVED, "removed");
+		assertChange(changes.get(1), NodeChange.Kind.TYPE_CHANGED, "retyped");
+		assertChange(changes.get(2), NodeChange.Kind.VALUE_CHANGED, "child", "changed");
+		assertChange(changes.get(3), NodeChange.Kind.TYPE_CHANGED, "child", "constrained");
+		assertChange(changes.get(4), NodeChange.Kind.ADDED, "added");
+		assertSame(to.lookup("added"), changes.get(4).getNewNode());
+		assertTrue(NodeOperations.diff(contentHashTree(10), contentHashTree(10)).isEmpty(), "Equal trees have no differences");
+		assertTrue(NodeOperations.diff(from, from).isEmpty(), "Identical trees have no differences");
+
+		List<NodeChange> exact = new ArrayList<>();
+		NodeOperations.diff(from, to, true, exact::add);
+		assertEquals(changes.toString(), exact.toString(), "Exact comparisons find the same changes");
+	}
+
+	private static void assertChange(NodeChange change, NodeChange.Kind kind, String... path) {
+		assertEquals(kind, change.getKind());
+		assertEquals(Arrays.asList(path), change.getPath());
+	}
+
+	private static ConfigBranch contentHashTree(int a) {
+		return ConfigTree.builder()
+				.withValue("B", ConfigTypes.STRING, "b")
+				.fork("child")
+				.withValue("A", ConfigTypes.INTEGER, a)
+				.withValue("C", ConfigTypes.makeList(ConfigTypes.BOOLEAN), Arrays.asList(true, false))
+				.finishBranch()
+				.build();
+	}
+
 	public static <T> void testNodeFor(ConfigTree node, String name, SerializableType<T> type, T value) {
 		ConfigNode item = node.lookup(name);
 		testItemFor(type, value, item);
@@ -4,11 +4,14 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -16,11 +19,14 @@ import java.util.List;
 import java.util.Objects;
 import java.util.function.BiConsumer;
 
+import io.github.fablabsmc.fablabs.api.fiber.v1.NodeOperations;
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.FiberException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.RuntimeFiberException;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.ListSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.StringSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ListConfigType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
@@ -101,6 +107,29 @@ class AnnotatedSettingsTest {
 		assertTrue(pojo.listenedC, "Listener for C was triggered");
 	}
 
+	@Test
+	@DisplayName("Listener with primitive parameters")
+	void testPrimitiveListener() throws FiberException {
+		PrimitiveListenerPojo pojo = new PrimitiveListenerPojo();
+		this.annotatedSettings.applyToNode(this.node, pojo);
+		assertEquals(0, pojo.oldA, "Missing old value passed as zero");
+		assertEquals(5, pojo.newA);
+		PropertyMirror<Integer> property = PropertyMirror.create(ConfigTypes.INTEGER);
+		property.mirror((Property<?>) this.node.lookup("a"));
+		property.setValue(10);
+		assertEquals(5, pojo.oldA, "Old value passed to listener");
+		assertEquals(10, pojo.newA, "New value passed to listener");
+		assertEquals(10, PrimitiveListenerPojo.staticA, "Static listener was triggered");
+		property.mirror((Property<?>) this.node.lookup("b"));
+		assertThrows(RuntimeFiberException.class, () -> property.setValue(10), "Listener exceptions are wrapped");
+	}
+
+	@Test
+	@DisplayName("Listener with mismatched parameters")
+	void testMismatchedListener() {
+		assertThrows(FiberException.class, () -> this.annotatedSettings.applyToNode(this.node, new MismatchedListenerPojo()));
+	}
+
 	@Test
 	@DisplayName("Listener with different generics")
 	void testTwoGenerics() {
@@ -231,6 +260,121 @@ class AnnotatedSettingsTest {
 		assertEquals(1, subnode.getItems().size(), "Subnode has one item");
 	}
 
+	@Test
+	@DisplayName("Settings template reused across POJOs")
+	void testTemplateReuse() throws FiberException {
+		ListenerPojo first = new ListenerPojo();
+		ListenerPojo second = new ListenerPojo();
+		second.a = 7;
+		ConfigBranch firstTree = this.annotatedSettings.makeTree(first);
+		ConfigBranch secondTree = this.annotatedSettings.makeTree(second);
+		// leaves notify their listeners of their initial value
+		first.listenedA = first.listenedB = second.listenedA = second.listenedB = false;
+		ConfigLeaf<BigDecimal> secondA = secondTree.lookupLeaf("a", ConfigTypes.INTEGER.getSerializedType());
+		assertNotNull(secondA);
+		assertEquals(7, secondA.getValue().intValue(), "Leaves are backed by their own POJO");
+
+		PropertyMirror<Integer> property = PropertyMirror.create(ConfigTypes.INTEGER);
+		property.mirror((Property<?>) firstTree.lookup("b"));
+		property.setValue(10);
+		assertTrue(first.listenedB, "Listener bound to the first POJO");
+		assertFalse(second.listenedB, "Listener not bound to the second POJO");
+		property.mirror((Property<?>) secondTree.lookup("a"));
+		property.setValue(10);
+		assertTrue(second.listenedA);
+		assertFalse(first.listenedA);
+
+		for (int i = 0; i < 2; i++) {
+			ConfigBranch tree = this.annotatedSettings.makeTree(new SubNodePojo());
+			assertEquals(1, ((ConfigTree) Objects.requireNonNull(tree.lookup("a"))).getItems().size(), "Subnode has one item");
+		}
+
+		assertThrows(FiberException.class, () -> this.annotatedSettings.makeTree(new NullDefaultPojo()));
+		assertThrows(FiberException.class, () -> this.annotatedSettings.makeTree(new NullDefaultPojo()), "Instance errors are reported every time");
+	}
+
+	@Test
+	@DisplayName("Lazy groups")
+	void testLazyGroup() throws FiberException {
+		LazyGroupPojo pojo = new LazyGroupPojo();
+		ConfigBranch tree = this.annotatedSettings.makeTree(pojo);
+		ConfigBranch group = (ConfigBranch) tree.lookup("group");
+		assertNotNull(group, "Lazy group registered");
+		// settings are only read once the group's children are needed
+		pojo.group.b = 8;
+		ConfigLeaf<BigDecimal> b = group.lookupLeaf("b", ConfigTypes.INTEGER.getSerializedType());
+		assertNotNull(b, "Lazy group materialized on lookup");
+		assertEquals(8, b.getValue().intValue());
+		assertEquals(2, group.getItems().size());
+		assertEquals(5, Objects.requireNonNull(group.lookupLeaf("c", ConfigTypes.INTEGER.getSerializedType())).getValue().intValue());
+
+		pojo = new LazyGroupPojo();
+		pojo.group.b = null;
+		ConfigBranch failing = (ConfigBranch) this.annotatedSettings.makeTree(pojo).lookup("group");
+		assertThrows(RuntimeFiberException.class, failing::getItems);
+		assertThrows(RuntimeFiberException.class, failing::getItems, "Failures are reported on every access");
+	}
+
+	@Test
+	@DisplayName("Content hash of lazy groups and fields")
+	void testStaleContentHash() throws FiberException {
+		LazyGroupPojo pojo = new LazyGroupPojo();
+		ConfigBranch lazy = this.annotatedSettings.makeTree(pojo);
+		ConfigBranch materialized = this.annotatedSettings.makeTree(new LazyGroupPojo());
+		Objects.requireNonNull(materialized.lookupBranch("group")).getItems();
+		assertEquals(NodeOperations.contentHash(materialized), NodeOperations.contentHash(lazy), "Lazy groups are materialized before hashing");
+
+		pojo.group.c = 6;
+		LazyGroupPojo expected = new LazyGroupPojo();
+		expected.group.c = 6;
+		assertNotEquals(NodeOperations.contentHash(materialized), NodeOperations.contentHash(lazy), "Direct field writes change the hash");
+		assertEquals(NodeOperations.contentHash(this.annotatedSettings.makeTree(expected)), NodeOperations.contentHash(lazy));
+	}
+
+	@Test
+	@DisplayName("Immutable settings")
+	void testImmutableSettings() throws FiberException {
+		ImmutablePojo initial = new ImmutablePojo(5, "hello", new ImmutablePojo.Group(2L));
+		SettingsHolder<ImmutablePojo> holder = this.annotatedSettings.makeImmutableTree(initial);
+		assertSame(initial, holder.get(), "Initial settings are published as is");
+		List<ImmutablePojo> published = new ArrayList<>();
+		holder.addListener((oldValue, newValue) -> published.add(newValue));
+
+		PropertyMirror<Integer> a = PropertyMirror.create(ConfigTypes.INTEGER);
+		a.mirror((Property<?>) holder.getTree().lookup("a"));
+		a.setValue(7);
+		assertEquals(7, holder.get().a);
+		assertEquals("hello", holder.get().b);
+		assertEquals(5, initial.a, "Settings objects are never mutated");
+
+		PropertyMirror<Long> c = PropertyMirror.create(ConfigTypes.LONG);
+		c.mirror((Property<?>) ((ConfigBranch) Objects.requireNonNull(holder.getTree().lookup("group"))).lookup("c"));
+		ImmutablePojo updated = holder.transaction(() -> {
+			a.setValue(9);
+			c.setValue(12L);
+			assertEquals(7, holder.get().a, "Changes are published when the transaction ends");
+		});
+		assertSame(updated, holder.get());
+		assertEquals(9, updated.a);
+		assertEquals(12L, updated.group.c);
+		assertEquals(2, published.size(), "One snapshot per change or transaction");
+
+		ConfigLeaf<BigDecimal> leafA = holder.getTree().lookupLeaf("a", ConfigTypes.INTEGER.getSerializedType());
+		assertThrows(RuntimeFiberException.class, () -> a.setValue(-1), "Constructor failures are reported to the writer");
+		assertEquals(9, leafA.getValue().intValue(), "Changes are rolled back when no snapshot can be created");
+		assertThrows(RuntimeFiberException.class, () -> holder.transaction(() -> {
+			c.setValue(20L);
+			a.setValue(-1);
+		}));
+		assertEquals(9, leafA.getValue().intValue());
+		assertEquals(12L, (long) c.getValue(), "Transactions are rolled back as a whole");
+		assertSame(updated, holder.get());
+		assertEquals(2, published.size());
+
+		assertThrows(FiberException.class, () -> this.annotatedSettings.makeImmutableTree(new NoConstructorPojo()));
+		assertThrows(FiberException.class, () -> this.annotatedSettings.makeImmutableTree(new ListenerPojo()));
+	}
+
 	@Test
 	@DisplayName("Enum")
 	void testEnum() throws FiberException {
@@ -327,6 +471,39 @@ class AnnotatedSettingsTest {
 		}
 	}
 
+	private static class PrimitiveListenerPojo {
+		private static transient int staticA;
+		private transient int oldA;
+		private transient int newA;
+
+		private int a = 5;
+		private int b = 5;
+
+		@Listener("a")
+		private void aListener(int oldValue, int newValue) {
+			this.oldA = oldValue;
+			this.newA = newValue;
+		}
+
+		@Listener("a")
+		private static void staticAListener(int newValue) {
+			staticA = newValue;
+		}
+
+		@Listener("b")
+		private void bListener(int newValue) throws Exception {
+			if (newValue != 5) throw new Exception("Rejected " + newValue);
+		}
+	}
+
+	private static class MismatchedListenerPojo {
+		private int a = 5;
+
+		@Listener("a")
+		private void aListener(int oldValue, String newValue) {
+		}
+	}
+
 	private static class NonMatchingListenerPojo {
 		private int a = 5;
 
@@ -408,6 +585,42 @@ class AnnotatedSettingsTest {
 		}
 	}
 
+	private static class ImmutablePojo {
+		private final int a;
+		private final String b;
+		@Setting.Group
+		private final Group group;
+
+		ImmutablePojo(int a, String b, Group group) {
+			if (a < 0) throw new IllegalArgumentException("Negative a");
+			this.a = a;
+			this.b = b;
+			this.group = group;
+		}
+
+		private static class Group {
+			private final long c;
+
+			Group(long c) {
+				this.c = c;
+			}
+		}
+	}
+
+	private static class NoConstructorPojo {
+		private final int a = 5;
+	}
+
+	private static class LazyGroupPojo {
+		@Setting.Group(lazy = true)
+		private Group group = new Group();
+
+		private static class Group {
+			private Integer b = 5;
+			private int c = 5;
+		}
+	}
+
 	private static class EnumPojo {
 		public TestEnum a = TestEnum.A;
 
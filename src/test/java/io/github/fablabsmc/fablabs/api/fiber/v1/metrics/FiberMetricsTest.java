@@ -0,0 +1,81 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.AnnotatedSettings;
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.FiberException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FiberMetricsTest {
+	private InMemoryFiberMetrics metrics;
+
+	@BeforeEach
+	void setup() {
+		this.metrics = new InMemoryFiberMetrics();
+		FiberMetrics.install(this.metrics);
+	}
+
+	@AfterEach
+	void tearDown() {
+		FiberMetrics.install(FiberMetrics.noop());
+	}
+
+	@Test
+	@DisplayName("Leaf value changes")
+	void testLeafMetrics() {
+		ConfigBranch tree = ConfigTree.builder()
+				.fork("group")
+					.withValue("a", ConfigTypes.INTEGER.withValidRange(0, 10, 1), 5)
+					.finishBranch()
+				.build();
+		ConfigLeaf<BigDecimal> leaf = ((ConfigBranch) tree.lookup("group")).lookupLeaf("a", ConfigTypes.INTEGER.getSerializedType());
+		this.metrics.reset();
+
+		assertEquals("group.a", FiberMetrics.pathOf(leaf));
+		assertTrue(leaf.setValue(BigDecimal.valueOf(6)));
+		assertTrue(leaf.setValue(BigDecimal.valueOf(20)));
+		assertTrue(leaf.setValue(BigDecimal.valueOf(7)));
+		assertEquals(2, this.metrics.getCount(FiberMetrics.LEAF_SET_PASSED, "group.a"));
+		assertEquals(1, this.metrics.getCount(FiberMetrics.LEAF_SET_CORRECTED, "group.a"));
+		assertEquals(3, this.metrics.getCount(FiberMetrics.LEAF_LISTENERS, "group.a"), "Listeners timed for every change");
+		assertEquals(3, this.metrics.getCount(FiberMetrics.CONSTRAINT_CHECK, "group.a"), "Constraint checks timed once per change");
+		assertEquals(0, this.metrics.getCount(FiberMetrics.CONSTRAINT_CHECK, ""), "Standalone type checks are not timed");
+
+		List<String> scraped = new ArrayList<>();
+		this.metrics.forEach((metric, path, count, total, max) -> scraped.add(metric + "{" + path + "}=" + total));
+		assertTrue(scraped.contains(FiberMetrics.LEAF_SET_PASSED + "{group.a}=2"), scraped.toString());
+	}
+
+	@Test
+	@DisplayName("Annotated settings")
+	void testApplyMetrics() throws FiberException {
+		AnnotatedSettings.DEFAULT_SETTINGS.makeTree(new Pojo());
+		assertEquals(1, this.metrics.getCount(FiberMetrics.APPLY_POJO, ""));
+	}
+
+	@Test
+	@DisplayName("No-op metrics")
+	void testNoop() {
+		FiberMetrics.install(FiberMetrics.noop());
+		assertFalse(FiberMetrics.get().isEnabled());
+		ConfigTree.builder().withValue("a", ConfigTypes.INTEGER, 5).build();
+		assertEquals(0, this.metrics.getCount(FiberMetrics.LEAF_SET_PASSED, "a"));
+	}
+
+	private static class Pojo {
+		private int a = 5;
+	}
+}
@@ -1,11 +1,29 @@
 package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
+import io.github.fablabsmc.fablabs.impl.fiber.constraint.DoubleArrayConstraintChecker;
+import io.github.fablabsmc.fablabs.impl.fiber.serialization.PackedArrays;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -46,4 +64,245 @@ class SerializableTypesTest {
 		assertTrue(typeF.isAssignableFrom(typeG));
 		assertTrue(typeG.isAssignableFrom(typeF));
 	}
+
+	@DisplayName("Test decimal type correction")
+	@Test
+	void testDecimalCorrection() {
+		DecimalSerializableType type = new DecimalSerializableType(BigDecimal.ZERO, BigDecimal.valueOf(6), BigDecimal.valueOf(1.5));
+		assertTrue(type.accepts(BigDecimal.valueOf(4.5)));
+		assertEquals(Optional.of(BigDecimal.ZERO), type.test(BigDecimal.valueOf(-1)).getCorrectedValue());
+		assertEquals(Optional.of(BigDecimal.valueOf(6)), type.test(BigDecimal.valueOf(7.25)).getCorrectedValue());
+		assertEquals(Optional.of(BigDecimal.valueOf(4.5)), type.test(BigDecimal.valueOf(4)).getCorrectedValue());
+
+		// values that cannot use the scaled representation must be checked the same way
+		for (int i = -40; i < 80; i++) {
+			BigDecimal value = BigDecimal.valueOf(i, 1);
+			TypeCheckResult<BigDecimal> expected = type.test(value);
+			TypeCheckResult<BigDecimal> actual = type.test(value.setScale(20, BigDecimal.ROUND_UNNECESSARY));
+			assertEquals(expected.hasPassed(), actual.hasPassed());
+			assertEquals(0, expected.getCorrectedValue().get().compareTo(actual.getCorrectedValue().get()));
+		}
+
+		DecimalSerializableType unscaled = new DecimalSerializableType(BigDecimal.ZERO, null, BigDecimal.ONE.setScale(100, BigDecimal.ROUND_UNNECESSARY));
+		assertTrue(unscaled.accepts(BigDecimal.TEN));
+		assertFalse(unscaled.accepts(BigDecimal.ONE.negate()));
+	}
+
+	@DisplayName("Test record type")
+	@Test
+	void testRecordType() {
+		Map<String, SerializableType<?>> fields = new LinkedHashMap<>();
+		fields.put("a", new DecimalSerializableType(BigDecimal.ZERO, BigDecimal.TEN, null));
+		fields.put("b", StringSerializableType.DEFAULT_STRING);
+		RecordSerializableType type = new RecordSerializableType(fields);
+		assertEquals(1, type.indexOf("b"));
+		assertEquals(-1, type.indexOf("c"));
+		RecordValue record = type.createRecord(BigDecimal.ONE, "x");
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("a", BigDecimal.ONE);
+		map.put("b", "x");
+		assertEquals(map, record);
+		assertEquals(map.hashCode(), record.hashCode());
+		assertEquals("x", record.get("b"));
+		assertSame(record, type.test(record).getCorrectedValue().orElse(null));
+		assertTrue(type.accepts(map));
+		assertSame(record, type.cast(record));
+		map.put("a", BigDecimal.valueOf(20));
+		assertEquals(type.createRecord(BigDecimal.TEN, "x"), type.test(map).getCorrectedValue().orElse(null));
+		assertEquals(type.createRecord(BigDecimal.TEN, "x"), type.test(type.createRecord(BigDecimal.valueOf(20), "x")).getCorrectedValue().orElse(null));
+		map.remove("b");
+		assertThrows(ClassCastException.class, () -> type.cast(map));
+		assertThrows(IllegalArgumentException.class, () -> type.createRecord(BigDecimal.ONE));
+	}
+
+	@DisplayName("Test string type pattern matching")
+	@Test
+	void testStringPattern() {
+		String[] patterns = {"[a-z_][a-z0-9_]*", "\\d{3}-\\d{2,4}", "a*ab", ".+\\.json", "[^\\s]{1,3}x?", "\\W\\w\\S", "(ab)+c", "[-a-c]+\\u00e9", "^a$"};
+		String[] values = {"", "foo_1", "1foo", "123-45", "123-45678", "aaab", "ab", "b", "a.json", ".json", "x\ny.json", "ab", "abcx", "-\u00e9", "abc", "a", "ababc", "\ud83d\ude00", "#a\t", "#a!", "\u00e9_1"};
+
+		for (String regex : patterns) {
+			Pattern pattern = Pattern.compile(regex);
+			StringSerializableType type = new StringSerializableType(0, Integer.MAX_VALUE, pattern);
+
+			for (String value : values) {
+				boolean expected = pattern.matcher(value).matches();
+				assertEquals(expected, type.matchesPattern(value), () -> regex + " / " + value);
+				// second check goes through the cache of accepted values
+				assertEquals(expected, type.matchesPattern(value), () -> regex + " / " + value);
+				assertEquals(expected, type.accepts(value), () -> regex + " / " + value);
+			}
+		}
+	}
+
+	@DisplayName("Test string type comprehension")
+	@Test
+	void testStringType() {
+		StringSerializableType any = StringSerializableType.DEFAULT_STRING;
+		StringSerializableType identifier = new StringSerializableType(0, Integer.MAX_VALUE, Pattern.compile("[a-z_][a-z0-9_]*"));
+		StringSerializableType identifierCopy = new StringSerializableType(0, Integer.MAX_VALUE, Pattern.compile("[a-z_][a-z0-9_]*"));
+		StringSerializableType word = new StringSerializableType(0, Integer.MAX_VALUE, Pattern.compile("\\w\\w*"));
+		StringSerializableType nonDigits = new StringSerializableType(0, Integer.MAX_VALUE, Pattern.compile("[^0-9]+"));
+		StringSerializableType group = new StringSerializableType(0, Integer.MAX_VALUE, Pattern.compile("(ab)+"));
+		assertTrue(any.isAssignableFrom(identifier));
+		assertFalse(identifier.isAssignableFrom(any));
+		assertTrue(identifier.isAssignableFrom(identifierCopy));
+		assertTrue(word.isAssignableFrom(identifier));
+		assertFalse(identifier.isAssignableFrom(word));
+		assertTrue(nonDigits.isAssignableFrom(new StringSerializableType(0, Integer.MAX_VALUE, Pattern.compile("[a-z]+"))));
+		assertFalse(nonDigits.isAssignableFrom(word));
+		assertFalse(group.isAssignableFrom(identifier));
+		assertTrue(group.isAssignableFrom(new StringSerializableType(0, Integer.MAX_VALUE, Pattern.compile("(ab)+"))));
+		// cached result
+		assertTrue(word.isAssignableFrom(identifier));
+	}
+
+	@DisplayName("Test canonical types")
+	@Test
+	void testCanonicalTypes() {
+		DecimalSerializableType decimal = new DecimalSerializableType(BigDecimal.ZERO, BigDecimal.TEN, null);
+		DecimalSerializableType equalDecimal = new DecimalSerializableType(BigDecimal.ZERO, BigDecimal.TEN, null);
+		assertNotSame(decimal, equalDecimal);
+		DecimalSerializableType canonical = SerializableType.canonical(decimal);
+		assertTrue(canonical.isCanonical());
+		assertSame(canonical, SerializableType.canonical(equalDecimal), "Equal types share a canonical instance");
+		assertEquals(decimal, canonical);
+		assertFalse(canonical.equals(SerializableType.canonical(new DecimalSerializableType(BigDecimal.ZERO, BigDecimal.ONE, null))));
+
+		ListSerializableType<BigDecimal> list = new ListSerializableType<>(equalDecimal, 0, 5, false);
+		assertSame(canonical, list.getElementType(), "Nested types are canonicalized");
+		ListSerializableType<BigDecimal> canonicalList = SerializableType.canonical(list);
+		assertSame(canonicalList, SerializableType.canonical(new ListSerializableType<>(decimal, 0, 5, false)));
+
+		ListSerializableType<BigDecimal> wider = SerializableType.canonical(new ListSerializableType<>(new DecimalSerializableType(null, null, null)));
+		assertTrue(wider.isAssignableFrom(canonicalList));
+		assertTrue(wider.isAssignableFrom(canonicalList), "Memoized results are consistent");
+		assertFalse(canonicalList.isAssignableFrom(wider));
+		assertFalse(canonicalList.isAssignableFrom(wider));
+		assertTrue(canonicalList.isAssignableFrom(canonicalList));
+	}
+
+	@DisplayName("Test allocation-free type checks")
+	@Test
+	void testCheckStatus() {
+		DecimalSerializableType elementType = new DecimalSerializableType(BigDecimal.ZERO, BigDecimal.TEN, null);
+		CorrectedValue<BigDecimal> corrected = new CorrectedValue<>();
+		assertEquals(TypeCheckStatus.PASSED, elementType.check(BigDecimal.ONE, corrected));
+		assertNull(corrected.get(), "Passed checks leave the holder untouched");
+		assertEquals(TypeCheckStatus.CORRECTED, elementType.check(BigDecimal.valueOf(20), corrected));
+		assertEquals(BigDecimal.TEN, corrected.get());
+		assertEquals(TypeCheckStatus.CORRECTED, elementType.check(BigDecimal.valueOf(-1), null), "Corrections may be skipped");
+		assertEquals(TypeCheckStatus.CORRECTED, elementType.test(BigDecimal.valueOf(20)).getStatus());
+
+		ListSerializableType<BigDecimal> listType = new ListSerializableType<>(elementType, 1, 3, false);
+		CorrectedValue<List<BigDecimal>> correctedList = new CorrectedValue<>();
+		assertEquals(TypeCheckStatus.CORRECTED, listType.check(Arrays.asList(BigDecimal.ONE, BigDecimal.valueOf(20)), correctedList));
+		assertEquals(Arrays.asList(BigDecimal.ONE, BigDecimal.TEN), correctedList.get());
+		assertEquals(TypeCheckStatus.UNRECOVERABLE, listType.check(new ArrayList<>(), correctedList));
+		assertEquals(TypeCheckStatus.UNRECOVERABLE, listType.test(new ArrayList<>()).getStatus());
+		assertSame(listType.test(new ArrayList<>()), listType.test(new ArrayList<>()), "Unrecoverable results are shared");
+
+		TypeCheckResult<BigDecimal> result = elementType.test(BigDecimal.valueOf(20));
+		assertSame(result.getCorrectedValue(), result.getCorrectedValue(), "Optional corrected values are cached");
+	}
+
+	@DisplayName("Test list type checks")
+	@Test
+	void testListType() {
+		DecimalSerializableType elementType = new DecimalSerializableType(BigDecimal.ZERO, BigDecimal.valueOf(100), null);
+		ListSerializableType<BigDecimal> type = new ListSerializableType<>(elementType, 1, 50, true);
+		List<BigDecimal> valid = IntStream.range(0, 30).mapToObj(BigDecimal::valueOf).collect(Collectors.toList());
+		assertSame(valid, type.test(valid).getCorrectedValue().orElse(null), "Valid lists are returned as is");
+		assertTrue(type.accepts(new LinkedList<>(valid)));
+
+		List<BigDecimal> duplicate = new ArrayList<>(valid);
+		duplicate.add(BigDecimal.ZERO);
+		duplicate.add(BigDecimal.valueOf(200));
+		assertFalse(type.accepts(duplicate));
+		List<BigDecimal> expected = new ArrayList<>(valid);
+		expected.add(BigDecimal.valueOf(100));
+		assertEquals(Optional.of(expected), type.test(duplicate).getCorrectedValue(), "Duplicates are removed and elements corrected");
+		assertEquals(Optional.of(expected), type.test(new LinkedList<>(duplicate)).getCorrectedValue());
+
+		List<BigDecimal> tooBig = IntStream.range(0, 60).mapToObj(BigDecimal::valueOf).collect(Collectors.toList());
+		assertEquals(Optional.of(tooBig.subList(0, 50)), type.test(tooBig).getCorrectedValue(), "Oversized lists are truncated");
+		assertFalse(type.accepts(Arrays.asList(BigDecimal.ONE, BigDecimal.ONE)));
+	}
+
+	@DisplayName("Test incremental list checks")
+	@Test
+	void testListAppendRemove() {
+		DecimalSerializableType elementType = new DecimalSerializableType(BigDecimal.ZERO, BigDecimal.valueOf(100), null);
+		ListSerializableType<BigDecimal> type = new ListSerializableType<>(elementType, 1, 3, true);
+		List<BigDecimal> valid = Arrays.asList(BigDecimal.ZERO, BigDecimal.ONE);
+		assertTrue(type.testAppend(valid, BigDecimal.TEN).hasPassed());
+		assertFalse(type.testAppend(valid, BigDecimal.ONE).getCorrectedValue().isPresent(), "Duplicate element");
+		assertEquals(Optional.of(BigDecimal.valueOf(100)), type.testAppend(valid, BigDecimal.valueOf(150)).getCorrectedValue());
+		assertFalse(type.testAppend(Arrays.asList(BigDecimal.ZERO, BigDecimal.ONE, BigDecimal.TEN), BigDecimal.valueOf(2)).getCorrectedValue().isPresent(), "Maximum size");
+		assertTrue(type.acceptsRemoval(valid));
+		assertFalse(type.acceptsRemoval(valid.subList(0, 1)), "Minimum size");
+	}
+
+	@DisplayName("Test map type checks")
+	@Test
+	void testMapType() {
+		DecimalSerializableType valueType = new DecimalSerializableType(BigDecimal.ZERO, BigDecimal.TEN, null);
+		MapSerializableType<BigDecimal> type = new MapSerializableType<>(StringSerializableType.DEFAULT_STRING, valueType, 0, 2);
+		Map<String, BigDecimal> valid = new LinkedHashMap<>();
+		valid.put("a", BigDecimal.ONE);
+		valid.put("b", BigDecimal.TEN);
+		assertSame(valid, type.test(valid).getCorrectedValue().orElse(null), "Valid maps are returned as is");
+
+		Map<String, BigDecimal> invalid = new LinkedHashMap<>(valid);
+		invalid.put("b", BigDecimal.valueOf(20));
+		Map<String, BigDecimal> expected = new LinkedHashMap<>(valid);
+		assertEquals(Optional.of(expected), type.test(invalid).getCorrectedValue());
+		invalid.put("c", BigDecimal.ONE);
+		assertEquals(Optional.of(expected), type.test(invalid).getCorrectedValue(), "Oversized maps are truncated");
+	}
+
+	@DisplayName("Test packed array types")
+	@Test
+	void testPackedArrayTypes() {
+		IntArraySerializableType intType = new IntArraySerializableType(-5, 5, 1, 3);
+		int[] valid = {-5, 0, 5};
+		assertSame(valid, intType.test(valid).getCorrectedValue().orElse(null), "Valid arrays are returned as is");
+		assertArrayEquals(new int[] {-5, 1, 5}, intType.test(new int[] {-10, 1, 10, 2}).getCorrectedValue().orElse(null), "Elements are clamped and arrays truncated");
+		assertFalse(intType.test(new int[0]).getCorrectedValue().isPresent(), "Minimum size");
+		assertTrue(IntArraySerializableType.UNBOUNDED.isAssignableFrom(intType));
+		assertFalse(intType.isAssignableFrom(IntArraySerializableType.UNBOUNDED));
+
+		LongArraySerializableType longType = new LongArraySerializableType(0, Long.MAX_VALUE, 0, Integer.MAX_VALUE);
+		assertTrue(longType.accepts(new long[] {0, Long.MAX_VALUE}));
+		assertArrayEquals(new long[] {0, 1}, longType.test(new long[] {Long.MIN_VALUE, 1}).getCorrectedValue().orElse(null));
+
+		DoubleArraySerializableType doubleType = new DoubleArraySerializableType(0, 1, 0, Integer.MAX_VALUE);
+		assertTrue(doubleType.accepts(new double[] {0, 0.5, 1}));
+		assertArrayEquals(new double[] {0, 0.5, 1}, doubleType.test(new double[] {-1, 0.5, 2}).getCorrectedValue().orElse(null));
+		assertFalse(doubleType.test(new double[] {Double.NaN}).getCorrectedValue().isPresent(), "NaN is unrecoverable");
+		assertEquals(TypeCheckStatus.CORRECTED, DoubleArrayConstraintChecker.instance().check(doubleType, new double[] {-1, 0.5, 2}, null));
+		assertEquals(TypeCheckStatus.UNRECOVERABLE, DoubleArrayConstraintChecker.instance().check(doubleType, new double[] {2, Double.NaN}, null),
+				"NaN is unrecoverable without a corrected value holder");
+		assertThrows(IllegalArgumentException.class, () -> new DoubleArraySerializableType(1, 0, 0, 1));
+	}
+
+	@DisplayName("Test packed array list fallback")
+	@Test
+	void testPackedArrayListFallback() throws ValueDeserializationException {
+		IntArraySerializableType intType = new IntArraySerializableType(-5, 5, 1, 3);
+		int[] ints = {-5, 0, 5};
+		assertTrue(PackedArrays.listType(intType).accepts(PackedArrays.toList(ints)));
+		assertFalse(PackedArrays.listType(intType).accepts(PackedArrays.toList(new int[] {6})));
+		assertArrayEquals(ints, PackedArrays.toIntArray(PackedArrays.toList(ints)));
+		assertThrows(ValueDeserializationException.class, () -> PackedArrays.toIntArray(PackedArrays.toList(new long[] {Long.MAX_VALUE})));
+
+		long[] longs = {Long.MIN_VALUE, Long.MAX_VALUE};
+		assertTrue(PackedArrays.listType(LongArraySerializableType.UNBOUNDED).accepts(PackedArrays.toList(longs)));
+		assertArrayEquals(longs, PackedArrays.toLongArray(PackedArrays.toList(longs)));
+
+		double[] doubles = {-0.25, 1e300};
+		assertTrue(PackedArrays.listType(DoubleArraySerializableType.UNBOUNDED).accepts(PackedArrays.toList(doubles)));
+		assertArrayEquals(doubles, PackedArrays.toDoubleArray(PackedArrays.toList(doubles)));
+		assertThrows(IllegalArgumentException.class, () -> PackedArrays.toList(new double[] {Double.POSITIVE_INFINITY}));
+	}
 }
@@ -3,20 +3,32 @@ package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.builder.ConfigLeafBuilder;
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.FiberConversionException;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DecimalSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.EnumSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.ListSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.RecordValue;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.PropertyMirror;
 import org.junit.jupiter.api.Assertions;
@@ -81,6 +93,26 @@ class ConfigTypesTest {
 		assertFalse(mirror.accepts(Arrays.asList(9, 10, 11)));
 	}
 
+	@DisplayName("Test unchecked runtime conversion")
+	@Test
+	void testUncheckedConversion() {
+		assertThrows(FiberConversionException.class, () -> ConfigTypes.NATURAL.toRuntimeType(BigDecimal.valueOf(-1)), "Checked conversion of an invalid value");
+		assertEquals(-1, ConfigTypes.NATURAL.toRuntimeTypeUnchecked(BigDecimal.valueOf(-1)), "Unchecked conversion skips constraints");
+
+		ListConfigType<List<Integer>, BigDecimal> type = ConfigTypes.makeList(ConfigTypes.NATURAL);
+		ConfigLeaf<List<BigDecimal>> config = ConfigLeafBuilder
+				.create(null, "", type, Arrays.asList(1, 2, 3))
+				.build();
+		PropertyMirror<List<Integer>> mirror = PropertyMirror.create(type);
+		mirror.mirror(config);
+
+		assertEquals(Arrays.asList(1, 2, 3), mirror.getValue());
+		assertTrue(mirror.setValue(Arrays.asList(4, 5)));
+		assertEquals(Arrays.asList(4, 5), mirror.getValue());
+		assertTrue(mirror.setValue(Arrays.asList(4, -5)));
+		assertEquals(Arrays.asList(4, 0), mirror.getValue(), "Invalid values are still corrected by the leaf");
+	}
+
 	@Test
 	void testIntArray() {
 		ListConfigType<int[], BigDecimal> type = ConfigTypes.makeIntArray(ConfigTypes.INTEGER);
@@ -92,6 +124,18 @@ class ConfigTypesTest {
 		assertThrows(FiberConversionException.class, () -> type.toRuntimeType(err), "Convert List<overflowed> -> int[]");
 	}
 
+	@Test
+	void testPackedIntArray() {
+		IntArrayConfigType<int[]> type = ConfigTypes.PACKED_INT_ARRAY.withValidRange(0, 10).withMaxSize(3);
+		int[] arr = {1, 2, 3};
+		int[] serialized = type.toSerializedType(arr);
+		assertArrayEquals(arr, serialized, "Convert int[] -> packed int[]");
+		assertNotSame(arr, serialized, "Conversion copies the array");
+		assertArrayEquals(arr, type.toRuntimeType(serialized), "Convert packed int[] -> int[]");
+		assertThrows(FiberConversionException.class, () -> type.toSerializedType(new int[] {1, 2, 3, 4}), "Convert oversized int[]");
+		assertThrows(FiberConversionException.class, () -> type.toRuntimeType(new int[] {11}), "Convert out of range int[]");
+	}
+
 	@Test
 	void testCharArray() {
 		ListConfigType<char[], String> type = ConfigTypes.makeCharArray(ConfigTypes.CHARACTER);
@@ -140,4 +184,108 @@ class ConfigTypesTest {
 		assertFalse(constraint.test(TestEnum.A), "Constrained enum 2 does not accept A");
 		assertTrue(constraint.test(TestEnum.B), "Constrained enum 2 accepts B");
 	}
+
+	@DisplayName("Test enum ordinals")
+	@Test
+	void testEnumOrdinals() {
+		EnumConfigType<TestEnum> type = ConfigTypes.makeEnum(TestEnum.class);
+		EnumSerializableType serializedType = type.getSerializedType();
+		assertEquals(2, serializedType.size());
+		assertEquals(TestEnum.B.ordinal(), serializedType.ordinalOf("B"));
+		assertEquals(-1, serializedType.ordinalOf("C"));
+		assertEquals("A", serializedType.valueAt(TestEnum.A.ordinal()));
+		assertEquals(TestEnum.B, type.toRuntimeType("B"));
+		assertEquals("A", type.toSerializedType(TestEnum.A));
+		assertEquals("B", serializedType.test("b").getCorrectedValue().orElse(null));
+		assertThrows(FiberConversionException.class, () -> type.toRuntimeType("C"));
+	}
+
+	@DisplayName("Test enum sets")
+	@Test
+	void testEnumSet() {
+		ListConfigType<Set<TestEnum>, String> type = ConfigTypes.makeEnumSet(TestEnum.class);
+		assertEquals(EnumSet.allOf(TestEnum.class), type.toRuntimeType(Arrays.asList("B", "A")));
+		assertEquals(Collections.emptySet(), type.toRuntimeType(Collections.emptyList()));
+		assertEquals(Arrays.asList("A", "B"), type.toSerializedType(new HashSet<>(Arrays.asList(TestEnum.B, TestEnum.A))));
+		assertEquals(Collections.singletonList("B"), type.toSerializedType(EnumSet.of(TestEnum.B)));
+		assertFalse(type.getSerializedType().accepts(Arrays.asList("A", "A")));
+		assertThrows(FiberConversionException.class, () -> type.toRuntimeType(Collections.singletonList("C")));
+	}
+
+	static class SpawnEntry {
+		private String name;
+		private int weight;
+
+		SpawnEntry() {
+		}
+
+		SpawnEntry(String name, int weight) {
+			this.name = name;
+			this.weight = weight;
+		}
+	}
+
+	@DisplayName("Test record conversions")
+	@Test
+	void testRecord() {
+		Map<String, ConfigType<?, ?, ?>> fields = new LinkedHashMap<>();
+		fields.put("name", ConfigTypes.STRING);
+		fields.put("weight", ConfigTypes.NATURAL);
+		RecordConfigType<SpawnEntry> type = ConfigTypes.makeRecord(SpawnEntry.class, fields);
+		Map<String, Object> serialized = type.toSerializedType(new SpawnEntry("zombie", 10));
+		assertTrue(serialized instanceof RecordValue);
+		Map<String, Object> expected = new LinkedHashMap<>();
+		expected.put("name", "zombie");
+		expected.put("weight", BigDecimal.TEN);
+		assertEquals(expected, serialized);
+		SpawnEntry entry = type.toRuntimeType(expected);
+		assertEquals("zombie", entry.name);
+		assertEquals(10, entry.weight);
+		assertThrows(FiberConversionException.class, () -> type.toSerializedType(new SpawnEntry("skeleton", -1)));
+
+		ListConfigType<List<SpawnEntry>, Map<String, Object>> listType = ConfigTypes.makeList(type);
+		List<Map<String, Object>> serializedList = listType.toSerializedType(Arrays.asList(new SpawnEntry("a", 1), new SpawnEntry("b", 2)));
+		assertEquals(2, listType.toRuntimeType(serializedList).get(1).weight);
+		assertThrows(IllegalArgumentException.class, () -> ConfigTypes.makeRecord(SpawnEntry.class, Collections.singletonMap("health", ConfigTypes.INTEGER)));
+	}
+
+	@DisplayName("Test lazy collection conversions")
+	@Test
+	void testLazyCollections() {
+		AtomicInteger conversions = new AtomicInteger();
+		StringConfigType<String> countingType = ConfigTypes.STRING.derive(String.class, s -> {
+			conversions.incrementAndGet();
+			return s;
+		}, Function.identity());
+		List<String> serialized = IntStream.range(0, 1000).mapToObj(Integer::toString).collect(Collectors.toList());
+
+		List<String> list = ConfigTypes.makeList(countingType).toRuntimeType(serialized);
+		assertEquals(0, conversions.get());
+		assertEquals(1000, list.size());
+		assertEquals("42", list.get(42));
+		assertEquals("42", list.get(42));
+		assertEquals(1, conversions.get());
+		assertEquals(serialized, list);
+		assertThrows(UnsupportedOperationException.class, () -> list.add("x"));
+
+		conversions.set(0);
+		Set<String> set = ConfigTypes.makeSet(countingType).toRuntimeType(serialized);
+		assertEquals(0, conversions.get());
+		assertTrue(set.contains("999"));
+		assertFalse(set.contains("1000"));
+		assertEquals(1000, conversions.get());
+		assertEquals(new HashSet<>(serialized), set);
+		assertEquals(1000, conversions.get());
+
+		conversions.set(0);
+		Map<String, String> serializedMap = new LinkedHashMap<>();
+		serialized.forEach(s -> serializedMap.put(s, s));
+		Map<String, String> map = ConfigTypes.makeMap(ConfigTypes.STRING, countingType).toRuntimeType(serializedMap);
+		assertEquals("7", map.get("7"));
+		assertNull(map.get("x"));
+		assertTrue(map.containsKey("8"));
+		assertEquals(1, conversions.get());
+		assertEquals(serializedMap, map);
+		assertEquals(serialized, map.keySet().stream().collect(Collectors.toList()));
+	}
 }
@@ -1,5 +1,6 @@
 package io.github.fablabsmc.fablabs.api.fiber.v1.serialization;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.ByteArrayInputStream;
@@ -19,6 +20,7 @@ import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.RecordSerializableTy
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.IntArrayConfigType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.NumberConfigType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.RecordConfigType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
@@ -71,6 +73,26 @@ class JanksonValueSerializerTest {
 		assertEquals("{ \"A\": [ 10 ] }", bos.toString("UTF-8"));
 	}
 
+	@Test
+	@DisplayName("int[] -> int[]")
+	void nodeSerializationPackedArray() throws IOException, FiberException {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		JanksonValueSerializer jk = new JanksonValueSerializer(true);
+		IntArrayConfigType<int[]> cfgType = ConfigTypes.PACKED_INT_ARRAY.withValidRange(0, 100);
+		ConfigTree nodeOne = ConfigTree.builder()
+				.withValue("A", ConfigTypes.PACKED_INT_ARRAY, new int[] {1, 2, 300})
+				.build();
+		PropertyMirror<int[]> mirror = PropertyMirror.create(cfgType);
+		ConfigTree nodeTwo = ConfigTree.builder()
+				.beginValue("A", cfgType, new int[0])
+				.finishValue(mirror::mirror)
+				.build();
+
+		FiberSerialization.serialize(nodeOne, bos, jk);
+		FiberSerialization.deserialize(nodeTwo, new ByteArrayInputStream(bos.toByteArray()), jk);
+		assertArrayEquals(new int[] {1, 2, 100}, mirror.getValue());
+	}
+
 	@Test
 	@DisplayName("Map<Integer> -> Map<Integer>")
 	void nodeSerializationMap() throws IOException, FiberException {
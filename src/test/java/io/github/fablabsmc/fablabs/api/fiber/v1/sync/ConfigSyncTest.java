@@ -0,0 +1,289 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.sync;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.builder.ConfigLeafBuilder;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.IntArraySerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.RecordSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.RecordConfigType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import io.github.fablabsmc.fablabs.impl.fiber.sync.SyncCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConfigSyncTest {
+	private static final SerializableType<BigDecimal> NUMBER = ConfigTypes.INTEGER.getSerializedType();
+	private static final SerializableType<String> STRING = ConfigTypes.STRING.getSerializedType();
+
+	private static ConfigBranch createTree() {
+		return ConfigTree.builder()
+				.withValue("name", ConfigTypes.STRING, "server")
+				.fork("world")
+				.withValue("distance", ConfigTypes.INTEGER, 8)
+				.withValue("hardcore", ConfigTypes.BOOLEAN, false)
+				.finishBranch()
+				.build();
+	}
+
+	private static void deliver(LoopbackTransport transport, ConfigSyncClient client, SyncStatus expected) throws IOException {
+		byte[] frame = transport.poll();
+		assertNotNull(frame);
+		assertEquals(expected, client.accept(frame));
+	}
+
+	@Test
+	@DisplayName("Snapshot and deltas")
+	void snapshotAndDeltas() throws IOException {
+		ConfigBranch serverTree = createTree();
+		ConfigBranch clientTree = createTree();
+		clientTree.lookupLeaf("name", STRING).setValue("client");
+		ConfigSyncServer server = new ConfigSyncServer(serverTree);
+		ConfigSyncClient client = new ConfigSyncClient(clientTree);
+		LoopbackTransport transport = new LoopbackTransport();
+		ConfigLeaf<BigDecimal> distance = serverTree.lookupBranch("world").lookupLeaf("distance", NUMBER);
+		ConfigLeaf<BigDecimal> clientDistance = clientTree.lookupBranch("world").lookupLeaf("distance", NUMBER);
+
+		assertTrue(client.isResyncRequired());
+		distance.setValue(BigDecimal.valueOf(12));
+		transport.send(server.delta());
+		deliver(transport, client, SyncStatus.RESYNC_REQUIRED);
+
+		transport.send(server.snapshot());
+		deliver(transport, client, SyncStatus.APPLIED);
+		assertFalse(client.isResyncRequired());
+		assertEquals("server", clientTree.lookupLeaf("name", STRING).getValue());
+		assertEquals(BigDecimal.valueOf(12), clientDistance.getValue());
+		assertNull(server.delta(), "Nothing changed since the previous delta");
+
+		int[] notifications = new int[1];
+		clientDistance.addChangeListener((oldValue, newValue) -> notifications[0]++);
+		distance.setValue(BigDecimal.valueOf(16));
+		distance.setValue(BigDecimal.valueOf(24));
+		serverTree.lookupLeaf("name", STRING).setValue("server");
+		byte[] delta = server.delta();
+		transport.send(delta);
+		deliver(transport, client, SyncStatus.APPLIED);
+		assertEquals(BigDecimal.valueOf(24), clientDistance.getValue());
+		assertEquals(1, notifications[0], "Changes are batched per leaf");
+		assertEquals(server.getSequence(), client.getSequence());
+		assertTrue(delta.length < server.snapshot().length, "Deltas do not carry paths");
+
+		assertEquals(SyncStatus.IGNORED, client.accept(delta), "Duplicate frames are ignored");
+	}
+
+	@Test
+	@DisplayName("Resync after a missed frame")
+	void resync() throws IOException {
+		ConfigBranch serverTree = createTree();
+		ConfigBranch clientTree = createTree();
+		ConfigSyncServer server = new ConfigSyncServer(serverTree);
+		ConfigSyncClient client = new ConfigSyncClient(clientTree);
+		ConfigLeaf<BigDecimal> distance = serverTree.lookupBranch("world").lookupLeaf("distance", NUMBER);
+		ConfigLeaf<BigDecimal> clientDistance = clientTree.lookupBranch("world").lookupLeaf("distance", NUMBER);
+		assertEquals(SyncStatus.APPLIED, client.accept(server.snapshot()));
+
+		distance.setValue(BigDecimal.ONE);
+		server.delta(); // lost
+		distance.setValue(BigDecimal.TEN);
+		assertEquals(SyncStatus.RESYNC_REQUIRED, client.accept(server.delta()));
+		assertTrue(client.isResyncRequired());
+		assertEquals(BigDecimal.valueOf(8), clientDistance.getValue());
+
+		distance.setValue(BigDecimal.valueOf(20));
+		assertEquals(SyncStatus.RESYNC_REQUIRED, client.accept(server.delta()), "Deltas are not applied until a snapshot is received");
+
+		assertEquals(SyncStatus.APPLIED, client.accept(server.handleRequest(client.resyncRequest())));
+		assertEquals(BigDecimal.valueOf(20), clientDistance.getValue());
+		assertThrows(IOException.class, () -> server.handleRequest(server.snapshot()));
+
+		distance.setValue(BigDecimal.valueOf(30));
+		assertEquals(SyncStatus.APPLIED, client.accept(server.delta()));
+		assertEquals(BigDecimal.valueOf(30), clientDistance.getValue());
+	}
+
+	@Test
+	@DisplayName("Structural changes")
+	void structuralChanges() throws Exception {
+		ConfigBranch serverTree = createTree();
+		ConfigBranch clientTree = createTree();
+		ConfigSyncServer server = new ConfigSyncServer(serverTree);
+		ConfigSyncClient client = new ConfigSyncClient(clientTree);
+		assertEquals(SyncStatus.APPLIED, client.accept(server.snapshot()));
+		byte[] stale = server.snapshot();
+		serverTree.lookupBranch("world").lookupLeaf("distance", NUMBER).setValue(BigDecimal.ONE);
+		byte[] oldEpoch = server.delta();
+
+		serverTree.getItems().add(ConfigLeafBuilder.create(null, "motd", ConfigTypes.STRING, "hello").build());
+		serverTree.lookupLeaf("name", STRING).setValue("renamed");
+		assertEquals(3, server.getLeafCount(), "The table is rebuilt lazily");
+		byte[] snapshot = server.delta();
+		assertEquals(4, server.getLeafCount());
+		assertEquals(SyncStatus.APPLIED, client.accept(snapshot), "Unknown leaves are skipped");
+		assertEquals("renamed", clientTree.lookupLeaf("name", STRING).getValue());
+		assertEquals(BigDecimal.ONE, clientTree.lookupBranch("world").lookupLeaf("distance", NUMBER).getValue());
+		assertEquals(SyncStatus.RESYNC_REQUIRED, client.accept(oldEpoch));
+
+		ConfigSyncClient other = new ConfigSyncClient(createTree());
+		assertEquals(SyncStatus.APPLIED, other.accept(stale));
+		serverTree.lookupLeaf("motd", STRING).setValue("bye");
+		assertEquals(SyncStatus.RESYNC_REQUIRED, other.accept(server.delta()));
+	}
+
+	@Test
+	@DisplayName("Aggregate values")
+	void aggregateValues() throws IOException {
+		Map<String, SerializableType<?>> fields = new LinkedHashMap<>();
+		fields.put("weight", NUMBER);
+		fields.put("mob", STRING);
+		ConfigType<Map<String, Object>, Map<String, Object>, ?> recordType = new RecordConfigType<>(
+				new RecordSerializableType(fields),
+				Map.class,
+				Function.identity(),
+				Function.identity());
+		Map<String, Object> spawn = new LinkedHashMap<>();
+		spawn.put("weight", BigDecimal.valueOf(3));
+		spawn.put("mob", "zombie");
+		Map<String, Object> defaultSpawn = new LinkedHashMap<>();
+		defaultSpawn.put("weight", BigDecimal.ONE);
+		defaultSpawn.put("mob", "pig");
+		ConfigBranch serverTree = ConfigTree.builder()
+				.withValue("spawn", recordType, defaultSpawn)
+				.withValue("biomes", ConfigTypes.makeList(ConfigTypes.STRING), Arrays.asList("plains"))
+				.withValue("costs", ConfigTypes.makeMap(ConfigTypes.STRING, ConfigTypes.INTEGER), new LinkedHashMap<>())
+				.build();
+		ConfigBranch clientTree = serverTree.copy();
+		ConfigSyncServer server = new ConfigSyncServer(serverTree);
+		ConfigSyncClient client = new ConfigSyncClient(clientTree);
+		assertEquals(SyncStatus.APPLIED, client.accept(server.snapshot()));
+
+		Map<String, BigDecimal> costs = new LinkedHashMap<>();
+		costs.put("iron", BigDecimal.valueOf(4));
+		setValue(serverTree.lookup("spawn"), spawn);
+		setValue(serverTree.lookup("biomes"), Arrays.asList("desert", "forest"));
+		setValue(serverTree.lookup("costs"), costs);
+		assertEquals(SyncStatus.APPLIED, client.accept(server.delta()));
+
+		assertEquals(spawn, ((ConfigLeaf<?>) clientTree.lookup("spawn")).getValue());
+		assertEquals(Arrays.asList("desert", "forest"), ((ConfigLeaf<?>) clientTree.lookup("biomes")).getValue());
+		assertEquals(costs, ((ConfigLeaf<?>) clientTree.lookup("costs")).getValue());
+	}
+
+	@Test
+	@DisplayName("Mismatched types")
+	void mismatchedTypes() throws IOException {
+		ConfigBranch serverTree = ConfigTree.builder()
+				.withValue("flag", ConfigTypes.STRING, "")
+				.withValue("list", ConfigTypes.makeList(ConfigTypes.STRING), Collections.emptyList())
+				.build();
+		ConfigBranch clientTree = ConfigTree.builder()
+				.withValue("flag", ConfigTypes.BOOLEAN, true)
+				.withValue("list", ConfigTypes.makeList(ConfigTypes.INTEGER), Arrays.asList(1))
+				.build();
+		ConfigSyncClient client = new ConfigSyncClient(clientTree);
+		ConfigSyncServer server = new ConfigSyncServer(serverTree);
+		assertEquals(SyncStatus.APPLIED, client.accept(server.snapshot()));
+		// an empty string and an empty list have the same encoding as false and as an empty list of numbers
+		assertEquals(true, ((ConfigLeaf<?>) clientTree.lookup("flag")).getValue(), "Leaves of another type are skipped");
+		assertEquals(Arrays.asList(BigDecimal.ONE), ((ConfigLeaf<?>) clientTree.lookup("list")).getValue());
+
+		setValue(serverTree.lookup("list"), Arrays.asList("a"));
+		assertEquals(SyncStatus.APPLIED, client.accept(server.delta()));
+		assertEquals(Arrays.asList(BigDecimal.ONE), ((ConfigLeaf<?>) clientTree.lookup("list")).getValue(), "Deltas skip leaves of another type");
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void setValue(Object leaf, Object value) {
+		ConfigLeaf<Object> l = (ConfigLeaf<Object>) leaf;
+		l.setValue(l.getConfigType().cast(value));
+	}
+
+	@Test
+	@DisplayName("Stream transport")
+	void streamTransport() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		SyncTransport transport = SyncTransport.of(out);
+		byte[] large = new byte[300];
+		Arrays.fill(large, (byte) 7);
+		transport.send(new byte[] {1, 2, 3});
+		transport.send(new byte[0]);
+		transport.send(large);
+
+		InputStream in = new ByteArrayInputStream(out.toByteArray());
+		assertArrayEquals(new byte[] {1, 2, 3}, SyncTransport.readFrame(in));
+		assertArrayEquals(new byte[0], SyncTransport.readFrame(in));
+		assertArrayEquals(large, SyncTransport.readFrame(in));
+		assertNull(SyncTransport.readFrame(in));
+
+		byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() - 1);
+		InputStream partial = new ByteArrayInputStream(truncated, 5, truncated.length - 5);
+		assertThrows(EOFException.class, () -> SyncTransport.readFrame(partial));
+	}
+
+	@Test
+	@DisplayName("Lengths read from the wire are bounded")
+	void boundedLengths() throws IOException {
+		ByteArrayOutputStream frames = new ByteArrayOutputStream();
+		SyncTransport.of(frames).send(new byte[300]);
+		assertThrows(IOException.class, () -> SyncTransport.readFrame(new ByteArrayInputStream(frames.toByteArray()), 299));
+		assertEquals(300, SyncTransport.readFrame(new ByteArrayInputStream(frames.toByteArray()), 300).length);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeByte(SyncCodec.SNAPSHOT);
+		SyncCodec.writeVarInt(out, 0);
+		out.writeLong(0);
+		SyncCodec.writeVarInt(out, Integer.MAX_VALUE);
+		ConfigSyncClient client = new ConfigSyncClient(createTree());
+		assertThrows(IOException.class, () -> client.accept(bytes.toByteArray()), "Counts larger than the frame are rejected");
+
+		bytes.reset();
+		SyncCodec.writeVarInt(out, 3);
+		out.writeInt(1);
+		out.writeInt(2);
+		DataInputStream array = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		assertThrows(IOException.class, () -> SyncCodec.readValue(array, IntArraySerializableType.UNBOUNDED));
+
+		bytes.reset();
+		SyncCodec.writeVarInt(out, Integer.MAX_VALUE);
+		DataInputStream string = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		assertThrows(IOException.class, () -> SyncCodec.readString(string));
+	}
+
+	@Test
+	@DisplayName("Loopback transport")
+	void loopbackTransport() {
+		LoopbackTransport transport = new LoopbackTransport();
+		transport.send(new byte[4]);
+		transport.send(new byte[2]);
+		assertEquals(2, transport.size());
+		assertEquals(6, transport.getBytesSent());
+		assertEquals(4, transport.poll().length);
+		assertEquals(2, transport.poll().length);
+		assertNull(transport.poll());
+	}
+}
@@ -0,0 +1,99 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+/**
+ * Measures the bytes allocated by the current thread while running an operation repeatedly.
+ *
+ * <p>Operations are warmed up before being measured, so that they are measured once compiled
+ * by the JIT, which eliminates allocations of objects that do not escape. Budgets relying on this
+ * only hold {@linkplain #isOptimizingJitAvailable() under the optimizing compiler}.
+ */
+final class AllocationMeter {
+	private static final int WARMUP_ITERATIONS = 50_000;
+	private static final int MEASURED_ITERATIONS = 100_000;
+	/**
+	 * Bytes allocated by the measurement itself, which are not attributed to the measured operation.
+	 */
+	private static final long MEASUREMENT_SLACK = 1024;
+	/**
+	 * VM options disabling the optimizing compiler or its escape analysis, or instrumenting the bytecode.
+	 */
+	private static final Pattern DEOPTIMIZING_OPTIONS = Pattern.compile(
+			"-Xint|-XX:TieredStopAtLevel=[0-3]|-XX:-UseCompiler|-XX:-DoEscapeAnalysis|-Djava\\.compiler=NONE|-javaagent:.*|-agentlib:.*|-agentpath:.*");
+
+	@Nullable
+	private static final com.sun.management.ThreadMXBean THREADS = findThreadBean();
+
+	/**
+	 * Consumes the results of measured operations, so that the JIT cannot eliminate them.
+	 */
+	private static Object sink;
+
+	private AllocationMeter() {
+	}
+
+	@Nullable
+	private static com.sun.management.ThreadMXBean findThreadBean() {
+		try {
+			java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+			if (bean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+				((com.sun.management.ThreadMXBean) bean).setThreadAllocatedMemoryEnabled(true);
+				return (com.sun.management.ThreadMXBean) bean;
+			}
+		} catch (LinkageError | UnsupportedOperationException e) {
+			// not a HotSpot-compatible VM
+		}
+
+		return null;
+	}
+
+	static boolean isSupported() {
+		return THREADS != null;
+	}
+
+	/**
+	 * Returns {@code true} if measured operations get compiled with escape analysis, as when the VM runs
+	 * with its default options. Interpreted runs, client-only compilers and coverage agents allocate more.
+	 */
+	static boolean isOptimizingJitAvailable() {
+		if (ManagementFactory.getCompilationMXBean() == null) {
+			return false;
+		}
+
+		for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+			if (DEOPTIMIZING_OPTIONS.matcher(argument).matches()) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the average amount of bytes allocated by one run of {@code operation}, once warmed up.
+	 * Allocations below a small fixed slack are attributed to the measurement, and reported as zero.
+	 */
+	static double bytesPerOperation(Supplier<?> operation) {
+		if (THREADS == null) throw new IllegalStateException("Allocation measurement is not supported by this VM");
+
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			sink = operation.get();
+		}
+
+		long threadId = Thread.currentThread().getId();
+		long before = THREADS.getThreadAllocatedBytes(threadId);
+
+		for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+			sink = operation.get();
+		}
+
+		long allocated = THREADS.getThreadAllocatedBytes(threadId) - before;
+		return allocated <= MEASUREMENT_SLACK ? 0 : (double) allocated / MEASURED_ITERATIONS;
+	}
+}
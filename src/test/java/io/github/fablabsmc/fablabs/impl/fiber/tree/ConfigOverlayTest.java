@@ -0,0 +1,66 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigOverlay;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConfigOverlayTest {
+	private static final SerializableType<BigDecimal> RANGE = ConfigTypes.INTEGER.withValidRange(0, 10, 1).getSerializedType();
+	private static final SerializableType<String> STRING = ConfigTypes.STRING.getSerializedType();
+
+	@Test
+	@DisplayName("Resolution")
+	void resolution() {
+		ConfigBranch defaults = ConfigTree.builder()
+				.withValue("name", ConfigTypes.STRING, "default")
+				.fork("view")
+				.withComment("view settings")
+				.withValue("distance", ConfigTypes.INTEGER.withValidRange(0, 10, 1), 5)
+				.finishBranch()
+				.build();
+		ConfigBranch global = ConfigTree.builder()
+				.withValue("name", ConfigTypes.STRING, "global")
+				.build();
+		ConfigBranch player = ConfigTree.builder().build();
+		ConfigOverlay overlay = ConfigOverlay.of(defaults, global, player);
+
+		assertEquals("global", overlay.getValue(STRING, "name"));
+		assertEquals(1, overlay.resolveLayer("name"));
+		assertEquals(BigDecimal.valueOf(5), overlay.getValue(RANGE, "view", "distance"));
+		assertNull(overlay.resolve("view", "missing"));
+		assertEquals(-1, overlay.resolveLayer("view"), "Branches are not resolved");
+		assertThrows(ClassCastException.class, () -> overlay.getValue(STRING, "view", "distance"));
+
+		global.lookupLeaf("name", STRING).setValue("changed");
+		assertEquals("changed", overlay.getValue(STRING, "name"), "Value changes are visible through cached resolutions");
+
+		assertTrue(overlay.setValue(2, RANGE, BigDecimal.valueOf(42), "view", "distance"));
+		ConfigLeaf<BigDecimal> override = player.lookupBranch("view").lookupLeaf("distance", RANGE);
+		assertEquals(BigDecimal.TEN, override.getValue(), "Overrides keep the constraints of the resolved leaf");
+		assertEquals("view settings", player.lookupBranch("view").getComment());
+		assertSame(override, overlay.resolve("view", "distance"));
+		assertEquals(BigDecimal.valueOf(5), defaults.lookupBranch("view").lookupLeaf("distance", RANGE).getValue(), "Lower layers are untouched");
+
+		assertTrue(overlay.unset(2, "view", "distance"));
+		assertFalse(overlay.unset(2, "view", "distance"));
+		assertEquals(0, overlay.resolveLayer("view", "distance"));
+
+		global.getItems().removeByName("name");
+		assertEquals("default", overlay.getValue(STRING, "name"), "Structural changes invalidate the cache");
+		assertThrows(IllegalArgumentException.class, () -> overlay.setValue(2, STRING, "x", "missing"));
+	}
+}
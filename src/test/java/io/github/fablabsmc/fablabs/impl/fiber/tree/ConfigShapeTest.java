@@ -0,0 +1,127 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.FiberId;
+import io.github.fablabsmc.fablabs.api.fiber.v1.NodeOperations;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigInstance;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigShape;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.PropertyMirror;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConfigShapeTest {
+	private static final FiberId ATTRIBUTE = new FiberId("fiber", "test");
+	private static final SerializableType<BigDecimal> RANGE = ConfigTypes.INTEGER.withValidRange(0, 10, 1).getSerializedType();
+
+	private static ConfigShape shape() {
+		return ConfigShape.of(ConfigTree.builder()
+				.withValue("name", ConfigTypes.STRING, "default")
+				.fork("child")
+				.withValue("range", ConfigTypes.INTEGER.withValidRange(0, 10, 1), 5)
+				.finishBranch()
+				.build());
+	}
+
+	@Test
+	@DisplayName("Slots")
+	void slots() {
+		ConfigShape shape = shape();
+		assertEquals(2, shape.getSlotCount());
+		assertEquals(0, shape.slotOf("name"));
+		assertEquals(1, shape.slotOf("child", "range"));
+		assertEquals(-1, shape.slotOf("child"));
+		assertEquals(-1, shape.slotOf("child", "range", "deeper"));
+		assertEquals(Arrays.asList("child", "range"), shape.getPath(1));
+		assertEquals(RANGE, shape.getType(1));
+	}
+
+	@Test
+	@DisplayName("Instances hold independent values")
+	void instances() {
+		ConfigShape shape = shape();
+		int range = shape.slotOf("child", "range");
+		ConfigInstance one = shape.newInstance();
+		ConfigInstance two = shape.newInstance();
+
+		assertTrue(one.setValue(range, RANGE, BigDecimal.valueOf(20)));
+		assertEquals(BigDecimal.TEN, one.getValue(range, RANGE), "Values are corrected");
+		assertEquals(BigDecimal.valueOf(5), two.getValue(range, RANGE), "Instances are independent");
+		assertThrows(ClassCastException.class, () -> one.getValue(range, ConfigTypes.STRING.getSerializedType()));
+
+		PropertyMirror<Integer> mirror = PropertyMirror.create(ConfigTypes.INTEGER);
+		mirror.mirror(two.getProperty(range, RANGE));
+		mirror.setValue(7);
+		assertEquals(BigDecimal.valueOf(7), two.getValue(range, RANGE), "Mirrors write to the instance");
+		assertEquals(7, (int) mirror.getValue());
+	}
+
+	@Test
+	@DisplayName("Tree views")
+	void treeView() {
+		ConfigShape shape = shape();
+		int range = shape.slotOf("child", "range");
+		ConfigInstance instance = shape.newInstance();
+		instance.setValue(range, RANGE, BigDecimal.ONE);
+		ConfigBranch view = instance.asTree();
+		assertSame(view, instance.asTree());
+
+		ConfigLeaf<BigDecimal> leaf = view.lookupBranch("child").lookupLeaf("range", RANGE);
+		assertEquals(BigDecimal.ONE, leaf.getValue());
+		List<BigDecimal> changes = new ArrayList<>();
+		leaf.addChangeListener((o, n) -> changes.add(n));
+		long hash = NodeOperations.contentHash(view);
+
+		instance.setValue(range, RANGE, BigDecimal.valueOf(3));
+		assertEquals(BigDecimal.valueOf(3), leaf.getValue());
+		assertEquals(Arrays.asList(BigDecimal.valueOf(3)), changes, "Slot writes notify the view's listeners");
+		assertNotEquals(hash, NodeOperations.contentHash(view), "Slot writes update the view's hashes");
+
+		leaf.setValue(BigDecimal.ONE);
+		assertEquals(BigDecimal.ONE, instance.getValue(range, RANGE));
+		assertEquals(hash, NodeOperations.contentHash(view));
+		assertEquals(1, NodeOperations.diff(view, shape.newInstance().asTree()).size());
+	}
+
+	@Test
+	@DisplayName("Instances do not share mutable parts")
+	void mutableParts() {
+		int[] defaultValue = {1, 2};
+		ConfigShape shape = ConfigShape.of(ConfigTree.builder()
+				.fork("child")
+				.withAttribute(ATTRIBUTE, ConfigTypes.STRING.getSerializedType(), "attr")
+				.beginValue("array", ConfigTypes.PACKED_INT_ARRAY, defaultValue)
+				.withAttribute(ATTRIBUTE, ConfigTypes.STRING.getSerializedType(), "attr")
+				.finishValue()
+				.finishBranch()
+				.build());
+		int slot = shape.slotOf("child", "array");
+		ConfigInstance one = shape.newInstance();
+		ConfigInstance two = shape.newInstance();
+		int[] value = one.getValue(slot, ConfigTypes.PACKED_INT_ARRAY.getSerializedType());
+		value[0] = 5;
+		assertEquals(1, two.getValue(slot, ConfigTypes.PACKED_INT_ARRAY.getSerializedType())[0], "Mutable defaults are copied for each instance");
+		assertEquals(1, ((int[]) shape.getDefaultValue(slot))[0]);
+
+		ConfigBranch viewOne = one.asTree();
+		ConfigBranch viewTwo = two.asTree();
+		viewOne.lookup("child").getOrCreateAttribute(ATTRIBUTE, ConfigTypes.STRING.getSerializedType(), null).setValue("changed");
+		viewOne.lookupBranch("child").lookup("array").getOrCreateAttribute(ATTRIBUTE, ConfigTypes.STRING.getSerializedType(), null).setValue("changed");
+		assertEquals("attr", viewTwo.lookup("child").getAttributes().get(ATTRIBUTE).getValue(), "Views have their own attribute cells");
+		assertEquals("attr", viewTwo.lookupBranch("child").lookup("array").getAttributes().get(ATTRIBUTE).getValue());
+	}
+}
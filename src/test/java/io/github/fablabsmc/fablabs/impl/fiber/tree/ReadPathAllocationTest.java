@@ -0,0 +1,99 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.AnnotatedSettings;
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.FiberException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.FiberQueryException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigQuery;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.PropertyMirror;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Allocation budgets of the hot read paths, which are expected to be called every tick.
+ */
+class ReadPathAllocationTest {
+	private ConfigBranch tree;
+
+	@BeforeEach
+	void setup() {
+		assumeTrue(AllocationMeter.isSupported(), "Thread allocation measurement is not supported");
+		assumeTrue(AllocationMeter.isOptimizingJitAvailable(), "Allocation budgets require the optimizing JIT compiler");
+		this.tree = ConfigTree.builder()
+				.fork("client")
+					.fork("gui")
+						.withValue("scale", ConfigTypes.INTEGER, 2)
+						.withValue("theme", ConfigTypes.STRING, "dark")
+						.withValue("weights", ConfigTypes.makeList(ConfigTypes.INTEGER), Arrays.asList(1, 2, 3))
+						.finishBranch()
+					.finishBranch()
+				.build();
+	}
+
+	@Test
+	@DisplayName("ConfigLeafImpl#getValue")
+	void testLeafGetValue() throws FiberQueryException {
+		ConfigLeaf<BigDecimal> leaf = ConfigQuery.leaf(ConfigTypes.INTEGER.getSerializedType(), "client", "gui", "scale").run(this.tree);
+		assertEquals(0, AllocationMeter.bytesPerOperation(leaf::getValue));
+	}
+
+	@Test
+	@DisplayName("PropertyMirrorImpl#getValue")
+	void testMirrorGetValue() throws FiberQueryException {
+		ConfigBranch gui = ConfigQuery.branch("client", "gui").run(this.tree);
+		PropertyMirror<Integer> scale = PropertyMirror.create(ConfigTypes.INTEGER);
+		PropertyMirror<List<Integer>> weights = PropertyMirror.create(ConfigTypes.makeList(ConfigTypes.INTEGER));
+		assertTrue(gui.lookupAndBind("scale", scale));
+		assertTrue(gui.lookupAndBind("weights", weights));
+		// converted values are cached until the mirrored value changes
+		assertEquals(0, AllocationMeter.bytesPerOperation(scale::getValue));
+		assertEquals(0, AllocationMeter.bytesPerOperation(weights::getValue));
+	}
+
+	@Test
+	@DisplayName("BackedConfigLeaf#getValue")
+	void testBackedLeafGetValue() throws FiberException {
+		Pojo pojo = new Pojo();
+		ConfigBranch settings = AnnotatedSettings.DEFAULT_SETTINGS.makeTree(pojo);
+		ConfigLeaf<BigDecimal> scale = settings.lookupLeaf("scale", ConfigTypes.INTEGER.getSerializedType());
+		ConfigLeaf<String> theme = settings.lookupLeaf("theme", ConfigTypes.STRING.getSerializedType());
+		assertTrue(scale != null && theme != null);
+		// reading an int field boxes it, and 300 is outside of the Integer cache
+		double scaleBytes = AllocationMeter.bytesPerOperation(scale::getValue);
+		assertTrue(scaleBytes <= 16, "BackedConfigLeaf#getValue allocated " + scaleBytes + " bytes per call");
+		assertEquals(0, AllocationMeter.bytesPerOperation(theme::getValue));
+	}
+
+	@Test
+	@DisplayName("ConfigQuery lookups")
+	void testQuery() {
+		ConfigQuery<ConfigLeaf<String>> query = ConfigQuery.leaf(ConfigTypes.STRING.getSerializedType(), "client", "gui", "theme");
+		assertEquals(0, AllocationMeter.bytesPerOperation(() -> {
+			try {
+				return query.run(this.tree);
+			} catch (FiberQueryException e) {
+				throw new AssertionError(e);
+			}
+		}));
+		// at most the returned Optional
+		double searchBytes = AllocationMeter.bytesPerOperation(() -> query.search(this.tree));
+		assertTrue(searchBytes <= 24, "ConfigQuery#search allocated " + searchBytes + " bytes per call");
+	}
+
+	private static class Pojo {
+		private int scale = 300;
+		private String theme = "dark";
+	}
+}
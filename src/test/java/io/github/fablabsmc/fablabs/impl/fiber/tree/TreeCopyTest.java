@@ -0,0 +1,72 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.FiberId;
+import io.github.fablabsmc.fablabs.api.fiber.v1.NodeOperations;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TreeCopyTest {
+	private static final FiberId ATTRIBUTE = new FiberId("fiber", "test");
+
+	@Test
+	@DisplayName("Copies share immutable parts only")
+	void copy() {
+		List<Object> changes = new ArrayList<>();
+		ConfigBranch tree = ConfigTree.builder()
+				.withComment("root")
+				.fork("child")
+				.beginValue("A", ConfigTypes.INTEGER, 10)
+				.withComment("a comment")
+				.withAttribute(ATTRIBUTE, ConfigTypes.STRING.getSerializedType(), "attr")
+				.withListener((o, n) -> changes.add(n))
+				.finishValue()
+				.withValue("B", ConfigTypes.makeList(ConfigTypes.STRING), Arrays.asList("x", "y"))
+				.withValue("C", ConfigTypes.PACKED_INT_ARRAY, new int[] {1, 2})
+				.finishBranch()
+				.build();
+		ConfigLeaf<BigDecimal> original = tree.lookupBranch("child").lookupLeaf("A", ConfigTypes.INTEGER.getSerializedType());
+		changes.clear();
+
+		ConfigBranch copy = tree.copy();
+		ConfigLeaf<BigDecimal> copied = copy.lookupBranch("child").lookupLeaf("A", ConfigTypes.INTEGER.getSerializedType());
+		assertNull(copy.getParent());
+		assertEquals("root", copy.getComment());
+		assertNotSame(original, copied);
+		assertSame(original.getConfigType(), copied.getConfigType());
+		assertSame(original.getValue(), copied.getValue());
+		assertSame(original.getComment(), copied.getComment());
+		List<?> list = (List<?>) ((ConfigLeaf<?>) tree.lookupBranch("child").lookup("B")).getValue();
+		List<?> copiedList = (List<?>) ((ConfigLeaf<?>) copy.lookupBranch("child").lookup("B")).getValue();
+		assertSame(list, copiedList, "Unmodifiable lists are shared");
+		int[] array = (int[]) ((ConfigLeaf<?>) tree.lookupBranch("child").lookup("C")).getValue();
+		int[] copiedArray = (int[]) ((ConfigLeaf<?>) copy.lookupBranch("child").lookup("C")).getValue();
+		assertNotSame(array, copiedArray, "Mutable values are copied");
+		assertArrayEquals(array, copiedArray);
+		assertEquals(NodeOperations.contentHash(tree), NodeOperations.contentHash(copy));
+		assertTrue(NodeOperations.diff(tree, copy).isEmpty());
+
+		copied.setValue(BigDecimal.ONE);
+		copied.getOrCreateAttribute(ATTRIBUTE, ConfigTypes.STRING.getSerializedType(), null).setValue("changed");
+		assertEquals(BigDecimal.TEN, original.getValue(), "Copies are independent");
+		assertEquals("attr", original.getAttributes().get(ATTRIBUTE).getValue());
+		assertTrue(changes.isEmpty(), "Copies do not notify the original listeners");
+		assertEquals(NodeOperations.contentHash(tree.copy()), NodeOperations.contentHash(tree));
+		assertEquals(1, NodeOperations.diff(tree, copy).size());
+	}
+}
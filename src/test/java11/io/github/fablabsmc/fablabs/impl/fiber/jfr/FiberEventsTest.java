@@ -0,0 +1,78 @@
+package io.github.fablabsmc.fablabs.impl.fiber.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FiberEventsTest {
+	private static final String VIOLATION = "io.github.fablabsmc.fiber.ConstraintViolation";
+	private static final String LISTENER = "io.github.fablabsmc.fiber.ListenerInvocation";
+	private static final String SAVE = "io.github.fablabsmc.fiber.ConfigSave";
+
+	private static ConfigLeaf<BigDecimal> createLeaf() {
+		ConfigBranch tree = ConfigTree.builder()
+				.fork("group")
+				.withValue("a", ConfigTypes.INTEGER.withValidRange(0, 10, 1), 5)
+				.finishBranch()
+				.build();
+		return tree.lookupBranch("group").lookupLeaf("a", ConfigTypes.INTEGER.getSerializedType());
+	}
+
+	@Test
+	@DisplayName("Disabled events")
+	void testDisabled() {
+		assertNull(FiberEvents.beginLoad(), "Events are not created outside of recordings");
+		assertNull(FiberEvents.beginListener());
+	}
+
+	@Test
+	@DisplayName("Recorded events")
+	void testRecorded() throws IOException {
+		ConfigLeaf<BigDecimal> leaf = createLeaf();
+		Path file = Files.createTempFile("fiber", ".jfr");
+
+		try {
+			try (Recording recording = new Recording()) {
+				recording.enable(VIOLATION);
+				recording.enable(LISTENER).withThreshold(Duration.ZERO);
+				recording.disable(SAVE);
+				recording.start();
+				assertNotNull(FiberEvents.beginListener());
+				assertNull(FiberEvents.beginSave(), "Only enabled events are created");
+				assertTrue(leaf.setValue(BigDecimal.valueOf(50)));
+				assertTrue(leaf.setValue(BigDecimal.valueOf(3)));
+				recording.stop();
+				recording.dump(file);
+			}
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+			List<RecordedEvent> violations = events.stream().filter(e -> e.getEventType().getName().equals(VIOLATION)).collect(Collectors.toList());
+			assertEquals(1, violations.size(), "Only invalid values are reported");
+			assertEquals("group.a", violations.get(0).getString("leaf"));
+			assertEquals("50", violations.get(0).getString("value"));
+			assertTrue(violations.get(0).getBoolean("corrected"));
+			assertEquals(2, events.stream().filter(e -> e.getEventType().getName().equals(LISTENER)).count(), "One listener event per change");
+		} finally {
+			Files.delete(file);
+		}
+	}
+}